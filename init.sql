@@ -1,4 +1,7 @@
 -- init.sql
+-- First-boot schema for the Docker database. The application also applies the
+-- versioned scripts in src/main/resources/db/migration at startup, so new
+-- schema changes belong there.
 
 -- Create users table
 CREATE TABLE IF NOT EXISTS users (
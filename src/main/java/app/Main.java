@@ -9,7 +9,14 @@ import javax.swing.UIManager;
 
 import javafx.application.Platform;
 import javafx.embed.swing.JFXPanel;
+import controller.CategorySuggestionService;
+import controller.LeaderboardService;
+import controller.QuestController;
+import database.DatabaseManager;
+import database.dao.DailyTotalsDaoImpl;
+import events.EventBus;
 import view.LoginScreen;
+import view.UiTaskExecutor;
 //import database.DatabaseUpdater;
 
 /**
@@ -23,9 +30,14 @@ public class Main {
      * Sets up the UI look and feel, updates the database if needed,
      * and launches the login screen.
      * 
-     * @param args Command line arguments (not used)
+     * @param args Command line arguments; {@code --rebuild-rollups} regenerates
+     *             the daily_user_totals rollup from raw transactions and exits
      */
     public static void main(String[] args) throws SQLException {
+        if (args.length > 0 && args[0].equals("--rebuild-rollups")) {
+            rebuildRollups();
+            return;
+        }
 
         try {
             // Initialize JavaFX toolkit properly
@@ -41,8 +53,37 @@ public class Main {
             e.printStackTrace();
         }
 
+        // Bring the database schema up to date once, before any screen opens
+        try {
+            DatabaseManager.migrate();
+        } catch (SQLException e) {
+            System.err.println("Database migration failed: " + e.getMessage());
+        }
         
+        // Quest progress follows domain events rather than a polling timer
+        QuestController.registerEventHandlers(EventBus.getInstance());
+        // The in-memory leaderboard follows XP awards
+        LeaderboardService.registerEventHandlers(EventBus.getInstance());
+        // Category suggestions learn from the categories users pick
+        CategorySuggestionService.registerEventHandlers(EventBus.getInstance());
+
+        // Report how long screen loads ran and held the EDT when the app exits
+        Runtime.getRuntime().addShutdownHook(new Thread(
+                () -> System.out.println(UiTaskExecutor.getInstance().report()), "ui-task-report"));
+
         // Launch login screen
         SwingUtilities.invokeLater(() -> new LoginScreen());
     }
+
+    /**
+     * Regenerates the daily spending rollup, e.g. after rows were edited outside the app.
+     */
+    private static void rebuildRollups() throws SQLException {
+        DatabaseManager.migrate();
+        long start = System.currentTimeMillis();
+        int rows = new DailyTotalsDaoImpl().rebuild();
+        System.out.println("Rebuilt daily_user_totals: " + rows + " rows in "
+                + (System.currentTimeMillis() - start) + " ms");
+        DatabaseManager.shutdown();
+    }
 } 
\ No newline at end of file
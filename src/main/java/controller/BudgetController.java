@@ -1,69 +1,56 @@
 package controller;
 
-import database.dao.TransactionDao;
-import database.dao.TransactionDaoImpl;
+import database.dao.DailyTotalsDao;
+import database.dao.DailyTotalsDaoImpl;
 import model.Budget;
-import model.Transaction;
+import model.Money;
 import utils.EmailNotifier;
 
 import java.sql.SQLException;
 import java.time.LocalDate;
-import java.util.List;
 
 public class BudgetController {
     private Budget budget;
     private int userId;
-    private TransactionDao transactionDao;
+    // Budget checks read the trigger-maintained rollup, which is current whichever code path wrote
+    private DailyTotalsDao dailyTotalsDao;
 
     public BudgetController(int userId, Budget budget) {
         this.userId = userId;
         this.budget = budget;
-        this.transactionDao = new TransactionDaoImpl();
+        this.dailyTotalsDao = new DailyTotalsDaoImpl();
     }
 
     public double getMonthlySpending() throws SQLException {
-        List<Transaction> transactions = transactionDao.getTransactionsByUserId(userId);
-        LocalDate now = LocalDate.now();
-        LocalDate start = now.withDayOfMonth(1);
-        LocalDate end = start.plusMonths(1);
-        double total = 0.0;
-        for (Transaction t : transactions) {
-            if (!t.isIncome() && !t.getDate().isBefore(start) && t.getDate().isBefore(end)) {
-                total += t.getAmount();
-            }
-        }
-        return total;
+        return Money.toDouble(getMonthlySpendingCents());
     }
 
     public double getWeeklySpending() throws SQLException {
-        List<Transaction> transactions = transactionDao.getTransactionsByUserId(userId);
+        return Money.toDouble(getWeeklySpendingCents());
+    }
+
+    private long getMonthlySpendingCents() throws SQLException {
+        LocalDate start = LocalDate.now().withDayOfMonth(1);
+        return dailyTotalsDao.getExpenseCentsBetween(userId, start, start.plusMonths(1));
+    }
+
+    private long getWeeklySpendingCents() throws SQLException {
         LocalDate now = LocalDate.now();
         LocalDate start = now.minusDays(now.getDayOfWeek().getValue() - 1);
-        LocalDate end = start.plusWeeks(1);
-        double total = 0.0;
-        for (Transaction t : transactions) {
-            if (!t.isIncome() && !t.getDate().isBefore(start) && t.getDate().isBefore(end)) {
-                total += t.getAmount();
-            }
-        }
-        return total;
+        return dailyTotalsDao.getExpenseCentsBetween(userId, start, start.plusWeeks(1));
     }
 
-    // A static helper method that computes the balance using transactions.
+    // A static helper method that computes the balance from the daily totals.
     public static double getCurrentBalance(int userId) throws SQLException {
-        TransactionDao transactionDao = new TransactionDaoImpl();
-        List<Transaction> transactions = transactionDao.getTransactionsByUserId(userId);
-        double incomeTotal = transactions.stream().filter(Transaction::isIncome).mapToDouble(Transaction::getAmount).sum();
-        double expenseTotal = transactions.stream().filter(t -> !t.isIncome()).mapToDouble(Transaction::getAmount).sum();
-        return incomeTotal - expenseTotal;
+        return Money.toDouble(new DailyTotalsDaoImpl().getBalanceCents(userId));
     }
 
     public boolean isOverWeeklyBudget() throws SQLException {
-        return getWeeklySpending() > budget.getWeeklyLimit();
+        return getWeeklySpendingCents() > budget.getWeeklyLimitCents();
     }
 
     public boolean isOverMonthlyBudget() throws SQLException {
-        return getMonthlySpending() > budget.getMonthlyLimit();
+        return getMonthlySpendingCents() > budget.getMonthlyLimitCents();
     }
 
     public void checkBudgetAndNotify(String recipientEmail, String username) throws SQLException {
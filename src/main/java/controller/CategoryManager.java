@@ -10,6 +10,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import model.TransactionCategorizer;
+
 /**
  * Manages categories across the application.
  * This class follows the Singleton pattern.
@@ -23,6 +25,9 @@ public class CategoryManager {
     private final Set<String> allCategories = new HashSet<>();
     private final List<CategoryChangeListener> listeners = new ArrayList<>();
     private final Map<String, CategoryIcon> categoryIcons = new HashMap<>();
+    // User keyword rules, newest first; they take precedence over the built-in ones
+    private final List<TransactionCategorizer.Rule> customRules = new ArrayList<>();
+    private volatile TransactionCategorizer categorizer = TransactionCategorizer.defaults();
 
     public interface CategoryChangeListener {
         void onCategoriesChanged(List<String> categories);
@@ -161,6 +166,52 @@ public class CategoryManager {
         }
     }
 
+    /**
+     * Categorizes descriptions containing the keyword (ignoring case) as the
+     * given category. Newer rules win over older ones and over the built-in
+     * rules; adding a keyword again replaces its previous rule.
+     *
+     * Rules are kept in memory for the running session only; no screen
+     * edits them yet and they are not saved.
+     */
+    public synchronized void addCategoryRule(String keyword, String category) {
+        TransactionCategorizer.Rule rule = new TransactionCategorizer.Rule(keyword, category);
+        removeRule(keyword);
+        customRules.add(0, rule);
+        categorizer = compileRules();
+        addCategory(category);
+    }
+
+    public synchronized boolean removeCategoryRule(String keyword) {
+        if (!removeRule(keyword)) {
+            return false;
+        }
+        categorizer = compileRules();
+        return true;
+    }
+
+    public synchronized List<TransactionCategorizer.Rule> getCategoryRules() {
+        return new ArrayList<>(customRules);
+    }
+
+    /**
+     * Returns the compiled user and built-in rules. The result is immutable,
+     * so callers can hold on to it for a whole import.
+     */
+    public TransactionCategorizer getCategorizer() {
+        return categorizer;
+    }
+
+    private boolean removeRule(String keyword) {
+        return customRules.removeIf(rule -> rule.getKeyword().equalsIgnoreCase(keyword));
+    }
+
+    private TransactionCategorizer compileRules() {
+        List<TransactionCategorizer.Rule> rules = new ArrayList<>(customRules);
+        rules.addAll(TransactionCategorizer.getDefaultRules());
+        return new TransactionCategorizer(rules);
+    }
+
     private void notifyListeners() {
         List<String> sortedCategories = getAllCategories();
         for (CategoryChangeListener listener : listeners) {
@@ -0,0 +1,101 @@
+package controller;
+
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import database.dao.TransactionDao;
+import database.dao.TransactionDaoImpl;
+import events.EventBus;
+import events.TransactionCategorized;
+import model.CategoryModel;
+import model.TransactionCategorizer;
+
+/**
+ * Suggests categories from what each user has categorized before. A user's
+ * model is trained from their stored transactions on first use and then
+ * kept current from TransactionCategorized events.
+ */
+public class CategorySuggestionService {
+    private static final CategorySuggestionService INSTANCE = new CategorySuggestionService(new TransactionDaoImpl());
+    private static final AtomicBoolean eventHandlersRegistered = new AtomicBoolean();
+
+    private final TransactionDao transactionDao;
+    private final Map<Integer, CategoryModel> models = new ConcurrentHashMap<>();
+
+    public CategorySuggestionService(TransactionDao transactionDao) {
+        this.transactionDao = transactionDao;
+    }
+
+    public static CategorySuggestionService getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Subscribes the shared service to category changes. Safe to call more than once.
+     */
+    public static void registerEventHandlers(EventBus bus) {
+        if (!eventHandlersRegistered.compareAndSet(false, true)) {
+            return;
+        }
+        INSTANCE.subscribe(bus);
+    }
+
+    public EventBus.Subscription subscribe(EventBus bus) {
+        return bus.subscribe(TransactionCategorized.class, this::onTransactionCategorized);
+    }
+
+    /**
+     * @return the category the user would most likely pick, or null if there
+     *         is nothing to go on
+     */
+    public String suggest(int userId, String description) throws SQLException {
+        return modelFor(userId).suggest(description);
+    }
+
+    /**
+     * Returns the user's model, training it from the database the first time.
+     */
+    public CategoryModel modelFor(int userId) throws SQLException {
+        CategoryModel model = models.get(userId);
+        if (model != null) {
+            return model;
+        }
+        CategoryModel trained = new CategoryModel();
+        transactionDao.forEachTransaction(userId, transaction -> {
+            if (isLearnable(transaction.getCategory())) {
+                trained.learn(transaction.getDescription(), transaction.getCategory());
+            }
+        });
+        model = models.putIfAbsent(userId, trained);
+        return model != null ? model : trained;
+    }
+
+    /**
+     * Drops the user's model, e.g. on logout.
+     */
+    public void forget(int userId) {
+        models.remove(userId);
+    }
+
+    private void onTransactionCategorized(TransactionCategorized event) {
+        CategoryModel model = models.get(event.getUserId());
+        if (model == null) {
+            // Not trained yet; the change is picked up from the database when it is
+            return;
+        }
+        if (isLearnable(event.getPreviousCategory())) {
+            model.unlearn(event.getDescription(), event.getPreviousCategory());
+        }
+        if (isLearnable(event.getCategory())) {
+            model.learn(event.getDescription(), event.getCategory());
+        }
+    }
+
+    // "Other" is what rows get when nobody chose, so it teaches nothing
+    private static boolean isLearnable(String category) {
+        return category != null && !category.trim().isEmpty()
+                && !category.equalsIgnoreCase(TransactionCategorizer.DEFAULT_CATEGORY);
+    }
+}
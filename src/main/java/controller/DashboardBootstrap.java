@@ -0,0 +1,284 @@
+package controller;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import database.TransactionCache;
+import database.dao.AsyncDao;
+import database.dao.ExperienceDao;
+import database.dao.ExperienceDaoImpl;
+import database.dao.GoalDao;
+import database.dao.GoalDaoImpl;
+import database.dao.QuestDao;
+import database.dao.QuestDaoImpl;
+import database.dao.TransactionDao;
+import database.dao.TransactionDaoImpl;
+import database.dao.TransactionPage;
+import events.DashboardReady;
+import events.DomainEvent;
+import events.EventBus;
+import model.Goal;
+import model.Quest;
+import model.TransactionColumns;
+
+/**
+ * Prefetches what the first screens show after login, in parallel, while
+ * the main window is still being built: the newest transactions, the
+ * balance and this month's totals, the user's goals, XP/level and daily
+ * quests.
+ *
+ * Each part is handed out once, to the first screen that asks for it; a
+ * screen that gets null loads from the database as before. Parts nobody
+ * took are dropped as soon as the user's data changes. A
+ * {@link DashboardReady} event is published when every part has arrived,
+ * and the startup breakdown is printed once the dashboard has painted.
+ * {@link #close} forgets the user's prefetch and report on logout.
+ */
+public class DashboardBootstrap {
+    // Size of the first transaction page the dashboard shows
+    public static final int RECENT_TRANSACTIONS = 50;
+
+    private static final Map<Integer, DashboardBootstrap> ACTIVE = new ConcurrentHashMap<>();
+
+    private final int userId;
+    private final long startNanos = System.nanoTime();
+    private final Report report = new Report();
+    private final List<Part<?>> parts = new ArrayList<>();
+    private final Part<TransactionPage> recentTransactions;
+    private final Part<Totals> totals;
+    private final Part<List<Goal>> goals;
+    private final Part<int[]> experience;
+    private final Part<List<Quest>> dailyQuests;
+    private volatile EventBus.Subscription changes;
+
+    /**
+     * Balance and this month's income and expense, in cents.
+     */
+    public static class Totals {
+        private final long balanceCents;
+        private final long monthIncomeCents;
+        private final long monthExpenseCents;
+
+        Totals(long balanceCents, long monthIncomeCents, long monthExpenseCents) {
+            this.balanceCents = balanceCents;
+            this.monthIncomeCents = monthIncomeCents;
+            this.monthExpenseCents = monthExpenseCents;
+        }
+
+        public long getBalanceCents() {
+            return balanceCents;
+        }
+
+        public long getMonthIncomeCents() {
+            return monthIncomeCents;
+        }
+
+        public long getMonthExpenseCents() {
+            return monthExpenseCents;
+        }
+    }
+
+    /**
+     * Where the time between login and the first usable dashboard went.
+     * Prefetch steps report their own duration; milestones report the time
+     * since login.
+     */
+    public static class Report {
+        private final Map<String, Long> steps = Collections.synchronizedMap(new LinkedHashMap<>());
+
+        void record(String step, long millis) {
+            steps.put(step, millis);
+        }
+
+        public Map<String, Long> getSteps() {
+            synchronized (steps) {
+                return new LinkedHashMap<>(steps);
+            }
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder("Startup after login:");
+            getSteps().forEach((step, millis) ->
+                    sb.append(System.lineSeparator()).append(String.format("  %-32s %6d ms", step, millis)));
+            return sb.toString();
+        }
+    }
+
+    // One prefetched value, handed out at most once. The load already holds an
+    // AsyncDao permit, so it calls the DAO directly rather than through AsyncDao.
+    private class Part<T> {
+        private final String name;
+        private final AtomicReference<CompletableFuture<T>> future;
+
+        Part(String name, AsyncDao.SqlCallable<T> load) {
+            this.name = name;
+            this.future = new AtomicReference<>(AsyncDao.call(() -> {
+                long start = System.nanoTime();
+                T value = load.call();
+                report.record(name, (System.nanoTime() - start) / 1_000_000);
+                return value;
+            }));
+            parts.add(this);
+        }
+
+        T take() {
+            CompletableFuture<T> pending = future.getAndSet(null);
+            if (pending == null) {
+                return null;
+            }
+            try {
+                return AsyncDao.await(pending);
+            } catch (SQLException | RuntimeException e) {
+                // The screen falls back to its own query and reports the error there
+                System.out.println("Prefetch of " + name + " failed: " + e.getMessage());
+                return null;
+            }
+        }
+
+        void drop() {
+            future.set(null);
+        }
+
+        CompletableFuture<T> pending() {
+            CompletableFuture<T> pending = future.get();
+            return pending != null ? pending : CompletableFuture.completedFuture(null);
+        }
+    }
+
+    private DashboardBootstrap(int userId, TransactionDao transactionDao, GoalDao goalDao,
+                               ExperienceDao experienceDao, QuestDao questDao, TransactionCache cache) {
+        this.userId = userId;
+        recentTransactions = new Part<>("recent transactions",
+                () -> transactionDao.getTransactionsPage(userId, null, RECENT_TRANSACTIONS));
+        totals = new Part<>("balance and month totals", () -> {
+            TransactionColumns columns = cache.columnsFor(userId);
+            LocalDate monthStart = LocalDate.now().withDayOfMonth(1);
+            return new Totals(columns.balanceCents(),
+                    columns.sumCents(true, monthStart, monthStart.plusMonths(1)),
+                    columns.sumCents(false, monthStart, monthStart.plusMonths(1)));
+        });
+        goals = new Part<>("goals", () -> goalDao.getGoalsByUserId(userId));
+        experience = new Part<>("xp and level", () -> experienceDao.getUserExperience(userId));
+        dailyQuests = new Part<>("daily quests", () -> questDao.getDailyQuestsByUserId(userId));
+    }
+
+    /**
+     * Starts prefetching for a user who just logged in. Returns immediately.
+     */
+    public static DashboardBootstrap start(int userId) {
+        return start(userId, new TransactionDaoImpl(), new GoalDaoImpl(), new ExperienceDaoImpl(),
+                new QuestDaoImpl(), TransactionCache.getInstance());
+    }
+
+    /**
+     * Starts prefetching from the given DAOs and transaction cache.
+     */
+    public static DashboardBootstrap start(int userId, TransactionDao transactionDao, GoalDao goalDao,
+                                           ExperienceDao experienceDao, QuestDao questDao,
+                                           TransactionCache cache) {
+        DashboardBootstrap bootstrap = new DashboardBootstrap(userId, transactionDao, goalDao,
+                experienceDao, questDao, cache);
+        DashboardBootstrap previous = ACTIVE.put(userId, bootstrap);
+        if (previous != null) {
+            previous.dropAll();
+        }
+        // Anything that changes the user's data makes the unused parts stale
+        bootstrap.changes = EventBus.getInstance().subscribe(DomainEvent.class, event -> {
+            if (event.getUserId() == userId && !(event instanceof DashboardReady)) {
+                bootstrap.dropAll();
+            }
+        });
+        CompletableFuture.allOf(bootstrap.parts.stream().map(Part::pending).toArray(CompletableFuture[]::new))
+                .whenComplete((ignored, error) -> {
+                    long millis = bootstrap.millisSinceLogin();
+                    bootstrap.report.record("data ready", millis);
+                    EventBus.getInstance().publish(new DashboardReady(userId, millis));
+                });
+        return bootstrap;
+    }
+
+    public static TransactionPage takeRecentTransactions(int userId) {
+        DashboardBootstrap bootstrap = ACTIVE.get(userId);
+        return bootstrap != null ? bootstrap.recentTransactions.take() : null;
+    }
+
+    public static Totals takeTotals(int userId) {
+        DashboardBootstrap bootstrap = ACTIVE.get(userId);
+        return bootstrap != null ? bootstrap.totals.take() : null;
+    }
+
+    public static List<Goal> takeGoals(int userId) {
+        DashboardBootstrap bootstrap = ACTIVE.get(userId);
+        return bootstrap != null ? bootstrap.goals.take() : null;
+    }
+
+    public static int[] takeExperience(int userId) {
+        DashboardBootstrap bootstrap = ACTIVE.get(userId);
+        return bootstrap != null ? bootstrap.experience.take() : null;
+    }
+
+    public static List<Quest> takeDailyQuests(int userId) {
+        DashboardBootstrap bootstrap = ACTIVE.get(userId);
+        return bootstrap != null ? bootstrap.dailyQuests.take() : null;
+    }
+
+    /**
+     * Called once the main window has been constructed.
+     */
+    public static void frameBuilt(int userId) {
+        DashboardBootstrap bootstrap = ACTIVE.get(userId);
+        if (bootstrap != null) {
+            bootstrap.report.record("frame built", bootstrap.millisSinceLogin());
+        }
+    }
+
+    /**
+     * Called once the dashboard shows real data; records the final
+     * milestone and prints the breakdown.
+     */
+    public static void firstFrameShown(int userId) {
+        DashboardBootstrap bootstrap = ACTIVE.get(userId);
+        if (bootstrap != null && !bootstrap.report.steps.containsKey("first interactive frame")) {
+            bootstrap.report.record("first interactive frame", bootstrap.millisSinceLogin());
+            System.out.println(bootstrap.report);
+        }
+    }
+
+    /**
+     * Drops the user's prefetch and report, e.g. on logout.
+     */
+    public static void close(int userId) {
+        DashboardBootstrap bootstrap = ACTIVE.remove(userId);
+        if (bootstrap != null) {
+            bootstrap.dropAll();
+        }
+    }
+
+    public static Report getReport(int userId) {
+        DashboardBootstrap bootstrap = ACTIVE.get(userId);
+        return bootstrap != null ? bootstrap.report : null;
+    }
+
+    private void dropAll() {
+        for (Part<?> part : parts) {
+            part.drop();
+        }
+        EventBus.Subscription subscription = changes;
+        if (subscription != null) {
+            subscription.close();
+        }
+    }
+
+    private long millisSinceLogin() {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+}
@@ -1,11 +1,12 @@
 package controller;
 
+import database.dao.DailyTotalsDao;
+import database.dao.DailyTotalsDaoImpl;
 import database.dao.GoalDao;
 import database.dao.GoalDaoImpl;
-import database.dao.TransactionDao;
-import database.dao.TransactionDaoImpl;
+import events.EventBus;
+import events.GoalUpdated;
 import model.Goal;
-import model.Transaction;
 
 import java.sql.SQLException;
 import java.time.LocalDate;
@@ -14,22 +15,28 @@ import java.util.Date;
 
 public class GoalController {
     private GoalDao goalDao;
-    private TransactionDao transactionDao;
+    private DailyTotalsDao dailyTotalsDao;
 
     public GoalController() {
         this.goalDao = new GoalDaoImpl();
-        this.transactionDao = new TransactionDaoImpl();
+        this.dailyTotalsDao = new DailyTotalsDaoImpl();
     }
 
     public int createGoal(Goal goal) throws SQLException {
         if (isDuplicateGoalName(goal.getUserId(), goal.getTitle())) {
             throw new IllegalArgumentException("A goal with the same name already exists for this user.");
         }
-        return goalDao.createGoal(goal);
+        int goalId = goalDao.createGoal(goal);
+        EventBus.getInstance().publish(new GoalUpdated(goal.getUserId(), goalId));
+        return goalId;
     }
 
     public boolean updateGoal(Goal goal) throws SQLException {
-        return goalDao.updateGoal(goal);
+        boolean updated = goalDao.updateGoal(goal);
+        if (updated) {
+            EventBus.getInstance().publish(new GoalUpdated(goal.getUserId(), goal.getId()));
+        }
+        return updated;
     }
 
     public boolean deleteGoal(int goalId) throws SQLException {
@@ -53,19 +60,12 @@ public class GoalController {
         if (goal == null) {
             return false;
         }
-        List<Transaction> transactions = transactionDao.getTransactionsByUserId(goal.getUserId());
-        double totalSavings = 0.0;
-        for (Transaction transaction : transactions) {
-            LocalDate txDate = transaction.getDate();
-            LocalDate start = convertToLocalDate(goal.getStartDate());
-            LocalDate end = convertToLocalDate(goal.getTargetDate());
-            if (transaction.getCategory().equals(goal.getCategory()) &&
-                    (!txDate.isBefore(start)) && (!txDate.isAfter(end)) &&
-                    transaction.isIncome()) {
-                totalSavings += transaction.getAmount();
-            }
-        }
-        goal.setCurrentAmount(totalSavings);
+        LocalDate start = convertToLocalDate(goal.getStartDate());
+        LocalDate end = convertToLocalDate(goal.getTargetDate());
+        // Income in the goal's category between start and target date, inclusive
+        long totalSavings = dailyTotalsDao.getIncomeCentsBetween(goal.getUserId(), goal.getCategory(),
+                start, end.plusDays(1));
+        goal.setCurrentAmountCents(totalSavings);
         return updateGoal(goal);
     }
 
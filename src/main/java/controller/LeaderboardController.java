@@ -1,7 +1,5 @@
 package controller;
 
-import database.dao.LeaderboardDao;
-import database.dao.LeaderboardDaoImpl;
 import model.LeaderboardEntry;
 
 import java.sql.SQLException;
@@ -16,7 +14,28 @@ public class LeaderboardController {
 
     // Retrieve the leaderboard entries, sorted by level (and XP)
     public List<LeaderboardEntry> getLeaderboard() throws SQLException {
-        LeaderboardDao leaderboardDao = new LeaderboardDaoImpl();
-        return leaderboardDao.fetchLeaderboard();
+        LeaderboardService service = LeaderboardService.getInstance();
+        service.warm();
+        return service.getTop(service.size());
+    }
+
+    // Retrieve the k highest-ranked users
+    public List<LeaderboardEntry> getTop(int k) throws SQLException {
+        return LeaderboardService.getInstance().getTop(k);
+    }
+
+    // Retrieve the page that follows the given entry (null for the first page)
+    public List<LeaderboardEntry> getPageAfter(LeaderboardEntry after, int limit) throws SQLException {
+        return LeaderboardService.getInstance().getPageAfter(after, limit);
+    }
+
+    // The current user's rank, or 0 if they have no XP yet
+    public int getUserRank() throws SQLException {
+        return LeaderboardService.getInstance().getRank(userId);
+    }
+
+    // The current user's entry with up to radius neighbours on each side
+    public List<LeaderboardEntry> getAroundUser(int radius) throws SQLException {
+        return LeaderboardService.getInstance().getAround(userId, radius);
     }
 }
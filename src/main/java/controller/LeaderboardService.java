@@ -0,0 +1,176 @@
+package controller;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import database.dao.LeaderboardDao;
+import database.dao.LeaderboardDaoImpl;
+import events.EventBus;
+import events.XpAwarded;
+import model.Leaderboard;
+import model.LeaderboardEntry;
+
+/**
+ * Keeps the ranked leaderboard in memory. It is loaded from the database once,
+ * in the background on first use, and then kept current from XpAwarded
+ * events, so reads stop going back to Postgres.
+ */
+public class LeaderboardService {
+    private static final LeaderboardService INSTANCE = new LeaderboardService(new LeaderboardDaoImpl());
+    private static final AtomicBoolean eventHandlersRegistered = new AtomicBoolean();
+
+    private final LeaderboardDao leaderboardDao;
+    private final Leaderboard leaderboard = new Leaderboard();
+    private final AtomicBoolean warmStarted = new AtomicBoolean();
+    private volatile boolean warmed;
+
+    public LeaderboardService(LeaderboardDao leaderboardDao) {
+        this.leaderboardDao = leaderboardDao;
+    }
+
+    public static LeaderboardService getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Subscribes the shared service to XP awards. Safe to call more than once.
+     */
+    public static void registerEventHandlers(EventBus bus) {
+        if (!eventHandlersRegistered.compareAndSet(false, true)) {
+            return;
+        }
+        INSTANCE.subscribe(bus);
+    }
+
+    /**
+     * Keeps this service current from the XP awards published on the bus.
+     */
+    public EventBus.Subscription subscribe(EventBus bus) {
+        return bus.subscribe(XpAwarded.class, this::onXpAwarded);
+    }
+
+    public List<LeaderboardEntry> getTop(int k) throws SQLException {
+        if (!isWarm()) {
+            return leaderboardDao.fetchTop(k);
+        }
+        return leaderboard.top(k);
+    }
+
+    /**
+     * Returns the page following the given entry.
+     * @param after last entry of the previous page, or null for the first page
+     */
+    public List<LeaderboardEntry> getPageAfter(LeaderboardEntry after, int limit) throws SQLException {
+        if (!isWarm()) {
+            return leaderboardDao.fetchPage(after, limit);
+        }
+        return leaderboard.page(after == null ? 0 : after.getRank(), limit);
+    }
+
+    public List<LeaderboardEntry> getAround(int userId, int radius) throws SQLException {
+        if (!isWarm()) {
+            return leaderboardDao.fetchAroundUser(userId, radius);
+        }
+        return leaderboard.around(userId, radius);
+    }
+
+    /**
+     * @return 1-based rank of the user, or 0 if they have no XP yet
+     */
+    public int getRank(int userId) throws SQLException {
+        if (!isWarm()) {
+            List<LeaderboardEntry> self = leaderboardDao.fetchAroundUser(userId, 0);
+            return self.isEmpty() ? 0 : self.get(0).getRank();
+        }
+        return leaderboard.rank(userId);
+    }
+
+    /**
+     * Number of ranked users; loads the full ranking if it is not in memory yet.
+     */
+    public int size() throws SQLException {
+        warm();
+        return leaderboard.size();
+    }
+
+    /**
+     * Until the full ranking is in memory, reads go to the bounded
+     * LeaderboardDao queries and a background load is started once.
+     */
+    private boolean isWarm() {
+        if (warmed) {
+            return true;
+        }
+        if (warmStarted.compareAndSet(false, true)) {
+            Thread loader = new Thread(() -> {
+                try {
+                    warm();
+                } catch (SQLException e) {
+                    System.out.println("Error warming leaderboard: " + e.getMessage());
+                    warmStarted.set(false);
+                }
+            }, "leaderboard-warmup");
+            loader.setDaemon(true);
+            loader.start();
+        }
+        return false;
+    }
+
+    /**
+     * Loads every ranked user once; later calls return immediately.
+     * Normally started by the first read, but can be called to warm eagerly.
+     */
+    public void warm() throws SQLException {
+        if (warmed) {
+            return;
+        }
+        synchronized (this) {
+            if (warmed) {
+                return;
+            }
+            long start = System.nanoTime();
+            List<LeaderboardEntry> entries = leaderboardDao.fetchLeaderboard();
+            for (LeaderboardEntry entry : entries) {
+                leaderboard.put(entry.getUserId(), entry.getUserName(), entry.getLevel(), entry.getXp());
+            }
+            warmed = true;
+            System.out.println("Leaderboard warmed with " + entries.size() + " users in "
+                    + (System.nanoTime() - start) / 1_000_000 + " ms");
+        }
+    }
+
+    /**
+     * Moves the user to their new position. Uses the totals carried by the
+     * event when present, otherwise applies the award to the cached totals.
+     */
+    private synchronized void onXpAwarded(XpAwarded event) {
+        if (!warmed) {
+            // The first read loads current totals from the database anyway
+            return;
+        }
+        int userId = event.getUserId();
+        LeaderboardEntry current = leaderboard.get(userId);
+        try {
+            if (current == null) {
+                // First award for this user; read their name along with the totals
+                LeaderboardEntry entry = leaderboardDao.fetchEntry(userId);
+                if (entry != null) {
+                    leaderboard.put(userId, entry.getUserName(), entry.getLevel(), entry.getXp());
+                }
+            } else if (event.hasTotals()) {
+                leaderboard.put(userId, null, event.getLevel(), event.getCurrentXp());
+            } else {
+                int xp = current.getXp() + event.getAmount();
+                leaderboard.put(userId, null, levelForXp(xp), xp);
+            }
+        } catch (SQLException e) {
+            System.out.println("Error updating leaderboard for user " + userId + ": " + e.getMessage());
+        }
+    }
+
+    // Same formula ExperienceDaoImpl uses in SQL
+    private static int levelForXp(int xp) {
+        return (int) Math.floor(Math.sqrt(xp / 100.0));
+    }
+}
@@ -14,7 +14,14 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 
 import javax.swing.BorderFactory;
 import javax.swing.Box;
@@ -26,21 +33,34 @@ import javax.swing.JPanel;
 import javax.swing.SwingUtilities;
 
 import database.DatabaseManager;
-import database.dao.Budget;
-import database.dao.Budgetimpl;
 import database.dao.ExperienceDao;
 import database.dao.ExperienceDaoImpl;
 import database.dao.QuestDao;
 import database.dao.QuestDaoImpl;
-import database.dao.TransactionDao;
-import database.dao.TransactionDaoImpl;
+import database.dao.UserMetricsDao;
+import database.dao.UserMetricsDaoImpl;
+import database.dao.XpAward;
+import events.DomainEvent;
+import events.EventBus;
+import events.GoalUpdated;
+import events.QuizCompleted;
+import events.TransactionAdded;
+import events.XpAwarded;
 import model.Quest;
+import model.QuestMetrics;
+import model.QuestRule;
 
 public class QuestController {
     private QuestDao QuestDao;
     private ExperienceDao experienceDao;
-    private TransactionDao transactionDao;
-    private Budget budgetDao;
+    private UserMetricsDao userMetricsDao;
+
+    // The table DDL only needs to run once per process, not per controller
+    private static final AtomicBoolean tablesChecked = new AtomicBoolean();
+    private static final AtomicBoolean eventHandlersRegistered = new AtomicBoolean();
+
+    // Quest evaluations triggered, keyed by event type
+    private static final Map<String, LongAdder> evaluationsByEvent = new ConcurrentHashMap<>();
 
     /**
      * Constructor to properly initialize all DAOs
@@ -48,17 +68,65 @@ public class QuestController {
     public QuestController() {
         this.QuestDao = new QuestDaoImpl();
         this.experienceDao = new ExperienceDaoImpl();
-        this.transactionDao = new TransactionDaoImpl();
-        this.budgetDao = new Budgetimpl();
+        this.userMetricsDao = new UserMetricsDaoImpl();
         
         // Make sure all tables exist
-        try {
-            createQuestTablesIfNotExists();
-        } catch (SQLException e) {
-            System.out.println("Error creating quest tables: " + e.getMessage());
+        if (tablesChecked.compareAndSet(false, true)) {
+            try {
+                createQuestTablesIfNotExists();
+            } catch (SQLException e) {
+                tablesChecked.set(false);
+                System.out.println("Error creating quest tables: " + e.getMessage());
+            }
         }
     }
 
+    /**
+     * Subscribes quest evaluation to the event bus. Each event re-evaluates only
+     * the user's quests whose progress it can change. Safe to call more than once.
+     */
+    public static void registerEventHandlers(EventBus bus) {
+        if (!eventHandlersRegistered.compareAndSet(false, true)) {
+            return;
+        }
+        QuestController controller = new QuestController();
+        bus.subscribe(DomainEvent.class, event -> {
+            try {
+                int evaluated = controller.checkAndCompleteQuests(event.getUserId(), kindsAffectedBy(event));
+                evaluationsByEvent.computeIfAbsent(event.getClass().getSimpleName(), k -> new LongAdder())
+                        .add(evaluated);
+            } catch (SQLException e) {
+                System.out.println("Error evaluating quests for " + event + ": " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Number of quest evaluations each event type has triggered so far.
+     */
+    public static Map<String, Long> getEvaluationCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        evaluationsByEvent.forEach((type, count) -> counts.put(type, count.sum()));
+        return counts;
+    }
+
+    static Set<QuestRule.Kind> kindsAffectedBy(DomainEvent event) {
+        if (event instanceof TransactionAdded) {
+            return EnumSet.of(QuestRule.Kind.LOG_TRANSACTION, QuestRule.Kind.TRANSACTION_COUNT,
+                    QuestRule.Kind.DAILY_LOG, QuestRule.Kind.UNDER_BUDGET, QuestRule.Kind.SAVE_AMOUNT);
+        }
+        if (event instanceof QuizCompleted) {
+            return EnumSet.of(QuestRule.Kind.COMPLETE_QUIZZES);
+        }
+        if (event instanceof XpAwarded) {
+            return EnumSet.of(QuestRule.Kind.REACH_LEVEL);
+        }
+        if (event instanceof GoalUpdated) {
+            return EnumSet.of(QuestRule.Kind.COMPLETE_GOALS);
+        }
+        return EnumSet.noneOf(QuestRule.Kind.class);
+    }
+
     /**
      * Creates a new quest in the database
      */
@@ -225,26 +293,16 @@ public class QuestController {
      * Adds XP to a user and updates their level if necessary
      */
     public boolean addUserXP(int userId, int xpAmount) throws SQLException {
-        // Get current XP and level
-        int[] currentExp = getUserExperience(userId);
-        int currentXP = currentExp[0];
-        int currentLevel = currentExp[1];
-        
-        // Add new XP
-        boolean success = experienceDao.addUserXP(userId, xpAmount);
-        
-        if (success) {
-            // Get new XP and level
-            int[] newExp = getUserExperience(userId);
-            int newLevel = newExp[1];
-            
-            // If level increased, show level up popup
-            if (newLevel > currentLevel) {
-                showLevelUpPopup(newLevel);
-            }
+        // One statement adds the XP and reports whether a level threshold was crossed
+        XpAward award = experienceDao.awardXp(userId, xpAmount);
+        if (award == null) {
+            return false;
         }
-        
-        return success;
+        if (award.isLevelUp()) {
+            showLevelUpPopup(award.getLevel());
+        }
+        EventBus.getInstance().publish(new XpAwarded(userId, xpAmount, award.getCurrentXp(), award.getLevel()));
+        return true;
     }
 
     /**
@@ -285,19 +343,28 @@ public class QuestController {
         List<Quest> sampleQuests = new ArrayList<>();
 
         // Daily quests
-        sampleQuests.add(new Quest(0, "Daily Log Quest", "Log all your expenses for today", "DAILY", 20, 1, false, LocalDate.now().plusDays(1), userId));
-        sampleQuests.add(new Quest(0, "Budget Guardian", "Stay within your daily budget", "DAILY", 30, 0, false, LocalDate.now().plusDays(1), userId));
-        sampleQuests.add(new Quest(0, "Transaction Master", "Record at least 3 transactions", "DAILY", 25, 3, false, LocalDate.now().plusDays(1), userId));
+        sampleQuests.add(sampleQuest("Daily Log Quest", "Log all your expenses for today", "DAILY", 20, 1,
+                LocalDate.now().plusDays(1), userId, new QuestRule(QuestRule.Kind.LOG_TRANSACTION, 1)));
+        sampleQuests.add(sampleQuest("Budget Guardian", "Stay within your daily budget", "DAILY", 30, 0,
+                LocalDate.now().plusDays(1), userId, new QuestRule(QuestRule.Kind.UNDER_BUDGET)));
+        sampleQuests.add(sampleQuest("Transaction Master", "Record at least 3 transactions", "DAILY", 25, 3,
+                LocalDate.now().plusDays(1), userId, new QuestRule(QuestRule.Kind.TRANSACTION_COUNT, 3)));
 
         // Weekly quests
-        sampleQuests.add(new Quest(0, "Save $50", "Save at least $50 this week", "WEEKLY", 100, 50, false, LocalDate.now().plusDays(7), userId));
-        sampleQuests.add(new Quest(0, "Complete 3 quizzes", "Finish at least 3 financial quizzes", "WEEKLY", 75, 3, false, LocalDate.now().plusDays(7), userId));
-        sampleQuests.add(new Quest(0, "Budget Streak", "Stay under budget for 5 consecutive days", "WEEKLY", 150, 5, false, LocalDate.now().plusDays(7), userId));
+        sampleQuests.add(sampleQuest("Save $50", "Save at least $50 this week", "WEEKLY", 100, 50,
+                LocalDate.now().plusDays(7), userId, new QuestRule(QuestRule.Kind.SAVE_AMOUNT, 50)));
+        sampleQuests.add(sampleQuest("Complete 3 quizzes", "Finish at least 3 financial quizzes", "WEEKLY", 75, 3,
+                LocalDate.now().plusDays(7), userId, new QuestRule(QuestRule.Kind.COMPLETE_QUIZZES, 3)));
+        sampleQuests.add(sampleQuest("Budget Streak", "Stay under budget for 5 consecutive days", "WEEKLY", 150, 5,
+                LocalDate.now().plusDays(7), userId, new QuestRule(QuestRule.Kind.UNDER_BUDGET, 5)));
 
         // Monthly/Special quests
-        sampleQuests.add(new Quest(0, "Complete all goals", "Complete all your financial goals for the month", "MONTHLY", 200, 0, false, LocalDate.now().plusMonths(1), userId));
-        sampleQuests.add(new Quest(0, "Savings Champion", "Add to your savings account at least once a week", "MONTHLY", 300, 4, false, LocalDate.now().plusMonths(1), userId));
-        sampleQuests.add(new Quest(0, "Reach level 5", "Reach user level 5 by completing quests", "MONTHLY", 500, 5, false, LocalDate.now().plusMonths(1), userId));
+        sampleQuests.add(sampleQuest("Complete all goals", "Complete all your financial goals for the month", "MONTHLY", 200, 0,
+                LocalDate.now().plusMonths(1), userId, new QuestRule(QuestRule.Kind.COMPLETE_GOALS)));
+        sampleQuests.add(sampleQuest("Savings Champion", "Add to your savings account at least once a week", "MONTHLY", 300, 4,
+                LocalDate.now().plusMonths(1), userId, new QuestRule(QuestRule.Kind.SAVE_AMOUNT, 4)));
+        sampleQuests.add(sampleQuest("Reach level 5", "Reach user level 5 by completing quests", "MONTHLY", 500, 5,
+                LocalDate.now().plusMonths(1), userId, new QuestRule(QuestRule.Kind.REACH_LEVEL, 5)));
 
         // Add all sample quests to the database
         for (Quest quest : sampleQuests) {
@@ -308,32 +375,62 @@ public class QuestController {
         addUserXP(userId, 150);
     }
 
+    private Quest sampleQuest(String title, String description, String questType, int xpReward,
+                              double requiredAmount, LocalDate deadline, int userId, QuestRule rule) {
+        Quest quest = new Quest(0, title, description, questType, xpReward, requiredAmount, false, deadline, userId);
+        quest.setRule(rule);
+        return quest;
+    }
+
     /**
      * Check and automatically complete quests based on user activities
      * @param userId The user ID to check quests for
      * @throws SQLException if there's a database error
      */
     public void checkAndCompleteQuests(int userId) throws SQLException {
+        checkAndCompleteQuests(userId, EnumSet.allOf(QuestRule.Kind.class));
+    }
+
+    /**
+     * Checks and completes only the active quests of the given kinds
+     * @return the number of quests evaluated
+     */
+    int checkAndCompleteQuests(int userId, Set<QuestRule.Kind> kinds) throws SQLException {
+        if (kinds.isEmpty()) {
+            return 0;
+        }
+        int evaluated = 0;
         try {
             // Get all active quests for the user
             List<Quest> activeQuests = getActiveQuestsByUserId(userId);
+            // Every figure the rules need comes from one snapshot query per pass,
+            // run only once a quest the event affects turns up
+            QuestMetrics metrics = null;
             
-            // For each quest, calculate progress and check if it should be completed
+            // For each affected quest, calculate progress and check if it should be completed
             for (Quest quest : activeQuests) {
+                if (!kinds.contains(quest.getRule().getKind())) {
+                    continue;
+                }
+                evaluated++;
+                if (metrics == null) {
+                    metrics = loadMetrics(userId);
+                }
                 // Calculate and update progress
-                int progress = calculateQuestProgress(quest, userId);
+                int progress = calculateQuestProgress(quest, userId, metrics);
                 
                 // If progress is 100%, complete the quest
                 if (progress == 100 && !quest.isCompleted()) {
                     try {
                         System.out.println("Automatically completing quest: " + quest.getTitle());
-                        
                         // Set progress to 100% and update in database
                         quest.setProgress(100);
                         QuestDao.updateQuest(quest);
                         
                         // Then mark it as completed and award XP
-                        completeQuest(quest.getId(), userId);
+                        if (completeQuest(quest.getId(), userId)) {
+                            EventBus.getInstance().publish(new XpAwarded(userId, quest.getXpReward()));
+                        }
                     } catch (Exception e) {
                         System.out.println("Error completing quest " + quest.getTitle() + ": " + e.getMessage());
                     }
@@ -343,49 +440,7 @@ public class QuestController {
             System.out.println("Error checking quests: " + e.getMessage());
             e.printStackTrace();
         }
-    }
-
-    /**
-     * Check if a user is under their budget
-     */
-    private boolean checkIfUserIsUnderBudget(int userId) throws SQLException {
-        // Get total income and expenses for the current month
-        double income = getTotalIncomeForMonth(userId);
-        double expenses = getTotalExpensesForMonth(userId);
-
-        // User is under budget if they've spent less than their income
-        return expenses < income;
-    }
-
-    /**
-     * Calculate a user's total savings (income - expenses)
-     */
-    private double calculateUserSavings(int userId) throws SQLException {
-        double income = getTotalIncomeForMonth(userId);
-        double expenses = getTotalExpensesForMonth(userId);
-
-        return income - expenses;
-    }
-
-    /**
-     * Get the total number of transactions for a user
-     */
-    private int getTransactionCountForUser(int userId) throws SQLException {
-        return transactionDao.getTransactionCountForUser(userId);
-    }
-
-    /**
-     * Get total income for the current month
-     */
-    private double getTotalIncomeForMonth(int userId) throws SQLException {
-        return budgetDao.getTotalIncomeForMonth(userId);
-    }
-
-    /**
-     * Get total expenses for the current month
-     */
-    private double getTotalExpensesForMonth(int userId) throws SQLException {
-        return budgetDao.getTotalExpensesForMonth(userId);
+        return evaluated;
     }
 
     /**
@@ -405,103 +460,24 @@ public class QuestController {
      * @throws SQLException if there's a database error
      */
     public int calculateQuestProgress(Quest quest, int userId) throws SQLException {
+        return calculateQuestProgress(quest, userId, loadMetrics(userId));
+    }
+
+    /**
+     * Calculate progress percentage for a quest against metrics shared with other quests
+     * @param quest The quest to calculate progress for
+     * @param userId The user ID
+     * @param metrics Metrics for the current evaluation pass, from {@link #loadMetrics(int)}
+     * @return Progress percentage (0-100)
+     * @throws SQLException if there's a database error
+     */
+    public int calculateQuestProgress(Quest quest, int userId, QuestMetrics metrics) throws SQLException {
         if (quest.isCompleted()) {
             quest.setProgress(100);
             return 100;
         }
         
-        String title = quest.getTitle().toLowerCase();
-        String description = quest.getDescription().toLowerCase();
-        int progress = 0;
-        
-        // Quest for logging a transaction
-        if (title.contains("daily log") || title.contains("log a transaction") || 
-            description.contains("log a transaction") || description.contains("log all your expenses")) {
-            int transactionCount = getTransactionCountForUser(userId);
-            progress = transactionCount > 0 ? 100 : 0;
-        }
-        
-        // Quest for logging multiple transactions
-        else if (title.contains("transaction master") || title.contains("log transactions") || 
-            description.contains("log multiple transactions") || description.contains("record at least")) {
-            int transactionCount = getTransactionCountForUser(userId);
-            int requiredAmount = (int)Math.ceil(quest.getRequiredAmount());
-            
-            // Fix for the progress bar calculation
-            if (transactionCount >= requiredAmount) {
-                // If requirement is met, show 100%
-                progress = 100;
-            } else {
-                // Calculate the percentage with proper double conversion to avoid integer division
-                progress = (int)((transactionCount * 100.0) / requiredAmount);
-            }
-            
-            System.out.println("Transaction Quest Progress: " + transactionCount + "/" + 
-                             requiredAmount + " = " + progress + "%");
-        }
-        
-        // Quest for staying under budget
-        else if (title.contains("budget guardian") || title.contains("budget streak") || 
-            title.contains("stay under budget") || description.contains("stay under budget") ||
-            description.contains("stay within your daily budget") || 
-            description.contains("keep your expenses below")) {
-            boolean underBudget = checkIfUserIsUnderBudget(userId);
-            double expenses = getTotalExpensesForMonth(userId);
-            double income = getTotalIncomeForMonth(userId);
-            
-            if (income > 0) {
-                double ratio = 1 - (expenses / income);
-                progress = (int) Math.min(100, Math.max(0, ratio * 100));
-            } else {
-                progress = underBudget ? 80 : 20;
-            }
-        }
-        
-        // Quest for savings
-        else if (title.contains("save $") || title.contains("savings champion") ||
-            title.contains("save money") || description.contains("save money") ||
-            description.contains("save at least") || description.contains("savings account")) {
-            double savings = calculateUserSavings(userId);
-            double requiredAmount = quest.getRequiredAmount() > 0 ? quest.getRequiredAmount() : 100;
-            progress = (int) Math.min(100, (savings / requiredAmount) * 100);
-        }
-        
-        // Quest for completing all goals
-        else if (title.contains("complete all goals")) {
-            // This would require counting completed goals vs total goals
-            // For now, we'll approximate with a 50% progress
-            progress = 50;
-        }
-        
-        // Quest for reaching a certain level
-        else if (title.contains("reach level")) {
-            int[] userExp = getUserExperience(userId);
-            int currentLevel = userExp[1];
-            double requiredLevel = quest.getRequiredAmount() > 0 ? quest.getRequiredAmount() : 5;
-            progress = (int) Math.min(100, (currentLevel / requiredLevel) * 100);
-        }
-        
-        // Quest for completing quizzes
-        else if (title.contains("complete") && (title.contains("quiz") || title.contains("quizzes")) || 
-            description.contains("complete") && (description.contains("quiz") || description.contains("quizzes"))) {
-            // Get quiz completion count from quiz tracker
-            int quizCount = getQuizCompletionCount(userId);
-            double requiredQuizzes = quest.getRequiredAmount() > 0 ? quest.getRequiredAmount() : 1;
-            progress = (int) Math.min(100, (quizCount / requiredQuizzes) * 100);
-        }
-        
-        // Daily log quest - check for transactions today
-        else if (title.contains("daily log")) {
-            // Check if they've logged transactions today
-            LocalDate today = LocalDate.now();
-            int todaysTransactions = getTransactionCountForDay(userId, today);
-            progress = todaysTransactions > 0 ? 100 : 0;
-        }
-        
-        // Default to 50% for unknown quest types
-        else {
-            progress = 50;
-        }
+        int progress = QuestRuleEngine.compile(quest.getRule()).progress(metrics);
         
         // Update the quest's progress
         quest.setProgress(progress);
@@ -518,42 +494,13 @@ public class QuestController {
         
         return progress;
     }
-    
-    /**
-     * Get transaction count for a specific day
-     */
-    private int getTransactionCountForDay(int userId, LocalDate date) throws SQLException {
-        return transactionDao.getTransactionCountForDay(userId, date);
-    }
 
     /**
-     * Get the number of quizzes completed by a user
-     * Track this in database or increment when a quiz is completed
-     * 
-     * @param userId The user ID
-     * @return The number of quizzes completed
+     * Metrics for one evaluation pass over a user's quests, read in a single
+     * query and shared by every quest evaluated in the pass.
      */
-    private int getQuizCompletionCount(int userId) {
-        try {
-            // Query the database for quiz completion count
-            String sql = "SELECT COUNT(*) FROM quiz_completions WHERE user_id = ?";
-            
-            try (Connection conn = DatabaseManager.getConnection();
-                 PreparedStatement pstmt = conn.prepareStatement(sql)) {
-                
-                pstmt.setInt(1, userId);
-                
-                try (ResultSet rs = pstmt.executeQuery()) {
-                    if (rs.next()) {
-                        return rs.getInt(1);
-                    }
-                }
-            }
-        } catch (SQLException e) {
-            System.out.println("Error getting quiz completion count: " + e.getMessage());
-        }
-        
-        return 0;
+    public QuestMetrics loadMetrics(int userId) throws SQLException {
+        return userMetricsDao.loadSnapshot(userId);
     }
     
     /**
@@ -565,10 +512,7 @@ public class QuestController {
      */
     public boolean recordQuizCompletion(int userId, int score) {
         try {
-            // Create table if it doesn't exist
-            createQuizCompletionTableIfNotExists();
-            
-            // Insert a record of quiz completion
+            // The quiz_completions table is created by migration V7
             String sql = "INSERT INTO quiz_completions (user_id, score, completion_date) VALUES (?, ?, ?)";
             
             try (Connection conn = DatabaseManager.getConnection();
@@ -580,9 +524,9 @@ public class QuestController {
                 
                 int affected = pstmt.executeUpdate();
                 
-                // Check and complete quests after recording a quiz completion
+                // Quest progress is re-evaluated by the QuizCompleted handler
                 if (affected > 0) {
-                    checkAndCompleteQuests(userId);
+                    EventBus.getInstance().publish(new QuizCompleted(userId, score));
                     return true;
                 }
             }
@@ -623,7 +567,7 @@ public class QuestController {
                 "description TEXT, " +
                 "quest_type VARCHAR(50) NOT NULL, " +
                 "xp_reward INTEGER NOT NULL, " +
-                "required_amount DOUBLE PRECISION DEFAULT 0, " +
+                "required_amount NUMERIC(14, 2) DEFAULT 0, " +
                 "completion_status BOOLEAN DEFAULT FALSE, " +
                 "deadline DATE, " +
                 "user_id INTEGER NOT NULL, " +
@@ -715,6 +659,7 @@ public class QuestController {
                     calculateNewDeadline(quest.getQuestType()),
                     userId
                 );
+                newQuest.setRule(quest.getRule());
                 
                 createQuest(newQuest);
             }
@@ -0,0 +1,79 @@
+package controller;
+
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import model.QuestMetrics;
+import model.QuestRule;
+
+/**
+ * Turns quest rules into evaluators. Each distinct rule is compiled once and
+ * the evaluator is reused for every quest that carries it.
+ */
+public class QuestRuleEngine {
+
+    /**
+     * Computes a quest's progress (0-100) from the pass's metrics.
+     */
+    public interface Evaluator {
+        int progress(QuestMetrics metrics) throws SQLException;
+    }
+
+    private static final Map<QuestRule, Evaluator> compiled = new ConcurrentHashMap<>();
+
+    public static Evaluator compile(QuestRule rule) {
+        return compiled.computeIfAbsent(rule, QuestRuleEngine::build);
+    }
+
+    private static Evaluator build(QuestRule rule) {
+        double target = rule.getTarget();
+        switch (rule.getKind()) {
+            case LOG_TRANSACTION:
+                return m -> m.getTransactionCount() > 0 ? 100 : 0;
+
+            case TRANSACTION_COUNT: {
+                int required = (int) Math.ceil(target);
+                return m -> {
+                    int count = m.getTransactionCount();
+                    // Double division so partial progress isn't truncated to 0
+                    return count >= required ? 100 : (int) ((count * 100.0) / required);
+                };
+            }
+
+            case DAILY_LOG:
+                return m -> m.getTransactionCountToday() > 0 ? 100 : 0;
+
+            case UNDER_BUDGET:
+                return m -> {
+                    double income = m.getMonthlyIncome();
+                    double expenses = m.getMonthlyExpenses();
+                    if (income > 0) {
+                        double ratio = 1 - (expenses / income);
+                        return (int) Math.min(100, Math.max(0, ratio * 100));
+                    }
+                    return expenses < income ? 80 : 20;
+                };
+
+            case SAVE_AMOUNT: {
+                double required = target > 0 ? target : 100;
+                return m -> (int) Math.min(100, ((m.getMonthlyIncome() - m.getMonthlyExpenses()) / required) * 100);
+            }
+
+            case REACH_LEVEL: {
+                double requiredLevel = target > 0 ? target : 5;
+                return m -> (int) Math.min(100, (m.getLevel() / requiredLevel) * 100);
+            }
+
+            case COMPLETE_QUIZZES: {
+                double requiredQuizzes = target > 0 ? target : 1;
+                return m -> (int) Math.min(100, (m.getQuizCount() / requiredQuizzes) * 100);
+            }
+
+            case COMPLETE_GOALS:
+                // Counting completed vs total goals isn't tracked yet; approximate
+            default:
+                return m -> 50;
+        }
+    }
+}
@@ -564,11 +564,9 @@ public class QuizController {
                     if (success) {
                         System.out.println("Successfully added " + score + " XP for completing quiz");
                         
-                        // Record quiz completion for quest tracking
+                        // Record quiz completion for quest tracking; this also
+                        // publishes QuizCompleted, which re-evaluates quiz quests
                         questController.recordQuizCompletion(userId, score);
-                        
-                        // Also explicitly check for quest completions
-                        questController.checkAndCompleteQuests(userId);
                     } else {
                         System.out.println("Failed to add XP for completing quiz");
                     }
@@ -579,7 +577,6 @@ public class QuizController {
                         this.questController = new QuestController();
                         this.questController.addUserXP(userId, score);
                         this.questController.recordQuizCompletion(userId, score);
-                        this.questController.checkAndCompleteQuests(userId);
                     } catch (Exception e) {
                         System.out.println("Error creating QuestController: " + e.getMessage());
                     }
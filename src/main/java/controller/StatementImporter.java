@@ -0,0 +1,481 @@
+package controller;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+
+import database.dao.TransactionDaoImpl;
+import events.EventBus;
+import events.TransactionAdded;
+import model.CategoryModel;
+import model.Money;
+import model.TransactionCategorizer;
+import utils.DateParser;
+import model.Transaction;
+
+/**
+ * Imports a bank statement CSV as a three-stage pipeline:
+ * <ol>
+ *   <li>a reader thread cuts the file into chunks of lines,</li>
+ *   <li>chunks are parsed, validated and categorized in parallel on a fork-join pool,</li>
+ *   <li>the calling thread gathers the parsed chunks, in file order, into
+ *       batches and writes them through {@link database.dao.TransactionDao#addTransactions}.</li>
+ * </ol>
+ * Only a bounded number of chunks is in flight, so memory use does not depend
+ * on the file size.
+ *
+ * Accepted columns: date, description, debit/expense, credit/income, then
+ * optionally balance and category. Dates may be yyyy-MM-dd, MM/dd/yyyy or
+ * dd-MM-yyyy. Rows without a category are categorized from the description.
+ *
+ * Imported rows earn the same XP as rows logged by hand, awarded in one
+ * step once the file is done.
+ */
+public class StatementImporter {
+    private static final int CHUNK_LINES = 8_192;
+    // Parsed chunks are gathered until this many rows are pending, so that
+    // TransactionDao.addTransactions streams every full batch with COPY
+    private static final int WRITE_BATCH_SIZE = TransactionDaoImpl.COPY_THRESHOLD;
+    private static final int READ_BUFFER_CHARS = 1 << 20;
+    private static final int MAX_REPORTED_ERRORS = 20;
+
+    /**
+     * Receives progress after each batch is written. Called on the importing thread.
+     */
+    public interface ProgressListener {
+        void onProgress(long bytesRead, long totalBytes, long rowsImported);
+    }
+
+    /**
+     * Stores one batch of parsed rows: up to {@code WRITE_BATCH_SIZE} plus
+     * one chunk, or the rest of the file.
+     */
+    public interface BatchWriter {
+        void write(List<Transaction> rows) throws SQLException;
+    }
+
+    /**
+     * Grants the XP an import earned. Called once per import on the importing thread.
+     */
+    public interface XpAwarder {
+        void award(int userId, int xp) throws SQLException;
+    }
+
+    /**
+     * Row counts and per-stage timing for one import.
+     */
+    public static class Report {
+        private long bytes;
+        private long rowsImported;
+        private long rowsRejected;
+        private long rowsSkipped;
+        private long readNanos;
+        private long parseNanos;
+        private long writeNanos;
+        private long totalNanos;
+        private int parallelism;
+        private int xpAwarded;
+        private final List<String> errors = new ArrayList<>();
+        private final Set<String> categories = new TreeSet<>();
+
+        public long getRowsImported() {
+            return rowsImported;
+        }
+
+        public long getRowsRejected() {
+            return rowsRejected;
+        }
+
+        public long getRowsSkipped() {
+            return rowsSkipped;
+        }
+
+        /**
+         * @return the first few rejected rows with the reason, by line number
+         */
+        public List<String> getErrors() {
+            return errors;
+        }
+
+        public Set<String> getCategories() {
+            return categories;
+        }
+
+        public int getXpAwarded() {
+            return xpAwarded;
+        }
+
+        public long getTotalMillis() {
+            return totalNanos / 1_000_000;
+        }
+
+        @Override
+        public String toString() {
+            String nl = System.lineSeparator();
+            return String.format("CSV import: %d rows imported, %d rejected, %d skipped, %.1f MB in %d ms",
+                    rowsImported, rowsRejected, rowsSkipped, bytes / 1e6, getTotalMillis()) + nl +
+                    String.format("  read   %8d ms  %8.1f MB/s", readNanos / 1_000_000, perSecond(bytes / 1e6, readNanos)) + nl +
+                    String.format("  parse  %8d ms  %8.0f rows/s per thread, %d threads", parseNanos / 1_000_000,
+                            perSecond(rowsImported + rowsRejected + rowsSkipped, parseNanos), parallelism) + nl +
+                    String.format("  write  %8d ms  %8.0f rows/s", writeNanos / 1_000_000, perSecond(rowsImported, writeNanos));
+        }
+
+        private static double perSecond(double amount, long nanos) {
+            return nanos == 0 ? 0 : amount * 1e9 / nanos;
+        }
+    }
+
+    private static class Chunk {
+        final long firstLine;
+        final List<String> lines;
+        final long chars;
+
+        Chunk(long firstLine, List<String> lines, long chars) {
+            this.firstLine = firstLine;
+            this.lines = lines;
+            this.chars = chars;
+        }
+    }
+
+    private static class ParsedChunk {
+        final List<Transaction> rows = new ArrayList<>();
+        final List<String> errors = new ArrayList<>();
+        final Set<String> categories = new TreeSet<>();
+        long rejected;
+        long skipped;
+        long chars;
+        long parseNanos;
+        // Statements list many rows per day, so consecutive rows share one LocalDate
+        private int lastEpochDay = DateParser.INVALID;
+        private LocalDate lastDate;
+
+        LocalDate dateOf(int epochDay) {
+            if (epochDay != lastEpochDay) {
+                lastEpochDay = epochDay;
+                lastDate = LocalDate.ofEpochDay(epochDay);
+            }
+            return lastDate;
+        }
+    }
+
+    // Marks the end of the file in the chunk queue
+    private static final CompletableFuture<ParsedChunk> END = CompletableFuture.completedFuture(null);
+
+    private final int userId;
+    private final BatchWriter writer;
+    private final ForkJoinPool pool;
+    // Snapshot of the rules at construction; later rule edits apply to the next import
+    private final TransactionCategorizer categorizer = CategoryManager.getInstance().getCategorizer();
+    private final CategorySuggestionService suggestions;
+    private final XpAwarder xpAwarder;
+    // The user's learned model for the import in progress; null to use keyword rules only
+    private volatile CategoryModel learned;
+
+    public StatementImporter(int userId) {
+        this.userId = userId;
+        this.writer = new TransactionDaoImpl()::addTransactions;
+        this.pool = ForkJoinPool.commonPool();
+        this.suggestions = CategorySuggestionService.getInstance();
+        this.xpAwarder = (id, xp) -> new QuestController().addUserXP(id, xp);
+    }
+
+    public StatementImporter(int userId, BatchWriter writer, ForkJoinPool pool) {
+        this(userId, writer, pool, null);
+    }
+
+    /**
+     * @param suggestions fills in rows the keyword rules leave as "Other", or null
+     */
+    public StatementImporter(int userId, BatchWriter writer, ForkJoinPool pool, CategorySuggestionService suggestions) {
+        this(userId, writer, pool, suggestions, null);
+    }
+
+    /**
+     * @param xpAwarder grants the XP for the imported rows, or null to award none
+     */
+    public StatementImporter(int userId, BatchWriter writer, ForkJoinPool pool, CategorySuggestionService suggestions,
+                             XpAwarder xpAwarder) {
+        this.userId = userId;
+        this.writer = writer;
+        this.pool = pool;
+        this.suggestions = suggestions;
+        this.xpAwarder = xpAwarder;
+    }
+
+    /**
+     * Imports the file. Rows are committed batch by batch; if the import fails
+     * part-way, batches written before the failure stay imported.
+     */
+    public Report importFile(File file, ProgressListener listener) throws IOException, SQLException {
+        long start = System.nanoTime();
+        Report report = new Report();
+        report.parallelism = pool.getParallelism();
+        long totalBytes = file.length();
+        learned = suggestions == null ? null : suggestions.modelFor(userId);
+
+        // Two chunks per worker keeps every stage busy without buffering the file
+        BlockingQueue<CompletableFuture<ParsedChunk>> inFlight =
+                new ArrayBlockingQueue<>(Math.max(2, pool.getParallelism() * 2));
+        long[] readNanos = new long[1];
+        Thread reader = new Thread(() -> readChunks(file, inFlight, readNanos), "csv-import-reader");
+        reader.setDaemon(true);
+        reader.start();
+
+        try {
+            List<Transaction> pending = new ArrayList<>(WRITE_BATCH_SIZE + CHUNK_LINES);
+            long written = 0;
+            while (true) {
+                ParsedChunk parsed = inFlight.take().get();
+                boolean end = parsed == null;
+                if (!end) {
+                    merge(report, parsed);
+                    pending.addAll(parsed.rows);
+                }
+                if (pending.size() >= WRITE_BATCH_SIZE || end) {
+                    if (!pending.isEmpty()) {
+                        long writeStart = System.nanoTime();
+                        writer.write(pending);
+                        report.writeNanos += System.nanoTime() - writeStart;
+                        written += pending.size();
+                        pending = new ArrayList<>(WRITE_BATCH_SIZE + CHUNK_LINES);
+                    }
+                    if (listener != null) {
+                        listener.onProgress(Math.min(report.bytes, totalBytes), totalBytes, written);
+                    }
+                }
+                if (end) {
+                    break;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("CSV import interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException("CSV import failed: " + cause.getMessage(), cause);
+        } finally {
+            // Stops the reader if the writer gave up early
+            reader.interrupt();
+        }
+
+        report.readNanos = readNanos[0];
+        report.totalNanos = System.nanoTime() - start;
+        System.out.println(report);
+
+        if (report.rowsImported > 0) {
+            awardXp(report);
+            // One event for the whole file, so quests are evaluated once per import
+            EventBus.getInstance().publish(new TransactionAdded(userId, false, 0));
+        }
+        return report;
+    }
+
+    // One award for the whole file instead of one per row
+    private void awardXp(Report report) {
+        if (xpAwarder == null) {
+            return;
+        }
+        int xp = (int) Math.min(Integer.MAX_VALUE,
+                report.rowsImported * TransactionController.XP_REWARD_PER_TRANSACTION);
+        try {
+            xpAwarder.award(userId, xp);
+            report.xpAwarded = xp;
+        } catch (SQLException e) {
+            System.out.println("Failed to award XP for import: " + e.getMessage());
+        }
+    }
+
+    private void readChunks(File file, BlockingQueue<CompletableFuture<ParsedChunk>> inFlight, long[] readNanos) {
+        try (BufferedReader in = new BufferedReader(
+                new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8), READ_BUFFER_CHARS)) {
+            long lineNumber = 1;
+            long started = System.nanoTime();
+            // Skip the header row
+            String line = in.readLine();
+            long chars = line == null ? 0 : line.length() + 1;
+            List<String> lines = new ArrayList<>(CHUNK_LINES);
+            long firstLine = 2;
+            while ((line = in.readLine()) != null) {
+                lineNumber++;
+                lines.add(line);
+                chars += line.length() + 1;
+                if (lines.size() == CHUNK_LINES) {
+                    readNanos[0] += System.nanoTime() - started;
+                    submit(inFlight, new Chunk(firstLine, lines, chars));
+                    started = System.nanoTime();
+                    lines = new ArrayList<>(CHUNK_LINES);
+                    firstLine = lineNumber + 1;
+                    chars = 0;
+                }
+            }
+            readNanos[0] += System.nanoTime() - started;
+            if (!lines.isEmpty() || chars > 0) {
+                submit(inFlight, new Chunk(firstLine, lines, chars));
+            }
+            inFlight.put(END);
+        } catch (InterruptedException e) {
+            // The writer stopped; nothing left to do
+        } catch (IOException e) {
+            try {
+                inFlight.put(CompletableFuture.failedFuture(e));
+            } catch (InterruptedException stopped) {
+                // The writer already stopped
+            }
+        }
+    }
+
+    private void submit(BlockingQueue<CompletableFuture<ParsedChunk>> inFlight, Chunk chunk) throws InterruptedException {
+        inFlight.put(CompletableFuture.supplyAsync(() -> parse(chunk), pool));
+    }
+
+    private ParsedChunk parse(Chunk chunk) {
+        long start = System.nanoTime();
+        ParsedChunk parsed = new ParsedChunk();
+        parsed.chars = chunk.chars;
+        String[] fields = new String[8];
+        long lineNumber = chunk.firstLine;
+        for (String line : chunk.lines) {
+            String error = parseLine(line, fields, parsed);
+            if (error != null) {
+                parsed.rejected++;
+                if (parsed.errors.size() < MAX_REPORTED_ERRORS) {
+                    parsed.errors.add("Line " + lineNumber + ": " + error);
+                }
+            }
+            lineNumber++;
+        }
+        parsed.parseNanos = System.nanoTime() - start;
+        return parsed;
+    }
+
+    // Keyword rules first; what they cannot place goes to the user's own history
+    private String categorize(String description) {
+        String category = categorizer.categorize(description);
+        CategoryModel model = learned;
+        if (model != null && category.equals(TransactionCategorizer.DEFAULT_CATEGORY)) {
+            String suggested = model.suggest(description);
+            if (suggested != null) {
+                return suggested;
+            }
+        }
+        return category;
+    }
+
+    /**
+     * Parses one row into the chunk.
+     * @return null on success or when the row is skipped, otherwise the reason it was rejected
+     */
+    private String parseLine(String line, String[] fields, ParsedChunk parsed) {
+        if (line.isBlank()) {
+            parsed.skipped++;
+            return null;
+        }
+        int count = splitFields(line, fields);
+        if (count < 4) {
+            return "expected at least 4 columns";
+        }
+        int epochDay = DateParser.parseEpochDay(fields[0]);
+        if (epochDay == DateParser.INVALID) {
+            return "unrecognised date '" + fields[0] + "'";
+        }
+        String description = fields[1];
+        if (description.isEmpty()) {
+            return "missing description";
+        }
+        boolean income = fields[2].isEmpty();
+        String amountText = income ? fields[3] : fields[2];
+        if (amountText.isEmpty()) {
+            // Neither debit nor credit, e.g. a balance-only line
+            parsed.skipped++;
+            return null;
+        }
+        long amountCents = Money.parseCents(amountText);
+        if (amountCents == Money.INVALID) {
+            return "invalid amount '" + amountText + "'";
+        }
+        String category = count > 5 && !fields[5].isEmpty()
+                ? fields[5]
+                : categorize(description);
+
+        Transaction transaction = Transaction.ofCents(description, Math.abs(amountCents),
+                parsed.dateOf(epochDay), income, category);
+        transaction.setUserId(userId);
+        parsed.rows.add(transaction);
+        parsed.categories.add(category);
+        return null;
+    }
+
+    /**
+     * Splits a CSV line into trimmed fields, honouring double quotes and
+     * dropping thousands separators and currency signs from amounts.
+     * @return number of fields found (fields beyond the array length are ignored)
+     */
+    static int splitFields(String line, String[] fields) {
+        int count = 0;
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i <= line.length(); i++) {
+            char c = i < line.length() ? line.charAt(i) : ',';
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else if (i < line.length()) {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                if (count < fields.length) {
+                    fields[count] = field.toString().trim();
+                }
+                count++;
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        for (int i = 2; i < Math.min(count, 5); i++) {
+            // Debit, credit and balance columns
+            if (fields[i].indexOf(',') >= 0 || fields[i].indexOf('$') >= 0) {
+                fields[i] = fields[i].replace(",", "").replace("$", "");
+            }
+        }
+        return count;
+    }
+
+    private static void merge(Report report, ParsedChunk parsed) {
+        report.bytes += parsed.chars;
+        report.rowsImported += parsed.rows.size();
+        report.rowsRejected += parsed.rejected;
+        report.rowsSkipped += parsed.skipped;
+        report.parseNanos += parsed.parseNanos;
+        report.categories.addAll(parsed.categories);
+        for (String error : parsed.errors) {
+            if (report.errors.size() < MAX_REPORTED_ERRORS) {
+                report.errors.add(error);
+            }
+        }
+    }
+}
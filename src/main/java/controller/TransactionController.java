@@ -1,7 +1,16 @@
 package controller;
 
+import database.CalendarMonthCache;
 import database.DatabaseManager;
 import database.StubConnection;
+import database.TransactionCache;
+import database.dao.TransactionDaoImpl;
+import database.dao.TransactionPage;
+import events.EventBus;
+import events.TransactionAdded;
+import events.TransactionCategorized;
+import events.TransactionDeleted;
+import model.Money;
 import model.Transaction;
 import java.sql.*;
 import java.time.LocalDate;
@@ -11,10 +20,11 @@ import java.util.List;
 public class TransactionController {
     private Connection connection;
     private int userId = 1; // Default to 1 if not set explicitly
-    private static final int XP_REWARD_PER_TRANSACTION = 20; // XP points awarded for logging a transaction
+    static final int XP_REWARD_PER_TRANSACTION = 20; // XP points awarded for logging a transaction
 
+    // Without an injected connection each call borrows one from the pool
     public TransactionController() throws SQLException {
-    	this.connection = DatabaseManager.getConnection();
+    	this.connection = null;
     }
     
     public TransactionController(Connection connection) {
@@ -29,7 +39,8 @@ public class TransactionController {
      */
     public boolean updateBalance(int userId, double amount) {
         String query = "UPDATE users SET balance = balance + ? WHERE id = ?";
-        try (PreparedStatement pstmt = connection.prepareStatement(query)) {
+        try (Connection conn = DatabaseManager.borrow(connection);
+             PreparedStatement pstmt = conn.prepareStatement(query)) {
             pstmt.setDouble(1, amount);
             pstmt.setInt(2, userId);
             return pstmt.executeUpdate() > 0;
@@ -74,17 +85,21 @@ public class TransactionController {
             pstmt.setString(3, description);
             pstmt.setString(4, category);
             pstmt.setString(5, type);
-            pstmt.setDouble(6, amount);
+            pstmt.setBigDecimal(6, Money.toDecimal(Money.toCents(amount)));
             pstmt.executeUpdate();
+            TransactionCache.getInstance().transactionAdded(userId, java.sql.Date.valueOf(date).toLocalDate(),
+                    amount, category, type.equalsIgnoreCase("income"));
+            CalendarMonthCache.getInstance().transactionAdded(userId, java.sql.Date.valueOf(date).toLocalDate());
             
             // Award XP for logging a transaction
             try {
                 QuestController questController = new QuestController();
                 questController.addUserXP(userId, XP_REWARD_PER_TRANSACTION);
-                questController.checkAndCompleteQuests(userId);
             } catch (SQLException e) {
                 System.out.println("Failed to award XP for transaction: " + e.getMessage());
             }
+            EventBus.getInstance().publish(new TransactionAdded(userId, type.equalsIgnoreCase("income"), amount));
+            EventBus.getInstance().publish(new TransactionCategorized(userId, description, null, category));
             
             return true;
         } catch (SQLException e) {
@@ -106,17 +121,24 @@ public class TransactionController {
     // ADD: Add Transaction with category
     public void addTransaction(String description, double amount, LocalDate date, boolean isIncome, String category) {
         String query = "INSERT INTO transactions (user_id, date, description, category, type, amount) VALUES (?, ?, ?, ?, ?, ?)";
-        try (PreparedStatement stmt = connection.prepareStatement(query)) {
+        try (Connection conn = DatabaseManager.borrow(connection);
+             PreparedStatement stmt = conn.prepareStatement(query)) {
             stmt.setInt(1, userId); // user_id
             stmt.setDate(2, Date.valueOf(date)); // date
             stmt.setString(3, description); // description
             stmt.setString(4, category); // category
             stmt.setString(5, isIncome ? "income" : "expense"); // type
-            stmt.setDouble(6, amount); // amount
+            stmt.setBigDecimal(6, Money.toDecimal(Money.toCents(amount))); // amount
             stmt.executeUpdate();
+            if (connection == null) {
+                TransactionCache.getInstance().transactionAdded(userId, date, amount, category, isIncome);
+                CalendarMonthCache.getInstance().transactionAdded(userId, date);
+            }
             
             // Award XP for logging a transaction
             awardXpForTransaction(userId);
+            EventBus.getInstance().publish(new TransactionAdded(userId, isIncome, amount));
+            EventBus.getInstance().publish(new TransactionCategorized(userId, description, null, category));
             
             System.out.println("Transaction added successfully!");
         } catch (SQLException e) {
@@ -129,7 +151,8 @@ public class TransactionController {
     public List<Transaction> getTransactions() {
         List<Transaction> transactions = new ArrayList<>();
         String query = "SELECT * FROM transactions WHERE user_id = ? ORDER BY date DESC";
-        try (PreparedStatement stmt = connection.prepareStatement(query)) {
+        try (Connection conn = DatabaseManager.borrow(connection);
+             PreparedStatement stmt = conn.prepareStatement(query)) {
             stmt.setInt(1, userId);
             try (ResultSet rs = stmt.executeQuery()) {
                 while (rs.next()) {
@@ -146,14 +169,14 @@ public class TransactionController {
                     boolean isIncome = type != null && type.equalsIgnoreCase("income");
                     
                     // Use the appropriate constructor based on the database schema
-                    Transaction transaction = new Transaction(
+                    Transaction transaction = Transaction.fromRow(
                             rs.getInt("id"),
                             userId,
                             rs.getTimestamp("date"),
                             rs.getString("description"),
                             category,
                             type,
-                            rs.getDouble("amount")
+                            Money.fromDecimal(rs.getBigDecimal("amount"))
                     );
                     transactions.add(transaction);
                 }
@@ -165,17 +188,51 @@ public class TransactionController {
         return transactions;
     }
 
+    // UPDATE: Move a transaction to another category
+    public boolean updateTransactionCategory(Transaction transaction, String category) {
+        String query = "UPDATE transactions SET category = ? WHERE id = ? AND user_id = ?";
+        try (Connection conn = DatabaseManager.borrow(connection);
+             PreparedStatement pstmt = conn.prepareStatement(query)) {
+            pstmt.setString(1, category);
+            pstmt.setInt(2, transaction.getId());
+            pstmt.setInt(3, userId);
+            if (pstmt.executeUpdate() == 0) {
+                return false;
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+            return false;
+        }
+        if (connection == null) {
+            TransactionCache.getInstance().categoryChanged(userId, transaction.getId(), category);
+            CalendarMonthCache.getInstance().transactionChanged(transaction.getId());
+        }
+        String previous = transaction.getCategory();
+        transaction.setCategory(category);
+        // Lets the category suggester learn from the correction
+        EventBus.getInstance().publish(new TransactionCategorized(userId, transaction.getDescription(), previous, category));
+        return true;
+    }
+
     // DELETE: Remove a transaction by ID
     public boolean deleteTransaction(int transactionId) {
         String query = "DELETE FROM transactions WHERE id = ?";
-        try (PreparedStatement pstmt = connection.prepareStatement(query)) {
+        int affectedRows;
+        try (Connection conn = DatabaseManager.borrow(connection);
+             PreparedStatement pstmt = conn.prepareStatement(query)) {
             pstmt.setInt(1, transactionId);
-            int affectedRows = pstmt.executeUpdate();
-            return affectedRows > 0;
+            affectedRows = pstmt.executeUpdate();
         } catch (SQLException e) {
             e.printStackTrace();
             return false;
         }
+        if (affectedRows > 0 && connection == null) {
+            TransactionCache.getInstance().transactionDeleted(transactionId);
+            CalendarMonthCache.getInstance().transactionChanged(transactionId);
+            // Published after the connection is back in the pool; handlers may query
+            EventBus.getInstance().publish(new TransactionDeleted(userId, transactionId));
+        }
+        return affectedRows > 0;
     }
 
     /**
@@ -192,14 +249,14 @@ public class TransactionController {
             pstmt.setInt(1, userId);
             try (ResultSet rs = pstmt.executeQuery()) {
                 while (rs.next()) {
-                    Transaction t = new Transaction(
+                    Transaction t = Transaction.fromRow(
                             rs.getInt("id"),
                             userId,
                             rs.getTimestamp("date"),
                             rs.getString("description"),
                             rs.getString("category"),
                             rs.getString("type"),
-                            rs.getDouble("amount")
+                            Money.fromDecimal(rs.getBigDecimal("amount"))
                     );
                     transactions.add(t);
                 }
@@ -210,6 +267,19 @@ public class TransactionController {
         return transactions;
     }
 
+    /**
+     * Retrieves one page of the given user's transactions, newest first.
+     * Screens should prefer this over getAllTransactions for long histories.
+     *
+     * @param userId   the user ID
+     * @param after    cursor returned with the previous page, or null for the first page
+     * @param pageSize maximum number of transactions in the page
+     * @return the page and the cursor for the next one
+     */
+    public static TransactionPage getTransactionsPage(int userId, TransactionPage.Cursor after, int pageSize) throws SQLException {
+        return new TransactionDaoImpl().getTransactionsPage(userId, after, pageSize);
+    }
+
     /**
      * Gets all transactions for a user with the specified category and within the date range
      * @param userId The ID of the user
@@ -223,7 +293,8 @@ public class TransactionController {
         List<Transaction> transactions = new ArrayList<>();
         String sql = "SELECT * FROM transactions WHERE user_id = ? AND category = ? AND date BETWEEN ? AND ?";
         
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+        try (Connection conn = DatabaseManager.borrow(connection);
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setInt(1, userId);
             stmt.setString(2, category);
             stmt.setDate(3, new java.sql.Date(startDate.getTime()));
@@ -233,7 +304,7 @@ public class TransactionController {
                 while (rs.next()) {
                     int id = rs.getInt("id");
                     String description = rs.getString("description");
-                    double amount = rs.getDouble("amount");
+                    long amountCents = Money.fromDecimal(rs.getBigDecimal("amount"));
                     java.sql.Date date = rs.getDate("date");
                     String type = rs.getString("type");
                     String transCategory = rs.getString("category");
@@ -241,7 +312,7 @@ public class TransactionController {
                     LocalDate localDate = date.toLocalDate();
                     boolean isIncome = type.equalsIgnoreCase("income");
                     
-                    Transaction transaction = new Transaction(description, amount, localDate, isIncome, transCategory);
+                    Transaction transaction = Transaction.ofCents(description, amountCents, localDate, isIncome, transCategory);
                     transaction.setId(id);
                     transactions.add(transaction);
                 }
@@ -261,7 +332,8 @@ public class TransactionController {
     public List<Transaction> getTransactionsByMonth(int userId, int year, int month) {
         List<Transaction> transactions = new ArrayList<>();
         String sql = "SELECT * FROM transactions WHERE user_id = ? AND date >= ? AND date < ? ORDER BY date DESC";
-        try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
+        try (Connection conn = DatabaseManager.borrow(connection);
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
             // Set the start date to the first day of the month
             LocalDate startDate = LocalDate.of(year, month, 1);
             // Set the end date to the first day of the next month
@@ -286,14 +358,14 @@ public class TransactionController {
                     boolean isIncome = rs.getString("type") != null &&
                             rs.getString("type").equalsIgnoreCase("income");
                     LocalDate date = rs.getDate("date").toLocalDate();
-                    double amount = rs.getDouble("amount");
+                    long amountCents = Money.fromDecimal(rs.getBigDecimal("amount"));
                     String description = rs.getString("description");
                     
-                    System.out.println("Found transaction: ID=" + id + ", Date=" + date + ", Description=" + description + ", Amount=" + amount);
+                    System.out.println("Found transaction: ID=" + id + ", Date=" + date + ", Description=" + description + ", Amount=" + Money.format(amountCents));
                     
-                    Transaction transaction = new Transaction(
+                    Transaction transaction = Transaction.ofCents(
                             description,
-                            amount,
+                            amountCents,
                             date,
                             isIncome,
                             category
@@ -311,7 +383,8 @@ public class TransactionController {
     }
 
 /**
- * Awards XP to a user for logging a transaction and checks for quest completion
+ * Awards XP to a user for logging a transaction.
+ * Quest completion is checked by the TransactionAdded handler.
  */
 public void awardXpForTransaction(int userId) {
     try {
@@ -353,9 +426,6 @@ public void awardXpForTransaction(int userId) {
         // Award XP for the transaction
         boolean success = questController.addUserXP(userId, XP_REWARD_PER_TRANSACTION);
         System.out.println("DEBUG: QuestController.addUserXP result: " + success);
-        
-        // Check and complete quests automatically
-        questController.checkAndCompleteQuests(userId);
     } catch (SQLException e) {
         e.printStackTrace();
         System.out.println("Failed to award XP for transaction!");
@@ -370,12 +440,13 @@ public void awardXpForTransaction(int userId) {
  */
 public double getCategoryTotal(int userId, String category) {
     String query = "SELECT SUM(amount) as total FROM transactions WHERE user_id = ? AND category = ?";
-    try (PreparedStatement pstmt = connection.prepareStatement(query)) {
+    try (Connection conn = DatabaseManager.borrow(connection);
+         PreparedStatement pstmt = conn.prepareStatement(query)) {
         pstmt.setInt(1, userId);
         pstmt.setString(2, category);
         try (ResultSet rs = pstmt.executeQuery()) {
             if (rs.next()) {
-                return rs.getDouble("total");
+                return Money.toDouble(Money.fromDecimal(rs.getBigDecimal("total")));
             }
         }
     } catch (SQLException e) {
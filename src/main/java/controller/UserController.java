@@ -1,5 +1,6 @@
 package controller;
 
+import model.Money;
 import model.User;
 import utils.SessionManager;
 import database.DatabaseManager;
@@ -14,7 +15,8 @@ public class UserController {
         this.user = new User(username, email, balance);
         // Default user ID, should be updated from database when available
         this.userId = 1;
-        this.connection = DatabaseManager.getConnection();
+        // Each call borrows a pooled connection
+        this.connection = null;
     }
     
     /**
@@ -23,7 +25,7 @@ public class UserController {
     public UserController(int userId, String username, String email, double balance) throws SQLException {
         this.user = new User(username, email, balance);
         this.userId = userId;
-        this.connection = DatabaseManager.getConnection();
+        this.connection = null;
     }
 
     public UserController(Connection connection, int userId, String username, String email, double balance) {
@@ -84,17 +86,18 @@ public class UserController {
     public boolean setMonthlyBudget(int userId, double budget) {
         // First try to update existing budget
         String updateQuery = "UPDATE user_budget SET total_budget = ? WHERE user_id = ?";
-        try (PreparedStatement pstmt = connection.prepareStatement(updateQuery)) {
-            pstmt.setDouble(1, budget);
+        try (Connection conn = DatabaseManager.borrow(connection);
+             PreparedStatement pstmt = conn.prepareStatement(updateQuery)) {
+            pstmt.setBigDecimal(1, Money.toDecimal(Money.toCents(budget)));
             pstmt.setInt(2, userId);
             int affectedRows = pstmt.executeUpdate();
             
             // If no rows were updated, insert a new budget
             if (affectedRows == 0) {
                 String insertQuery = "INSERT INTO user_budget (user_id, total_budget) VALUES (?, ?)";
-                try (PreparedStatement insertStmt = connection.prepareStatement(insertQuery)) {
+                try (PreparedStatement insertStmt = conn.prepareStatement(insertQuery)) {
                     insertStmt.setInt(1, userId);
-                    insertStmt.setDouble(2, budget);
+                    insertStmt.setBigDecimal(2, Money.toDecimal(Money.toCents(budget)));
                     affectedRows = insertStmt.executeUpdate();
                 }
             }
@@ -113,11 +116,12 @@ public class UserController {
      */
     public double getMonthlyBudget(int userId) {
         String query = "SELECT total_budget FROM user_budget WHERE user_id = ?";
-        try (PreparedStatement pstmt = connection.prepareStatement(query)) {
+        try (Connection conn = DatabaseManager.borrow(connection);
+             PreparedStatement pstmt = conn.prepareStatement(query)) {
             pstmt.setInt(1, userId);
             try (ResultSet rs = pstmt.executeQuery()) {
                 if (rs.next()) {
-                    return rs.getDouble("total_budget");
+                    return Money.toDouble(Money.fromDecimal(rs.getBigDecimal("total_budget")));
                 }
             }
         } catch (SQLException e) {
@@ -133,17 +137,18 @@ public class UserController {
      */
     public boolean isBudgetExceeded(int userId) {
         String query = "SELECT ub.total_budget, " +
-                      "(SELECT COALESCE(SUM(CASE WHEN type = 'income' THEN amount ELSE -amount END), 0) FROM transactions " +
-                      "WHERE user_id = ? AND EXTRACT(MONTH FROM date) = EXTRACT(MONTH FROM CURRENT_DATE) " +
-                      "AND EXTRACT(YEAR FROM date) = EXTRACT(YEAR FROM CURRENT_DATE)) as total_spent " +
+                      "(SELECT COALESCE(SUM(income - expense), 0) FROM daily_user_totals " +
+                      "WHERE user_id = ? AND day >= date_trunc('month', CURRENT_DATE) " +
+                      "AND day < date_trunc('month', CURRENT_DATE) + INTERVAL '1 month') as total_spent " +
                       "FROM user_budget ub WHERE ub.user_id = ?";
-        try (PreparedStatement pstmt = connection.prepareStatement(query)) {
+        try (Connection conn = DatabaseManager.borrow(connection);
+             PreparedStatement pstmt = conn.prepareStatement(query)) {
             pstmt.setInt(1, userId);
             pstmt.setInt(2, userId);
             try (ResultSet rs = pstmt.executeQuery()) {
                 if (rs.next()) {
-                    double budget = rs.getDouble("total_budget");
-                    double spent = rs.getDouble("total_spent");
+                    long budget = Money.fromDecimal(rs.getBigDecimal("total_budget"));
+                    long spent = Money.fromDecimal(rs.getBigDecimal("total_spent"));
                     return spent > budget;
                 }
             }
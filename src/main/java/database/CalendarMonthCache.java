@@ -0,0 +1,328 @@
+package database;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+import database.dao.AsyncDao;
+import database.dao.TransactionDao;
+import database.dao.TransactionDaoImpl;
+import model.Transaction;
+
+/**
+ * A user's transactions bucketed by calendar month, with per-day totals,
+ * for screens that browse the history a month or a day at a time.
+ *
+ * Reading a month also prefetches the months before and after it in the
+ * background, so stepping through the calendar is served from memory.
+ * At most {@code fbg.calendar.months} months (default 12, over all users)
+ * are kept; the one read least recently is dropped first.
+ *
+ * Like {@link TransactionCache}, it is told about every write to the
+ * transactions table. A write drops only the months it touches; they are
+ * reloaded on the next read. Writes it is not told about are picked up the
+ * same way as there: months are reloaded once they are
+ * {@code fbg.cache.maxAgeSeconds} old (default 300), and a user's months are
+ * dropped on login and logout.
+ */
+public class CalendarMonthCache {
+    private static final CalendarMonthCache INSTANCE = new CalendarMonthCache(new TransactionDaoImpl());
+    private static final int MAX_MONTHS = Integer.getInteger("fbg.calendar.months", 12);
+    private static final long MAX_AGE_NANOS = Long.getLong("fbg.cache.maxAgeSeconds", 300) * 1_000_000_000L;
+
+    /**
+     * Count and totals for one day, in cents.
+     */
+    public static class DaySummary {
+        public static final DaySummary EMPTY = new DaySummary();
+
+        private int count;
+        private long incomeCents;
+        private long expenseCents;
+
+        public int getCount() {
+            return count;
+        }
+
+        public long getIncomeCents() {
+            return incomeCents;
+        }
+
+        public long getExpenseCents() {
+            return expenseCents;
+        }
+    }
+
+    /**
+     * One month of a user's transactions. Immutable once built.
+     */
+    public static class Month {
+        private final YearMonth month;
+        // Indexed by day of month - 1
+        private final List<List<Transaction>> days;
+        private final DaySummary[] summaries;
+        private final int[] sortedIds;
+
+        Month(YearMonth month, List<Transaction> transactions) {
+            this.month = month;
+            int length = month.lengthOfMonth();
+            List<List<Transaction>> byDay = new ArrayList<>(length);
+            summaries = new DaySummary[length];
+            for (int i = 0; i < length; i++) {
+                byDay.add(new ArrayList<>());
+                summaries[i] = new DaySummary();
+            }
+            sortedIds = new int[transactions.size()];
+            int n = 0;
+            for (Transaction t : transactions) {
+                int index = t.getDate().getDayOfMonth() - 1;
+                byDay.get(index).add(t);
+                DaySummary summary = summaries[index];
+                summary.count++;
+                if (t.isIncome()) {
+                    summary.incomeCents += t.getAmountCents();
+                } else {
+                    summary.expenseCents += t.getAmountCents();
+                }
+                sortedIds[n++] = t.getId();
+            }
+            Arrays.sort(sortedIds);
+            for (int i = 0; i < length; i++) {
+                byDay.set(i, Collections.unmodifiableList(byDay.get(i)));
+            }
+            days = Collections.unmodifiableList(byDay);
+        }
+
+        public YearMonth getMonth() {
+            return month;
+        }
+
+        public List<Transaction> getTransactions(LocalDate day) {
+            return YearMonth.from(day).equals(month) ? days.get(day.getDayOfMonth() - 1) : List.of();
+        }
+
+        public DaySummary getSummary(LocalDate day) {
+            return YearMonth.from(day).equals(month) ? summaries[day.getDayOfMonth() - 1] : DaySummary.EMPTY;
+        }
+
+        boolean contains(int transactionId) {
+            return Arrays.binarySearch(sortedIds, transactionId) >= 0;
+        }
+    }
+
+    private static class Key {
+        final int userId;
+        final YearMonth month;
+
+        Key(int userId, YearMonth month) {
+            this.userId = userId;
+            this.month = month;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key other && other.userId == userId && other.month.equals(month);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(userId, month);
+        }
+    }
+
+    private static class Entry {
+        Month month;
+        long loadedAt;
+        CompletableFuture<Month> loading;
+        // Bumped by every write and on eviction, so an overlapping load is not kept
+        int version;
+    }
+
+    private final TransactionDao transactionDao;
+    // Access order: the first entry is the month read least recently. Guarded by itself.
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+            if (size() > MAX_MONTHS) {
+                eldest.getValue().version++;
+                evictions++;
+                return true;
+            }
+            return false;
+        }
+    };
+    private long hits;
+    private long loads;
+    private long prefetches;
+    private long evictions;
+    private long invalidations;
+
+    public CalendarMonthCache(TransactionDao transactionDao) {
+        this.transactionDao = transactionDao;
+    }
+
+    public static CalendarMonthCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the month, loading it if needed, and starts loading the
+     * adjacent months in the background.
+     */
+    public Month getMonth(int userId, YearMonth month) throws SQLException {
+        CompletableFuture<Month> load = startLoad(new Key(userId, month), false);
+        prefetch(userId, month.minusMonths(1));
+        prefetch(userId, month.plusMonths(1));
+        return AsyncDao.await(load);
+    }
+
+    /**
+     * @return the month if it is already in memory, otherwise null
+     */
+    public Month getIfCached(int userId, YearMonth month) {
+        synchronized (entries) {
+            Entry entry = entries.get(new Key(userId, month));
+            return entry != null && isFresh(entry) ? entry.month : null;
+        }
+    }
+
+    /**
+     * Starts loading a month in the background unless it is cached or already loading.
+     */
+    public void prefetch(int userId, YearMonth month) {
+        startLoad(new Key(userId, month), true);
+    }
+
+    public void transactionAdded(int userId, LocalDate date) {
+        invalidate(new Key(userId, YearMonth.from(date)));
+    }
+
+    public void transactionsAdded(Collection<Transaction> transactions) {
+        for (Transaction transaction : transactions) {
+            transactionAdded(transaction.getUserId(), transaction.getDate());
+        }
+    }
+
+    /**
+     * The row may have moved to another month, so both its old and new month are dropped.
+     */
+    public void transactionUpdated(Transaction transaction) {
+        transactionChanged(transaction.getId());
+        transactionAdded(transaction.getUserId(), transaction.getDate());
+    }
+
+    /**
+     * Drops the cached months holding the row, e.g. after its category
+     * changed or it was deleted. Writes only name the row, so every cached
+     * month is checked.
+     */
+    public void transactionChanged(int transactionId) {
+        List<Key> affected = new ArrayList<>();
+        synchronized (entries) {
+            // Iterating does not change the access order
+            for (Map.Entry<Key, Entry> e : entries.entrySet()) {
+                Month month = e.getValue().month;
+                if (month != null && month.contains(transactionId)) {
+                    affected.add(e.getKey());
+                }
+            }
+        }
+        for (Key key : affected) {
+            invalidate(key);
+        }
+    }
+
+    public void invalidate(int userId) {
+        synchronized (entries) {
+            for (Map.Entry<Key, Entry> e : entries.entrySet()) {
+                if (e.getKey().userId == userId) {
+                    drop(e.getValue());
+                }
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        synchronized (entries) {
+            return String.format("Calendar months: cached=%d hits=%d loads=%d prefetches=%d evictions=%d invalidations=%d",
+                    entries.size(), hits, loads, prefetches, evictions, invalidations);
+        }
+    }
+
+    private void invalidate(Key key) {
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                drop(entry);
+            }
+        }
+    }
+
+    private void drop(Entry entry) {
+        entry.version++;
+        entry.month = null;
+        entry.loading = null;
+        invalidations++;
+    }
+
+    // Caller holds the entries lock
+    private boolean isFresh(Entry entry) {
+        return System.nanoTime() - entry.loadedAt < MAX_AGE_NANOS;
+    }
+
+    private CompletableFuture<Month> startLoad(Key key, boolean prefetch) {
+        synchronized (entries) {
+            Entry entry = entries.computeIfAbsent(key, k -> new Entry());
+            if (entry.month != null && isFresh(entry)) {
+                if (!prefetch) {
+                    hits++;
+                }
+                return CompletableFuture.completedFuture(entry.month);
+            }
+            if (entry.loading != null) {
+                return entry.loading;
+            }
+            if (prefetch) {
+                prefetches++;
+            } else {
+                loads++;
+            }
+            int version = entry.version;
+            long started = System.nanoTime();
+            LocalDate from = key.month.atDay(1);
+            // Callers get the stage after the month is stored, so a finished
+            // getMonth is always visible to getIfCached
+            CompletableFuture<Month> load = AsyncDao.call(() ->
+                    new Month(key.month, transactionDao.getTransactionsBetween(key.userId, from, from.plusMonths(1))))
+                    .whenComplete((month, error) -> {
+                        synchronized (entries) {
+                            // A write or eviction bumps the version and clears loading itself
+                            if (entry.version == version) {
+                                entry.loading = null;
+                                if (error == null) {
+                                    entry.month = month;
+                                    entry.loadedAt = started;
+                                }
+                            }
+                        }
+                        if (error != null && prefetch) {
+                            System.out.println("Could not prefetch " + key.month + ": " + error.getMessage());
+                        }
+                    });
+            if (!load.isDone()) {
+                entry.loading = load;
+            }
+            return load;
+        }
+    }
+}
@@ -0,0 +1,492 @@
+package database;
+
+import java.awt.EventQueue;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A small bounded JDBC connection pool.
+ * Connections handed out are proxies: calling close() returns the physical
+ * connection to the pool instead of closing it, so existing
+ * try-with-resources DAO code works unchanged.
+ */
+public class ConnectionPool implements AutoCloseable {
+
+    /**
+     * Pool sizing and timing settings. Defaults are read from system
+     * properties so the pool can be sized without a rebuild.
+     */
+    public static class Config {
+        int minSize = Integer.getInteger("fbg.pool.minSize", 2);
+        int maxSize = Integer.getInteger("fbg.pool.maxSize", 10);
+        long borrowTimeoutMillis = Long.getLong("fbg.pool.borrowTimeoutMs", 10_000L);
+        long idleTimeoutMillis = Long.getLong("fbg.pool.idleTimeoutMs", 300_000L);
+        long leakThresholdMillis = Long.getLong("fbg.pool.leakThresholdMs", 60_000L);
+        long validationIntervalMillis = Long.getLong("fbg.pool.validationIntervalMs", 1_000L);
+        long housekeepingIntervalMillis = Long.getLong("fbg.pool.housekeepingMs", 30_000L);
+
+        public Config minSize(int minSize) { this.minSize = minSize; return this; }
+        public Config maxSize(int maxSize) { this.maxSize = maxSize; return this; }
+        public Config borrowTimeoutMillis(long millis) { this.borrowTimeoutMillis = millis; return this; }
+        public Config idleTimeoutMillis(long millis) { this.idleTimeoutMillis = millis; return this; }
+        public Config leakThresholdMillis(long millis) { this.leakThresholdMillis = millis; return this; }
+        public Config validationIntervalMillis(long millis) { this.validationIntervalMillis = millis; return this; }
+        public Config housekeepingIntervalMillis(long millis) { this.housekeepingIntervalMillis = millis; return this; }
+
+        public int getMaxSize() {
+            return maxSize;
+        }
+    }
+
+    /**
+     * Opens physical connections. Lets tests run the pool without a database.
+     */
+    public interface ConnectionFactory {
+        Connection create() throws SQLException;
+    }
+
+    /**
+     * Immutable snapshot of the pool counters.
+     */
+    public static class Stats {
+        private final int active;
+        private final int idle;
+        private final int maxSize;
+        private final long borrowCount;
+        private final long waitCount;
+        private final long totalWaitNanos;
+        private final long maxWaitNanos;
+        private final long timeouts;
+        private final long leaksDetected;
+        private final long edtBorrowCount;
+
+        Stats(int active, int idle, int maxSize, long borrowCount, long waitCount,
+              long totalWaitNanos, long maxWaitNanos, long timeouts, long leaksDetected,
+              long edtBorrowCount) {
+            this.active = active;
+            this.idle = idle;
+            this.maxSize = maxSize;
+            this.borrowCount = borrowCount;
+            this.waitCount = waitCount;
+            this.totalWaitNanos = totalWaitNanos;
+            this.maxWaitNanos = maxWaitNanos;
+            this.timeouts = timeouts;
+            this.leaksDetected = leaksDetected;
+            this.edtBorrowCount = edtBorrowCount;
+        }
+
+        public int getActive() { return active; }
+        public int getIdle() { return idle; }
+        public int getTotal() { return active + idle; }
+        public int getMaxSize() { return maxSize; }
+        public long getBorrowCount() { return borrowCount; }
+        public long getWaitCount() { return waitCount; }
+        public long getTimeouts() { return timeouts; }
+        public long getLeaksDetected() { return leaksDetected; }
+        // Borrows made on the Swing event dispatch thread; should stay 0
+        public long getEdtBorrowCount() { return edtBorrowCount; }
+
+        public double getAverageWaitMillis() {
+            return borrowCount == 0 ? 0.0 : (totalWaitNanos / 1_000_000.0) / borrowCount;
+        }
+
+        public double getMaxWaitMillis() {
+            return maxWaitNanos / 1_000_000.0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("active=%d idle=%d max=%d borrows=%d waits=%d avgWait=%.2fms maxWait=%.2fms timeouts=%d leaks=%d edtBorrows=%d",
+                    active, idle, maxSize, borrowCount, waitCount, getAverageWaitMillis(), getMaxWaitMillis(), timeouts, leaksDetected,
+                    edtBorrowCount);
+        }
+    }
+
+    // A physical connection plus its bookkeeping
+    private static class Entry {
+        final Connection physical;
+        long lastUsedAt;
+        long borrowedAt;
+        Throwable borrowSite;
+        boolean leakReported;
+
+        Entry(Connection physical) {
+            this.physical = physical;
+            this.lastUsedAt = System.currentTimeMillis();
+        }
+    }
+
+    private final ConnectionFactory factory;
+    private final Config config;
+    private final ReentrantLock lock = new ReentrantLock(true);
+    private final Condition available = lock.newCondition();
+    private final Deque<Entry> idle = new ArrayDeque<>();
+    private final Set<Entry> active = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService housekeeper;
+    private int total;
+    private boolean closed;
+
+    private long borrowCount;
+    private long waitCount;
+    private long totalWaitNanos;
+    private long maxWaitNanos;
+    private long timeouts;
+    private long leaksDetected;
+    private long edtBorrowCount;
+
+    public ConnectionPool(String url, String user, String password, Config config) {
+        this(() -> DriverManager.getConnection(url, user, password), config);
+    }
+
+    public ConnectionPool(ConnectionFactory factory, Config config) {
+        if (config.maxSize < 1 || config.minSize < 0 || config.minSize > config.maxSize) {
+            throw new IllegalArgumentException("Invalid pool size: min=" + config.minSize + " max=" + config.maxSize);
+        }
+        this.factory = factory;
+        this.config = config;
+        this.housekeeper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "connection-pool-housekeeper");
+            t.setDaemon(true);
+            return t;
+        });
+        housekeeper.scheduleWithFixedDelay(this::housekeep,
+                config.housekeepingIntervalMillis, config.housekeepingIntervalMillis, TimeUnit.MILLISECONDS);
+        fillToMinimum();
+    }
+
+    /**
+     * Borrows a connection, waiting up to the configured timeout when the
+     * pool is exhausted.
+     */
+    public Connection getConnection() throws SQLException {
+        long start = System.nanoTime();
+        long remaining = TimeUnit.MILLISECONDS.toNanos(config.borrowTimeoutMillis);
+        boolean waited = false;
+        while (true) {
+            Entry entry = null;
+            boolean create = false;
+            lock.lock();
+            try {
+                while (!closed && idle.isEmpty() && total >= config.maxSize) {
+                    if (remaining <= 0L) {
+                        timeouts++;
+                        throw new SQLException("Timed out after " + config.borrowTimeoutMillis
+                                + "ms waiting for a database connection (" + snapshot() + ")");
+                    }
+                    waited = true;
+                    try {
+                        remaining = available.awaitNanos(remaining);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new SQLException("Interrupted while waiting for a database connection", e);
+                    }
+                }
+                if (closed) {
+                    throw new SQLException("Connection pool is closed");
+                }
+                entry = idle.pollFirst();
+                if (entry == null) {
+                    total++;
+                    create = true;
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            if (create) {
+                try {
+                    entry = new Entry(factory.create());
+                } catch (SQLException | RuntimeException e) {
+                    discard(null);
+                    throw e;
+                }
+            } else if (!validate(entry)) {
+                discard(entry);
+                continue;
+            }
+            return checkOut(entry, start, waited);
+        }
+    }
+
+    /**
+     * Returns the current pool counters.
+     */
+    public Stats getStats() {
+        lock.lock();
+        try {
+            return snapshot();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        List<Entry> toClose;
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            toClose = new ArrayList<>(idle);
+            total -= idle.size();
+            idle.clear();
+            available.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        housekeeper.shutdownNow();
+        for (Entry entry : toClose) {
+            closeQuietly(entry.physical);
+        }
+    }
+
+    /**
+     * Wraps a connection the caller owns so that close() is a no-op.
+     */
+    public static Connection nonClosing(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                ConnectionPool.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("close")) {
+                        return null;
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
+    private Connection checkOut(Entry entry, long start, boolean waited) {
+        long waitNanos = System.nanoTime() - start;
+        entry.borrowedAt = System.currentTimeMillis();
+        entry.borrowSite = config.leakThresholdMillis > 0 ? new Throwable("Connection borrowed here") : null;
+        entry.leakReported = false;
+        active.add(entry);
+        lock.lock();
+        try {
+            borrowCount++;
+            if (EventQueue.isDispatchThread()) {
+                edtBorrowCount++;
+            }
+            if (waited) {
+                waitCount++;
+            }
+            totalWaitNanos += waitNanos;
+            maxWaitNanos = Math.max(maxWaitNanos, waitNanos);
+        } finally {
+            lock.unlock();
+        }
+        return (Connection) Proxy.newProxyInstance(
+                ConnectionPool.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                new PooledHandler(entry));
+    }
+
+    // Skip the round trip for connections that were in use very recently
+    private boolean validate(Entry entry) {
+        if (System.currentTimeMillis() - entry.lastUsedAt < config.validationIntervalMillis) {
+            return true;
+        }
+        try {
+            return entry.physical.isValid(2);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private void release(Entry entry) {
+        active.remove(entry);
+        boolean healthy;
+        try {
+            healthy = !entry.physical.isClosed();
+            if (healthy) {
+                // Undo anything the borrower left behind
+                if (!entry.physical.getAutoCommit()) {
+                    entry.physical.rollback();
+                    entry.physical.setAutoCommit(true);
+                }
+                entry.physical.clearWarnings();
+            }
+        } catch (SQLException e) {
+            healthy = false;
+        }
+        if (!healthy) {
+            discard(entry);
+            return;
+        }
+        entry.lastUsedAt = System.currentTimeMillis();
+        lock.lock();
+        try {
+            if (!closed) {
+                idle.addFirst(entry);
+                available.signal();
+                return;
+            }
+            total--;
+        } finally {
+            lock.unlock();
+        }
+        closeQuietly(entry.physical);
+    }
+
+    private void discard(Entry entry) {
+        lock.lock();
+        try {
+            total--;
+            available.signal();
+        } finally {
+            lock.unlock();
+        }
+        if (entry != null) {
+            closeQuietly(entry.physical);
+        }
+    }
+
+    private void fillToMinimum() {
+        while (true) {
+            lock.lock();
+            try {
+                if (closed || total >= config.minSize) {
+                    return;
+                }
+                total++;
+            } finally {
+                lock.unlock();
+            }
+            try {
+                Entry entry = new Entry(factory.create());
+                lock.lock();
+                try {
+                    idle.addLast(entry);
+                    available.signal();
+                } finally {
+                    lock.unlock();
+                }
+            } catch (SQLException | RuntimeException e) {
+                discard(null);
+                System.err.println("Connection pool could not pre-open a connection: " + e.getMessage());
+                return;
+            }
+        }
+    }
+
+    private void housekeep() {
+        long now = System.currentTimeMillis();
+        List<Entry> evicted = new ArrayList<>();
+        lock.lock();
+        try {
+            // Oldest idle connections sit at the tail of the deque
+            Iterator<Entry> it = idle.descendingIterator();
+            while (it.hasNext() && total > config.minSize) {
+                Entry entry = it.next();
+                if (now - entry.lastUsedAt >= config.idleTimeoutMillis) {
+                    it.remove();
+                    total--;
+                    evicted.add(entry);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        for (Entry entry : evicted) {
+            closeQuietly(entry.physical);
+        }
+
+        if (config.leakThresholdMillis > 0) {
+            for (Entry entry : active) {
+                if (!entry.leakReported && now - entry.borrowedAt >= config.leakThresholdMillis) {
+                    entry.leakReported = true;
+                    lock.lock();
+                    try {
+                        leaksDetected++;
+                    } finally {
+                        lock.unlock();
+                    }
+                    System.err.println("Possible connection leak: connection held for "
+                            + (now - entry.borrowedAt) + "ms");
+                    if (entry.borrowSite != null) {
+                        entry.borrowSite.printStackTrace();
+                    }
+                }
+            }
+        }
+        fillToMinimum();
+    }
+
+    private Stats snapshot() {
+        return new Stats(active.size(), idle.size(), config.maxSize, borrowCount, waitCount,
+                totalWaitNanos, maxWaitNanos, timeouts, leaksDetected, edtBorrowCount);
+    }
+
+    private static void closeQuietly(Connection connection) {
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            // Nothing useful to do with a connection we are throwing away
+        }
+    }
+
+    /**
+     * Routes calls to the physical connection until the borrower closes it.
+     */
+    private class PooledHandler implements InvocationHandler {
+        private final Entry entry;
+        private boolean returned;
+
+        PooledHandler(Entry entry) {
+            this.entry = entry;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!returned) {
+                        returned = true;
+                        release(entry);
+                    }
+                    return null;
+                case "isClosed":
+                    return returned || entry.physical.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Pooled[" + entry.physical + "]";
+                default:
+                    break;
+            }
+            if (returned) {
+                throw new SQLException("Connection has already been returned to the pool");
+            }
+            try {
+                return method.invoke(entry.physical, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
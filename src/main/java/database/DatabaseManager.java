@@ -1,52 +1,74 @@
 package database;
 
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
-import java.sql.DatabaseMetaData;
-import java.sql.ResultSet;
-import java.sql.Statement;
 
 public class DatabaseManager{
-    // Updated URL to match host port (5431) and database name (KKS)
-    private static final String URL = "jdbc:postgresql://localhost:5431/KKS";
+    // Updated URL to match host port (5431) and database name (KKS).
+    // reWriteBatchedInserts turns executeBatch into multi-row INSERTs
+    private static final String URL = "jdbc:postgresql://localhost:5431/KKS?reWriteBatchedInserts=true";
     private static final String USER = "khalifa";
     private static final String PASSWORD = "your_password";
 
-    // Always return a new connection
+    private static ConnectionPool pool;
+    private static SchemaMigrator.Report migrationReport;
+
+    // Borrow a pooled connection; close() hands it back to the pool
     public static Connection getConnection() throws SQLException {
-        try {
-            Class.forName("org.postgresql.Driver");
-        } catch (ClassNotFoundException e) {
-            throw new SQLException("PostgreSQL JDBC Driver not found!", e);
+        // Schema changes are applied once by migrate(), never per connection
+        return getPool().getConnection();
+    }
+
+    /**
+     * Applies pending schema migrations. Runs at most once per JVM; later
+     * calls return the report from the first run.
+     */
+    public static synchronized SchemaMigrator.Report migrate() throws SQLException {
+        if (migrationReport == null) {
+            try (Connection connection = getPool().getConnection()) {
+                migrationReport = new SchemaMigrator().migrate(connection);
+            }
+            System.out.println(migrationReport);
+        }
+        return migrationReport;
+    }
+
+    /**
+     * Returns a connection for one unit of work. A caller-owned connection
+     * (e.g. a test stub) is wrapped so close() leaves it open; otherwise a
+     * pooled connection is borrowed.
+     */
+    public static Connection borrow(Connection owned) throws SQLException {
+        return owned != null ? ConnectionPool.nonClosing(owned) : getConnection();
+    }
+
+    /**
+     * Returns the current pool counters (active, idle, wait times).
+     */
+    public static ConnectionPool.Stats getPoolStats() throws SQLException {
+        return getPool().getStats();
+    }
+
+    /**
+     * Closes every pooled connection. Called on JVM shutdown.
+     */
+    public static synchronized void shutdown() {
+        if (pool != null) {
+            pool.close();
+            pool = null;
         }
-        
-        Connection connection = DriverManager.getConnection(URL, USER, PASSWORD);
-        
-        // Ensure the username column exists in the users table
-        ensureUsernameColumnExists(connection);
-        
-        return connection;
     }
 
-    private static void ensureUsernameColumnExists(Connection connection) {
-        try {
-            // PostgreSQL-specific way to add a column if it doesn't exist
-            Statement stmt = connection.createStatement();
-            stmt.execute(
-                "DO $$ BEGIN " +
-                "    BEGIN " +
-                "        ALTER TABLE users ADD COLUMN username VARCHAR(100); " +
-                "    EXCEPTION " +
-                "        WHEN duplicate_column THEN NULL; " +
-                "    END; " +
-                "END $$;"
-            );
-            stmt.close();
-            System.out.println("Username column checked/added to users table");
-        } catch (Exception e) {
-            System.err.println("Error ensuring username column exists: " + e.getMessage());
-            // Continue without failing - the application will use email fallback
+    private static synchronized ConnectionPool getPool() throws SQLException {
+        if (pool == null) {
+            try {
+                Class.forName("org.postgresql.Driver");
+            } catch (ClassNotFoundException e) {
+                throw new SQLException("PostgreSQL JDBC Driver not found!", e);
+            }
+            pool = new ConnectionPool(URL, USER, PASSWORD, new ConnectionPool.Config());
+            Runtime.getRuntime().addShutdownHook(new Thread(DatabaseManager::shutdown, "connection-pool-shutdown"));
         }
+        return pool;
     }
 }
@@ -0,0 +1,168 @@
+package database;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Applies the versioned SQL scripts under /db/migration exactly once per
+ * database and records them in the schema_migrations table.
+ * Scripts are named V&lt;version&gt;__&lt;description&gt;.sql and must be listed
+ * in {@link #MIGRATIONS} in version order.
+ */
+public class SchemaMigrator {
+    private static final String MIGRATION_PATH = "/db/migration/";
+
+    // Keep in version order; never edit a script once it has shipped
+    static final String[] MIGRATIONS = {
+            "V1__baseline.sql",
+            "V2__users_username.sql",
+            "V3__transaction_indexes.sql",
+            "V4__transactions_keyset_index.sql",
+            "V5__daily_user_totals.sql",
+            "V6__quest_rules.sql",
+            "V7__quiz_completions.sql",
+            "V8__user_experience_rank_index.sql",
+            "V9__money_numeric.sql"
+    };
+
+    // Arbitrary key so concurrent app instances migrate one at a time
+    private static final long ADVISORY_LOCK_KEY = 2311_0001L;
+
+    /**
+     * Timing for a single migration run.
+     */
+    public static class Report {
+        private final List<String> lines = new ArrayList<>();
+        private int applied;
+        private int skipped;
+        private long totalMillis;
+
+        void recordApplied(String script, long millis) {
+            applied++;
+            lines.add(String.format("  %-40s %6d ms", script, millis));
+        }
+
+        void recordSkipped() {
+            skipped++;
+        }
+
+        public int getApplied() {
+            return applied;
+        }
+
+        public int getSkipped() {
+            return skipped;
+        }
+
+        public long getTotalMillis() {
+            return totalMillis;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder("Schema migrations: ")
+                    .append(applied).append(" applied, ")
+                    .append(skipped).append(" already up to date, ")
+                    .append(totalMillis).append(" ms total");
+            for (String line : lines) {
+                sb.append(System.lineSeparator()).append(line);
+            }
+            return sb.toString();
+        }
+    }
+
+    /**
+     * Brings the schema up to date on the given connection.
+     * Each script runs in its own transaction together with its bookkeeping row.
+     */
+    public Report migrate(Connection conn) throws SQLException {
+        Report report = new Report();
+        long start = System.nanoTime();
+        boolean autoCommit = conn.getAutoCommit();
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE TABLE IF NOT EXISTS schema_migrations (" +
+                    "version INTEGER PRIMARY KEY, " +
+                    "script VARCHAR(255) NOT NULL, " +
+                    "execution_ms BIGINT NOT NULL, " +
+                    "applied_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP)");
+            stmt.execute("SELECT pg_advisory_lock(" + ADVISORY_LOCK_KEY + ")");
+            try {
+                Set<Integer> appliedVersions = loadAppliedVersions(conn);
+                conn.setAutoCommit(false);
+                for (String script : MIGRATIONS) {
+                    int version = versionOf(script);
+                    if (appliedVersions.contains(version)) {
+                        report.recordSkipped();
+                        continue;
+                    }
+                    long scriptStart = System.nanoTime();
+                    try {
+                        stmt.execute(readScript(script));
+                        long millis = (System.nanoTime() - scriptStart) / 1_000_000;
+                        recordVersion(conn, version, script, millis);
+                        conn.commit();
+                        report.recordApplied(script, millis);
+                    } catch (SQLException e) {
+                        conn.rollback();
+                        throw new SQLException("Migration " + script + " failed: " + e.getMessage(), e);
+                    }
+                }
+            } finally {
+                conn.setAutoCommit(autoCommit);
+                stmt.execute("SELECT pg_advisory_unlock(" + ADVISORY_LOCK_KEY + ")");
+            }
+        }
+        report.totalMillis = (System.nanoTime() - start) / 1_000_000;
+        return report;
+    }
+
+    private Set<Integer> loadAppliedVersions(Connection conn) throws SQLException {
+        Set<Integer> versions = new HashSet<>();
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT version FROM schema_migrations")) {
+            while (rs.next()) {
+                versions.add(rs.getInt(1));
+            }
+        }
+        return versions;
+    }
+
+    private void recordVersion(Connection conn, int version, String script, long millis) throws SQLException {
+        String sql = "INSERT INTO schema_migrations (version, script, execution_ms) VALUES (?, ?, ?)";
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setInt(1, version);
+            pstmt.setString(2, script);
+            pstmt.setLong(3, millis);
+            pstmt.executeUpdate();
+        }
+    }
+
+    static int versionOf(String script) {
+        int end = script.indexOf("__");
+        if (!script.startsWith("V") || end < 2) {
+            throw new IllegalArgumentException("Migration script name must look like V<n>__name.sql: " + script);
+        }
+        return Integer.parseInt(script.substring(1, end));
+    }
+
+    private String readScript(String script) throws SQLException {
+        try (InputStream in = SchemaMigrator.class.getResourceAsStream(MIGRATION_PATH + script)) {
+            if (in == null) {
+                throw new SQLException("Migration script not found on classpath: " + script);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new SQLException("Could not read migration script " + script, e);
+        }
+    }
+}
@@ -644,7 +644,7 @@ public class StubResultSet implements ResultSet {
 
     @Override
     public java.math.BigDecimal getBigDecimal(String columnLabel) throws SQLException {
-        throw new SQLException("Not supported in stub implementation");
+        return java.math.BigDecimal.valueOf(getDouble(columnLabel));
     }
 
     @Override
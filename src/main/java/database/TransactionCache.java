@@ -0,0 +1,170 @@
+package database;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import database.dao.TransactionDao;
+import database.dao.TransactionDaoImpl;
+import model.Transaction;
+import model.TransactionColumns;
+
+/**
+ * Per-user {@link TransactionColumns}, loaded from the database on first use
+ * and kept current by the code that writes the transactions table, which
+ * reports every insert, update and delete here after it succeeds.
+ * When a change cannot be applied exactly (e.g. deleting a row that was
+ * added without its id), the user's columns are dropped and reloaded on the
+ * next read.
+ *
+ * Writes made elsewhere (another client, or a DAO on a caller-owned
+ * connection) are not reported, so columns are also reloaded once they are
+ * {@code fbg.cache.maxAgeSeconds} old (default 300), and a user's columns are
+ * dropped on login and logout. At most {@code fbg.cache.users} users (default
+ * 8) are kept; the one read least recently is dropped first.
+ */
+public class TransactionCache {
+    private static final TransactionCache INSTANCE = new TransactionCache(new TransactionDaoImpl());
+    private static final int MAX_USERS = Integer.getInteger("fbg.cache.users", 8);
+    private static final long MAX_AGE_NANOS = Long.getLong("fbg.cache.maxAgeSeconds", 300) * 1_000_000_000L;
+
+    private static class Entry {
+        volatile TransactionColumns columns;
+        volatile long loadedAt;
+        volatile long lastRead;
+        // Bumped by every write, so a load that overlapped one is not kept
+        volatile int version;
+    }
+
+    private final TransactionDao transactionDao;
+    private final Map<Integer, Entry> entries = new ConcurrentHashMap<>();
+
+    public TransactionCache(TransactionDao transactionDao) {
+        this.transactionDao = transactionDao;
+    }
+
+    public static TransactionCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the user's transactions, loading them the first time.
+     */
+    public TransactionColumns columnsFor(int userId) throws SQLException {
+        long now = System.nanoTime();
+        Entry entry = entries.get(userId);
+        if (entry == null) {
+            entry = entries.computeIfAbsent(userId, id -> new Entry());
+            entry.lastRead = now;
+            evictOverflow(userId);
+        }
+        entry.lastRead = now;
+        TransactionColumns columns = entry.columns;
+        if (columns != null && now - entry.loadedAt < MAX_AGE_NANOS) {
+            return columns;
+        }
+        int version = entry.version;
+        TransactionColumns loaded = new TransactionColumns();
+        transactionDao.forEachTransaction(userId, loaded::add);
+        synchronized (entry) {
+            if (entry.version == version && (entry.columns == null || entry.columns == columns)) {
+                entry.columns = loaded;
+                entry.loadedAt = now;
+            }
+            return entry.columns != null ? entry.columns : loaded;
+        }
+    }
+
+    public void invalidate(int userId) {
+        Entry entry = entries.get(userId);
+        if (entry != null) {
+            synchronized (entry) {
+                entry.version++;
+                entry.columns = null;
+            }
+        }
+    }
+
+    /**
+     * Records a new row whose database id the caller does not know.
+     */
+    public void transactionAdded(int userId, LocalDate date, double amount, String category, boolean isIncome) {
+        TransactionColumns columns = beginWrite(userId);
+        if (columns != null) {
+            columns.add(TransactionColumns.UNKNOWN_ID, date, amount, category, isIncome);
+        }
+    }
+
+    public void transactionsAdded(Collection<Transaction> transactions) {
+        for (Transaction transaction : transactions) {
+            TransactionColumns columns = beginWrite(transaction.getUserId());
+            if (columns != null) {
+                columns.add(transaction);
+            }
+        }
+    }
+
+    public void transactionUpdated(Transaction transaction) {
+        TransactionColumns columns = beginWrite(transaction.getUserId());
+        if (columns != null && !columns.update(transaction)) {
+            invalidate(transaction.getUserId());
+        }
+    }
+
+    public void categoryChanged(int userId, int transactionId, String category) {
+        TransactionColumns columns = beginWrite(userId);
+        if (columns != null && !columns.updateCategory(transactionId, category)) {
+            invalidate(userId);
+        }
+    }
+
+    /**
+     * The delete only names the row, so every loaded user is checked.
+     */
+    public void transactionDeleted(int transactionId) {
+        for (Map.Entry<Integer, Entry> e : entries.entrySet()) {
+            TransactionColumns columns = beginWrite(e.getKey());
+            if (columns != null && columns.remove(transactionId)) {
+                return;
+            }
+        }
+        // Not found by id; it may be one of the rows added without one
+        for (Map.Entry<Integer, Entry> e : entries.entrySet()) {
+            TransactionColumns columns = e.getValue().columns;
+            if (columns != null && columns.hasUnknownIds()) {
+                invalidate(e.getKey());
+            }
+        }
+    }
+
+    // Drops the users read least recently, never the one being read
+    private void evictOverflow(int reading) {
+        while (entries.size() > MAX_USERS) {
+            Map.Entry<Integer, Entry> eldest = null;
+            for (Map.Entry<Integer, Entry> e : entries.entrySet()) {
+                if (e.getKey() != reading && (eldest == null || e.getValue().lastRead < eldest.getValue().lastRead)) {
+                    eldest = e;
+                }
+            }
+            if (eldest == null) {
+                return;
+            }
+            invalidate(eldest.getKey());
+            entries.remove(eldest.getKey(), eldest.getValue());
+        }
+    }
+
+    // Marks the write so overlapping loads are discarded; returns the loaded columns, if any
+    private TransactionColumns beginWrite(int userId) {
+        Entry entry = entries.get(userId);
+        if (entry == null) {
+            return null;
+        }
+        synchronized (entry) {
+            entry.version++;
+            return entry.columns;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package database.dao;
+
+import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+import database.ConnectionPool;
+
+/**
+ * Non-blocking facade over the synchronous DAOs.
+ *
+ * Each call runs on its own virtual thread and completes a
+ * {@link CompletableFuture}. At most as many calls as the connection pool
+ * has connections run at once; the rest wait here for a permit instead of
+ * timing out while borrowing from the {@link ConnectionPool}. Futures fail
+ * with the DAO's SQLException; {@link #await} rethrows it unwrapped.
+ *
+ * <pre>
+ * CompletableFuture&lt;List&lt;Goal&gt;&gt; goals = AsyncDao.goals().supply(dao -&gt; dao.getActiveGoalsByUserId(userId));
+ * CompletableFuture&lt;int[]&gt; xp = AsyncDao.experience().supply(dao -&gt; dao.getUserExperience(userId));
+ * render(AsyncDao.await(goals), AsyncDao.await(xp));
+ * </pre>
+ */
+public final class AsyncDao<D> {
+
+    /**
+     * A DAO call that returns a value.
+     */
+    public interface SqlFunction<D, T> {
+        T apply(D dao) throws SQLException;
+    }
+
+    /**
+     * A DAO call without a result.
+     */
+    public interface SqlConsumer<D> {
+        void accept(D dao) throws SQLException;
+    }
+
+    /**
+     * Database work that is not tied to a single DAO, e.g. a controller call.
+     */
+    public interface SqlCallable<T> {
+        T call() throws SQLException;
+    }
+
+    private static final int MAX_CONCURRENCY = new ConnectionPool.Config().getMaxSize();
+    private static final Semaphore PERMITS = new Semaphore(MAX_CONCURRENCY, true);
+    private static final ExecutorService EXECUTOR =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("dao-", 0).factory());
+
+    private final D dao;
+
+    private AsyncDao(D dao) {
+        this.dao = dao;
+    }
+
+    public static <D> AsyncDao<D> of(D dao) {
+        return new AsyncDao<>(dao);
+    }
+
+    public static AsyncDao<TransactionDao> transactions() {
+        return of(new TransactionDaoImpl());
+    }
+
+    public static AsyncDao<GoalDao> goals() {
+        return of(new GoalDaoImpl());
+    }
+
+    public static AsyncDao<QuestDao> quests() {
+        return of(new QuestDaoImpl());
+    }
+
+    public static AsyncDao<ExperienceDao> experience() {
+        return of(new ExperienceDaoImpl());
+    }
+
+    public static AsyncDao<LeaderboardDao> leaderboard() {
+        return of(new LeaderboardDaoImpl());
+    }
+
+    public static AsyncDao<UserDao> users() {
+        return of(new UserDaoImpl(null));
+    }
+
+    public <T> CompletableFuture<T> supply(SqlFunction<? super D, ? extends T> call) {
+        return call(() -> call.apply(dao));
+    }
+
+    public CompletableFuture<Void> run(SqlConsumer<? super D> call) {
+        return call(() -> {
+            call.accept(dao);
+            return null;
+        });
+    }
+
+    /**
+     * Runs arbitrary database work under the same concurrency limit.
+     */
+    public static <T> CompletableFuture<T> call(SqlCallable<? extends T> work) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        EXECUTOR.execute(() -> {
+            try {
+                PERMITS.acquire();
+            } catch (InterruptedException e) {
+                future.completeExceptionally(e);
+                return;
+            }
+            try {
+                future.complete(work.call());
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            } finally {
+                PERMITS.release();
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Waits for the future and rethrows a DAO failure as the original
+     * SQLException. The wait is interruptible so a cancelled screen load
+     * stops waiting.
+     */
+    public static <T> T await(CompletableFuture<T> future) throws SQLException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for the database", e);
+        } catch (ExecutionException | CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof SQLException sqlException) {
+                throw sqlException;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new SQLException(cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * @return the number of calls that may hold a connection at once
+     */
+    public static int getMaxConcurrency() {
+        return MAX_CONCURRENCY;
+    }
+
+    /**
+     * @return calls currently waiting for a permit
+     */
+    public static int getQueuedCount() {
+        return PERMITS.getQueueLength();
+    }
+}
@@ -0,0 +1,35 @@
+package database.dao;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+
+/**
+ * Reads the daily_user_totals rollup, which a trigger on transactions keeps
+ * up to date. Ranges are half-open: from inclusive, to exclusive.
+ */
+public interface DailyTotalsDao {
+    long getIncomeCentsBetween(int userId, LocalDate from, LocalDate to) throws SQLException;
+    long getExpenseCentsBetween(int userId, LocalDate from, LocalDate to) throws SQLException;
+
+    /**
+     * Income in one category, e.g. what was saved towards a goal.
+     */
+    long getIncomeCentsBetween(int userId, String category, LocalDate from, LocalDate to) throws SQLException;
+
+    /**
+     * Income minus expense over the user's whole history.
+     */
+    long getBalanceCents(int userId) throws SQLException;
+
+    /**
+     * Regenerates the rollup for every user from the raw transactions.
+     * @return the number of rollup rows written
+     */
+    int rebuild() throws SQLException;
+
+    /**
+     * Regenerates the rollup for one user from the raw transactions.
+     * @return the number of rollup rows written
+     */
+    int rebuild(int userId) throws SQLException;
+}
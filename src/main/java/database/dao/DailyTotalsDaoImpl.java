@@ -0,0 +1,105 @@
+package database.dao;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+
+import database.DatabaseManager;
+import model.Money;
+
+public class DailyTotalsDaoImpl implements DailyTotalsDao {
+    private static final String REBUILD_INSERT =
+            "INSERT INTO daily_user_totals (user_id, day, category, income, expense, tx_count) " +
+            "SELECT user_id, CAST(date AS DATE), COALESCE(category, 'Other'), " +
+            "SUM(CASE WHEN LOWER(type) = 'income' THEN amount ELSE 0 END), " +
+            "SUM(CASE WHEN LOWER(type) = 'income' THEN 0 ELSE amount END), " +
+            "COUNT(*) " +
+            "FROM transactions WHERE date IS NOT NULL";
+    private static final String REBUILD_GROUP_BY =
+            " GROUP BY user_id, CAST(date AS DATE), COALESCE(category, 'Other')";
+
+    @Override
+    public long getIncomeCentsBetween(int userId, LocalDate from, LocalDate to) throws SQLException {
+        return sumBetween("income", userId, null, from, to);
+    }
+
+    @Override
+    public long getExpenseCentsBetween(int userId, LocalDate from, LocalDate to) throws SQLException {
+        return sumBetween("expense", userId, null, from, to);
+    }
+
+    @Override
+    public long getIncomeCentsBetween(int userId, String category, LocalDate from, LocalDate to) throws SQLException {
+        return sumBetween("income", userId, category, from, to);
+    }
+
+    @Override
+    public long getBalanceCents(int userId) throws SQLException {
+        String sql = "SELECT COALESCE(SUM(income - expense), 0) FROM daily_user_totals WHERE user_id = ?";
+        try (Connection conn = DatabaseManager.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setInt(1, userId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next() ? Money.fromDecimal(rs.getBigDecimal(1)) : 0;
+            }
+        }
+    }
+
+    private long sumBetween(String column, int userId, String category, LocalDate from, LocalDate to) throws SQLException {
+        String sql = "SELECT COALESCE(SUM(" + column + "), 0) FROM daily_user_totals " +
+                "WHERE user_id = ? AND day >= ? AND day < ?" + (category == null ? "" : " AND category = ?");
+        try (Connection conn = DatabaseManager.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setInt(1, userId);
+            pstmt.setDate(2, java.sql.Date.valueOf(from));
+            pstmt.setDate(3, java.sql.Date.valueOf(to));
+            if (category != null) {
+                pstmt.setString(4, category);
+            }
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next() ? Money.fromDecimal(rs.getBigDecimal(1)) : 0;
+            }
+        }
+    }
+
+    @Override
+    public int rebuild() throws SQLException {
+        return rebuildFor(null);
+    }
+
+    @Override
+    public int rebuild(int userId) throws SQLException {
+        return rebuildFor(userId);
+    }
+
+    private int rebuildFor(Integer userId) throws SQLException {
+        String delete = "DELETE FROM daily_user_totals" + (userId == null ? "" : " WHERE user_id = ?");
+        String insert = REBUILD_INSERT + (userId == null ? "" : " AND user_id = ?") + REBUILD_GROUP_BY;
+
+        try (Connection conn = DatabaseManager.getConnection()) {
+            conn.setAutoCommit(false);
+            try (Statement lock = conn.createStatement();
+                 PreparedStatement deleteStmt = conn.prepareStatement(delete);
+                 PreparedStatement insertStmt = conn.prepareStatement(insert)) {
+                // Hold off writers so the trigger can't touch rows between the delete and the insert
+                lock.execute("LOCK TABLE transactions IN SHARE MODE");
+                if (userId != null) {
+                    deleteStmt.setInt(1, userId);
+                    insertStmt.setInt(1, userId);
+                }
+                deleteStmt.executeUpdate();
+                int rows = insertStmt.executeUpdate();
+                conn.commit();
+                return rows;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        }
+    }
+}
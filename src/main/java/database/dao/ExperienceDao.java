@@ -4,6 +4,13 @@ import java.sql.SQLException;
 
 public interface ExperienceDao {
     boolean addUserXP(int userId, int xpAmount) throws SQLException;
+
+    /**
+     * Adds XP and recomputes the level in one atomic statement, creating the
+     * user's row if needed. Concurrent awards for the same user never lose XP.
+     * @return the totals after the award and the level before it
+     */
+    XpAward awardXp(int userId, int xpAmount) throws SQLException;
     int[] getUserExperience(int userId) throws SQLException;
     int getXpForNextLevel(int currentLevel);
     
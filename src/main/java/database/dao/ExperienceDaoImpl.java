@@ -5,52 +5,62 @@ import java.sql.*;
 
 public class ExperienceDaoImpl implements ExperienceDao {
 
+    // Level is floor(sqrt(xp / 100)), computed by the database so the row is
+    // read, incremented and re-levelled under a single row lock. RETURNING only
+    // sees the new row, so the stored level is locked and read first; only a
+    // brand-new row falls back to the level of the XP before this award.
+    private static final String AWARD_XP_SQL =
+            "WITH old AS (SELECT level FROM user_experience WHERE user_id = ? FOR UPDATE), " +
+            "award AS (" +
+            "INSERT INTO user_experience AS ue (user_id, current_xp, level) " +
+            "VALUES (?, ?, CAST(FLOOR(SQRT(? / 100.0)) AS INTEGER)) " +
+            "ON CONFLICT (user_id) DO UPDATE SET " +
+            "current_xp = ue.current_xp + EXCLUDED.current_xp, " +
+            "level = CAST(FLOOR(SQRT((ue.current_xp + EXCLUDED.current_xp) / 100.0)) AS INTEGER), " +
+            "updated_at = CURRENT_TIMESTAMP " +
+            "RETURNING ue.current_xp, ue.level) " +
+            "SELECT award.current_xp, award.level, COALESCE((SELECT level FROM old), " +
+            "CAST(FLOOR(SQRT(GREATEST(award.current_xp - ?, 0) / 100.0)) AS INTEGER)) AS previous_level " +
+            "FROM award";
+
+    private final Connection connection;
+
+    public ExperienceDaoImpl() {
+        this(null);
+    }
+
+    // Use a caller-owned connection instead of the pool
+    public ExperienceDaoImpl(Connection connection) {
+        this.connection = connection;
+    }
+
     @Override
     public boolean addUserXP(int userId, int xpAmount) throws SQLException {
-        String sql = "SELECT current_xp, level FROM user_experience WHERE user_id = ?";
-        try (Connection conn = DatabaseManager.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+        return awardXp(userId, xpAmount) != null;
+    }
+
+    @Override
+    public XpAward awardXp(int userId, int xpAmount) throws SQLException {
+        try (Connection conn = DatabaseManager.borrow(connection);
+             PreparedStatement pstmt = conn.prepareStatement(AWARD_XP_SQL)) {
             pstmt.setInt(1, userId);
-            int currentXp = 0;
-            int currentLevel = 1;
-            boolean userExists = false;
-            try (ResultSet rs = pstmt.executeQuery()){
-                if (rs.next()){
-                    currentXp = rs.getInt("current_xp");
-                    currentLevel = rs.getInt("level");
-                    userExists = true;
-                }
-            }
-            int newXp = currentXp + xpAmount;
-            int newLevel = calculateLevel(newXp);
-            if (userExists) {
-                sql = "UPDATE user_experience SET current_xp = ?, level = ? WHERE user_id = ?";
-                try (PreparedStatement updateStmt = conn.prepareStatement(sql)){
-                    updateStmt.setInt(1, newXp);
-                    updateStmt.setInt(2, newLevel);
-                    updateStmt.setInt(3, userId);
-                    return updateStmt.executeUpdate() > 0;
-                }
-            } else {
-                sql = "INSERT INTO user_experience (user_id, current_xp, level) VALUES (?, ?, ?)";
-                try (PreparedStatement insertStmt = conn.prepareStatement(sql)){
-                    insertStmt.setInt(1, userId);
-                    insertStmt.setInt(2, newXp);
-                    insertStmt.setInt(3, newLevel);
-                    return insertStmt.executeUpdate() > 0;
+            pstmt.setInt(2, userId);
+            pstmt.setInt(3, xpAmount);
+            pstmt.setInt(4, xpAmount);
+            pstmt.setInt(5, xpAmount);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (rs.next()) {
+                    return new XpAward(rs.getInt("current_xp"), rs.getInt("level"), rs.getInt("previous_level"));
                 }
             }
         }
-    }
-
-    private int calculateLevel(int xp) {
-        return (int) Math.floor(Math.sqrt(xp / 100.0));
+        return null;
     }
 
     @Override
     public int[] getUserExperience(int userId) throws SQLException {
         String sql = "SELECT current_xp, level FROM user_experience WHERE user_id = ?";
-        try (Connection conn = DatabaseManager.getConnection();
+        try (Connection conn = DatabaseManager.borrow(connection);
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setInt(1, userId);
             try (ResultSet rs = pstmt.executeQuery()){
@@ -62,8 +72,9 @@ public class ExperienceDaoImpl implements ExperienceDao {
             }
         }
         // Initialize if no record exists.
-        try (Connection conn = DatabaseManager.getConnection()){
-            sql = "INSERT INTO user_experience (user_id, current_xp, level) VALUES (?, 0, 1)";
+        try (Connection conn = DatabaseManager.borrow(connection)){
+            sql = "INSERT INTO user_experience (user_id, current_xp, level) VALUES (?, 0, 1) " +
+                    "ON CONFLICT (user_id) DO NOTHING";
             try (PreparedStatement insertStmt = conn.prepareStatement(sql)){
                 insertStmt.setInt(1, userId);
                 insertStmt.executeUpdate();
@@ -1,6 +1,7 @@
 package database.dao;
 
 import model.Goal;
+import model.Money;
 import database.DatabaseManager;
 import model.Quest;
 
@@ -20,8 +21,8 @@ public class GoalDaoImpl implements GoalDao {
             stmt.setInt(1, goal.getUserId());
             stmt.setString(2, goal.getTitle());
             stmt.setString(3, goal.getDescription());
-            stmt.setDouble(4, goal.getTargetAmount());
-            stmt.setDouble(5, goal.getCurrentAmount());
+            stmt.setBigDecimal(4, Money.toDecimal(goal.getTargetAmountCents()));
+            stmt.setBigDecimal(5, Money.toDecimal(goal.getCurrentAmountCents()));
             stmt.setDate(6, new java.sql.Date(goal.getStartDate().getTime()));
             stmt.setDate(7, new java.sql.Date(goal.getTargetDate().getTime()));
             stmt.setString(8, goal.getCategory());
@@ -45,8 +46,8 @@ public class GoalDaoImpl implements GoalDao {
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, goal.getTitle());
             stmt.setString(2, goal.getDescription());
-            stmt.setDouble(3, goal.getTargetAmount());
-            stmt.setDouble(4, goal.getCurrentAmount());
+            stmt.setBigDecimal(3, Money.toDecimal(goal.getTargetAmountCents()));
+            stmt.setBigDecimal(4, Money.toDecimal(goal.getCurrentAmountCents()));
             stmt.setDate(5, new java.sql.Date(goal.getStartDate().getTime()));
             stmt.setDate(6, new java.sql.Date(goal.getTargetDate().getTime()));
             stmt.setString(7, goal.getCategory());
@@ -118,8 +119,8 @@ public class GoalDaoImpl implements GoalDao {
         int userId = rs.getInt("user_id");
         String title = rs.getString("title");
         String description = rs.getString("description");
-        double targetAmount = rs.getDouble("target_amount");
-        double currentAmount = rs.getDouble("current_amount");
+        double targetAmount = Money.toDouble(Money.fromDecimal(rs.getBigDecimal("target_amount")));
+        double currentAmount = Money.toDouble(Money.fromDecimal(rs.getBigDecimal("current_amount")));
         Date startDate = rs.getDate("start_date");
         Date targetDate = rs.getDate("target_date");
         String category = rs.getString("category");
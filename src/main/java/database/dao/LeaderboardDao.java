@@ -6,4 +6,27 @@ import java.util.List;
 
 public interface LeaderboardDao {
     List<LeaderboardEntry> fetchLeaderboard() throws SQLException;
+
+    /**
+     * Reads the k highest-ranked users.
+     */
+    List<LeaderboardEntry> fetchTop(int k) throws SQLException;
+
+    /**
+     * Reads the next page of the ranking, seeking past the given entry.
+     * @param after last entry of the previous page, or null for the first page
+     */
+    List<LeaderboardEntry> fetchPage(LeaderboardEntry after, int limit) throws SQLException;
+
+    /**
+     * Reads the user's entry with up to radius neighbours on each side.
+     * @return an empty list if the user has no experience row yet
+     */
+    List<LeaderboardEntry> fetchAroundUser(int userId, int radius) throws SQLException;
+
+    /**
+     * Reads one user's level and XP; the rank of the returned entry is 0.
+     * @return null if the user has no experience row yet
+     */
+    LeaderboardEntry fetchEntry(int userId) throws SQLException;
 }
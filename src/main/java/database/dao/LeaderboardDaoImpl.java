@@ -8,41 +8,151 @@ import java.util.ArrayList;
 import java.util.List;
 
 public class LeaderboardDaoImpl implements LeaderboardDao {
+    // Ranking order; matches idx_user_experience_rank so no query needs a sort
+    private static final String RANK_ORDER = "ue.level DESC, ue.current_xp DESC, ue.user_id";
+
+    // Join the users and user_experience tables to get username, level, and XP
+    private static final String RANKED_COLUMNS =
+            "SELECT u.id, u.email, u.username, ue.level, ue.current_xp as xp, " +
+            "ROW_NUMBER() OVER (ORDER BY " + RANK_ORDER + ") AS rank " +
+            "FROM user_experience ue " +
+            "JOIN users u ON u.id = ue.user_id ";
+
+    // Entries behind (level, xp, user_id) in ranking order. The row comparison
+    // bounds the index range; the NOT clause drops earlier users on the same
+    // level and XP
+    private static final String AFTER_POSITION =
+            "(ue.level, ue.current_xp) <= (?, ?) " +
+            "AND NOT (ue.level = ? AND ue.current_xp = ? AND ue.user_id <= ?) ";
+
+    // Ranks are computed over the window only: the user's rank is one plus
+    // the number of entries ahead of them, and ROW_NUMBER numbers the
+    // neighbours from there
+    private static final String AROUND_USER_QUERY =
+            "WITH me AS (SELECT user_id, level, current_xp FROM user_experience WHERE user_id = ?), " +
+            "ahead AS (SELECT ue.user_id, ue.level, ue.current_xp FROM user_experience ue, me " +
+            "  WHERE (ue.level, ue.current_xp) >= (me.level, me.current_xp) " +
+            "  AND NOT (ue.level = me.level AND ue.current_xp = me.current_xp AND ue.user_id >= me.user_id) " +
+            "  ORDER BY ue.level, ue.current_xp, ue.user_id DESC LIMIT ?), " +
+            "behind AS (SELECT ue.user_id, ue.level, ue.current_xp FROM user_experience ue, me " +
+            "  WHERE (ue.level, ue.current_xp) <= (me.level, me.current_xp) " +
+            "  AND NOT (ue.level = me.level AND ue.current_xp = me.current_xp AND ue.user_id <= me.user_id) " +
+            "  ORDER BY " + RANK_ORDER + " LIMIT ?), " +
+            "my_rank AS (SELECT 1 " +
+            "  + (SELECT COUNT(*) FROM user_experience ue, me " +
+            "     WHERE (ue.level, ue.current_xp) > (me.level, me.current_xp)) " +
+            "  + (SELECT COUNT(*) FROM user_experience ue, me " +
+            "     WHERE ue.level = me.level AND ue.current_xp = me.current_xp AND ue.user_id < me.user_id) " +
+            "  AS rank), " +
+            "window_rows AS (SELECT * FROM ahead UNION ALL SELECT * FROM me UNION ALL SELECT * FROM behind) " +
+            "SELECT u.id, u.email, u.username, ue.level, ue.current_xp as xp, " +
+            "(SELECT rank FROM my_rank) - (SELECT COUNT(*) FROM ahead) - 1 " +
+            "  + ROW_NUMBER() OVER (ORDER BY " + RANK_ORDER + ") AS rank " +
+            "FROM window_rows ue " +
+            "JOIN users u ON u.id = ue.user_id " +
+            "ORDER BY rank";
+
     @Override
     public List<LeaderboardEntry> fetchLeaderboard() throws SQLException {
-        List<LeaderboardEntry> leaderboard = new ArrayList<>();
-        // Join the users and user_experience tables to get username, level, and XP
-        String query = "SELECT u.id, u.email, u.username, ue.level, ue.current_xp as xp " +
-                "FROM users u " +
-                "JOIN user_experience ue ON u.id = ue.user_id " +
-                "ORDER BY ue.level DESC, ue.current_xp DESC";
+        String query = RANKED_COLUMNS + "ORDER BY " + RANK_ORDER;
 
         try (Connection conn = DatabaseManager.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(query);
              ResultSet rs = pstmt.executeQuery()) {
+            return mapEntries(rs, 0);
+        }
+    }
 
-            int rank = 1;
-            while (rs.next()) {
-                // Try to get username first
-                String username = rs.getString("username");
-                
-                // If username is null or empty, use email prefix as fallback
-                if (username == null || username.isEmpty()) {
-                    String userEmail = rs.getString("email");
-                    // Extract portion before "@" if present
-                    if (userEmail != null && userEmail.contains("@")) {
-                        username = userEmail.substring(0, userEmail.indexOf("@"));
-                    } else {
-                        username = userEmail;
-                    }
-                }
-                
-                int level = rs.getInt("level");
-                int xp = rs.getInt("xp");
-                leaderboard.add(new LeaderboardEntry(rank, username, level, xp));
-                rank++;
+    @Override
+    public List<LeaderboardEntry> fetchTop(int k) throws SQLException {
+        String query = RANKED_COLUMNS + "ORDER BY " + RANK_ORDER + " LIMIT ?";
+
+        try (Connection conn = DatabaseManager.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(query)) {
+            pstmt.setInt(1, k);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return mapEntries(rs, 0);
             }
         }
+    }
+
+    @Override
+    public List<LeaderboardEntry> fetchPage(LeaderboardEntry after, int limit) throws SQLException {
+        if (after == null) {
+            return fetchTop(limit);
+        }
+        // Seek instead of OFFSET so deep pages cost the same as the first;
+        // ROW_NUMBER counts within the page and continues from the anchor's rank
+        String query = RANKED_COLUMNS + "WHERE " + AFTER_POSITION + "ORDER BY " + RANK_ORDER + " LIMIT ?";
+
+        try (Connection conn = DatabaseManager.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(query)) {
+            pstmt.setInt(1, after.getLevel());
+            pstmt.setInt(2, after.getXp());
+            pstmt.setInt(3, after.getLevel());
+            pstmt.setInt(4, after.getXp());
+            pstmt.setInt(5, after.getUserId());
+            pstmt.setInt(6, limit);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return mapEntries(rs, after.getRank());
+            }
+        }
+    }
+
+    @Override
+    public List<LeaderboardEntry> fetchAroundUser(int userId, int radius) throws SQLException {
+        try (Connection conn = DatabaseManager.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(AROUND_USER_QUERY)) {
+            pstmt.setInt(1, userId);
+            pstmt.setInt(2, radius);
+            pstmt.setInt(3, radius);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return mapEntries(rs, 0);
+            }
+        }
+    }
+
+    @Override
+    public LeaderboardEntry fetchEntry(int userId) throws SQLException {
+        String query = "SELECT u.id, u.email, u.username, ue.level, ue.current_xp as xp, 0 AS rank " +
+                "FROM users u " +
+                "JOIN user_experience ue ON u.id = ue.user_id " +
+                "WHERE u.id = ?";
+
+        try (Connection conn = DatabaseManager.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(query)) {
+            pstmt.setInt(1, userId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next() ? mapEntry(rs, 0) : null;
+            }
+        }
+    }
+
+    private List<LeaderboardEntry> mapEntries(ResultSet rs, int rankOffset) throws SQLException {
+        List<LeaderboardEntry> leaderboard = new ArrayList<>();
+        while (rs.next()) {
+            leaderboard.add(mapEntry(rs, rankOffset));
+        }
         return leaderboard;
     }
+
+    private LeaderboardEntry mapEntry(ResultSet rs, int rankOffset) throws SQLException {
+        // Try to get username first
+        String username = rs.getString("username");
+
+        // If username is null or empty, use email prefix as fallback
+        if (username == null || username.isEmpty()) {
+            String userEmail = rs.getString("email");
+            // Extract portion before "@" if present
+            if (userEmail != null && userEmail.contains("@")) {
+                username = userEmail.substring(0, userEmail.indexOf("@"));
+            } else {
+                username = userEmail;
+            }
+        }
+
+        int level = rs.getInt("level");
+        int xp = rs.getInt("xp");
+        return new LeaderboardEntry(rs.getInt("id"), rankOffset + rs.getInt("rank"), username, level, xp);
+    }
 }
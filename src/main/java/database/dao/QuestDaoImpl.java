@@ -11,7 +11,9 @@ import java.util.ArrayList;
 import java.util.List;
 
 import database.DatabaseManager;
+import model.Money;
 import model.Quest;
+import model.QuestRule;
 
 public class QuestDaoImpl implements QuestDao {
     private ExperienceDao experienceDao;
@@ -23,15 +25,15 @@ public class QuestDaoImpl implements QuestDao {
     
     @Override
     public int createQuest(Quest quest) throws SQLException {
-        String sql = "INSERT INTO quests (title, description, quest_type, xp_reward, required_amount, completion_status, deadline, user_id) " +
-                "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+        String sql = "INSERT INTO quests (title, description, quest_type, xp_reward, required_amount, completion_status, deadline, user_id, rule) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
         try (Connection conn = DatabaseManager.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
             pstmt.setString(1, quest.getTitle());
             pstmt.setString(2, quest.getDescription());
             pstmt.setString(3, quest.getQuestType());
             pstmt.setInt(4, quest.getXpReward());
-            pstmt.setDouble(5, quest.getRequiredAmount());
+            pstmt.setBigDecimal(5, Money.toDecimal(Money.toCents(quest.getRequiredAmount())));
             pstmt.setBoolean(6, quest.isCompleted());
             if (quest.getDeadline() != null) {
                 pstmt.setDate(7, java.sql.Date.valueOf(quest.getDeadline()));
@@ -39,6 +41,7 @@ public class QuestDaoImpl implements QuestDao {
                 pstmt.setNull(7, Types.DATE);
             }
             pstmt.setInt(8, quest.getUserId());
+            pstmt.setString(9, quest.getRule().toString());
             int affectedRows = pstmt.executeUpdate();
             if (affectedRows > 0) {
                 try (ResultSet rs = pstmt.getGeneratedKeys()) {
@@ -60,7 +63,8 @@ public class QuestDaoImpl implements QuestDao {
                     "xp_reward = ?, " +
                     "required_amount = ?, " +
                     "completion_status = ?, " +
-                    "deadline = ? " +
+                    "deadline = ?, " +
+                    "rule = ? " +
                     "WHERE id = ? AND user_id = ?";
         
         try (Connection conn = DatabaseManager.getConnection();
@@ -70,7 +74,7 @@ public class QuestDaoImpl implements QuestDao {
             pstmt.setString(2, quest.getDescription());
             pstmt.setString(3, quest.getQuestType());
             pstmt.setInt(4, quest.getXpReward());
-            pstmt.setDouble(5, quest.getRequiredAmount());
+            pstmt.setBigDecimal(5, Money.toDecimal(Money.toCents(quest.getRequiredAmount())));
             pstmt.setBoolean(6, quest.isCompleted());
             
             if (quest.getDeadline() != null) {
@@ -79,8 +83,10 @@ public class QuestDaoImpl implements QuestDao {
                 pstmt.setNull(7, java.sql.Types.DATE);
             }
             
-            pstmt.setInt(8, quest.getId());
-            pstmt.setInt(9, quest.getUserId());
+            // Older rows get their inferred rule persisted on first update
+            pstmt.setString(8, quest.getRule().toString());
+            pstmt.setInt(9, quest.getId());
+            pstmt.setInt(10, quest.getUserId());
             
             int affectedRows = pstmt.executeUpdate();
             
@@ -252,13 +258,22 @@ public class QuestDaoImpl implements QuestDao {
         quest.setDescription(rs.getString("description"));
         quest.setQuestType(rs.getString("quest_type"));
         quest.setXpReward(rs.getInt("xp_reward"));
-        quest.setRequiredAmount(rs.getDouble("required_amount"));
+        quest.setRequiredAmount(Money.toDouble(Money.fromDecimal(rs.getBigDecimal("required_amount"))));
         quest.setCompleted(rs.getBoolean("completion_status"));
         quest.setUserId(rs.getInt("user_id"));
         Date deadline = rs.getDate("deadline");
         if (deadline != null) {
             quest.setDeadline(deadline.toLocalDate());
         }
+        String rule = rs.getString("rule");
+        if (rule != null) {
+            try {
+                quest.setRule(QuestRule.parse(rule));
+            } catch (IllegalArgumentException e) {
+                // Unknown rule, e.g. written by a newer version; fall back to inferring it
+                System.out.println("Ignoring unreadable rule '" + rule + "' on quest " + quest.getId());
+            }
+        }
         return quest;
     }
 
@@ -2,13 +2,41 @@ package database.dao;
 
 import java.sql.SQLException;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 import model.Transaction;
 
 public interface TransactionDao {
     List<Transaction> getTransactionsByUserId(int userId) throws SQLException;
+
+    /**
+     * Feeds every transaction of a user to the action without holding them all in memory.
+     * Rows arrive in no particular order.
+     */
+    void forEachTransaction(int userId, Consumer<Transaction> action) throws SQLException;
+
+    /**
+     * Fetches one page of a user's transactions, newest first.
+     * @param after cursor from the previous page, or null for the first page
+     * @param pageSize maximum number of transactions to return
+     */
+    TransactionPage getTransactionsPage(int userId, TransactionPage.Cursor after, int pageSize) throws SQLException;
+
+    /**
+     * Fetches a user's transactions dated from {@code from} (inclusive) to
+     * {@code to} (exclusive), oldest first.
+     */
+    List<Transaction> getTransactionsBetween(int userId, LocalDate from, LocalDate to) throws SQLException;
     void addTransaction(int userId, LocalDate date, double amount, String description, String type, String category) throws SQLException;
+
+    /**
+     * Inserts many transactions in one database transaction; either all of
+     * them are stored or none. Each transaction's own user id is used.
+     * @return the number of rows inserted
+     */
+    int addTransactions(Collection<Transaction> transactions) throws SQLException;
     boolean updateTransaction(Transaction transaction) throws SQLException;
     boolean deleteTransaction(int transactionId) throws SQLException;
     int getTransactionCountForUser(int userId) throws SQLException;
@@ -1,47 +1,165 @@
 package database.dao;
 
+import java.nio.charset.StandardCharsets;
 import java.sql.Connection;
 import java.sql.Date;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import database.CalendarMonthCache;
 import database.DatabaseManager;
+import database.TransactionCache;
+import model.Money;
 import model.Transaction;
 
 public class TransactionDaoImpl implements TransactionDao {
+    // Rows per round trip when streaming through a server-side cursor
+    private static final int STREAM_FETCH_SIZE = 500;
+    // Rows per executeBatch; the driver rewrites each batch into multi-row INSERTs
+    private static final int INSERT_BATCH_SIZE = 1_000;
+    // From this many rows COPY is faster than batched INSERTs
+    public static final int COPY_THRESHOLD = 20_000;
+    // Bytes of CSV buffered before each write to the COPY stream
+    private static final int COPY_BUFFER_BYTES = 1 << 16;
+
+    private final Connection connection;
+
+    public TransactionDaoImpl() {
+        this(null);
+    }
+
+    // Use a caller-owned connection instead of the pool
+    public TransactionDaoImpl(Connection connection) {
+        this.connection = connection;
+    }
+
+    // Only the pooled DAO reports writes to the cache; a caller-owned
+    // connection may point at another schema or an uncommitted transaction
+    private boolean writesThrough() {
+        return connection == null;
+    }
 
     @Override
     public List<Transaction> getTransactionsByUserId(int userId) throws SQLException {
         List<Transaction> transactions = new ArrayList<>();
         String query = "SELECT * FROM transactions WHERE user_id = ? ORDER BY date DESC";
-        try (Connection conn = DatabaseManager.getConnection();
+        try (Connection conn = DatabaseManager.borrow(connection);
              PreparedStatement pstmt = conn.prepareStatement(query)) {
             pstmt.setInt(1, userId);
             try (ResultSet rs = pstmt.executeQuery()) {
                 while (rs.next()) {
-                    String category = rs.getString("category");
-                    if (category == null) {
-                        category = "Other";
+                    transactions.add(mapTransaction(rs));
+                }
+            }
+        }
+        return transactions;
+    }
+
+    @Override
+    public void forEachTransaction(int userId, Consumer<Transaction> action) throws SQLException {
+        String query = "SELECT id, user_id, date, description, category, type, amount FROM transactions WHERE user_id = ?";
+        try (Connection conn = DatabaseManager.borrow(connection)) {
+            // The driver only uses a server-side cursor inside a transaction with a fetch size set;
+            // otherwise it buffers the whole result set in memory
+            boolean autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+            try (PreparedStatement pstmt = conn.prepareStatement(query,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                pstmt.setFetchSize(STREAM_FETCH_SIZE);
+                pstmt.setInt(1, userId);
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    while (rs.next()) {
+                        action.accept(mapTransaction(rs));
                     }
-                    boolean isIncome = rs.getString("type") != null &&
-                            rs.getString("type").equalsIgnoreCase("income");
-                    LocalDate date = rs.getDate("date").toLocalDate();
-                    Transaction transaction = new Transaction(
-                            rs.getString("description"),
-                            rs.getDouble("amount"),
-                            date,
-                            isIncome,
-                            category
-                    );
-                    transaction.setId(rs.getInt("id"));
+                }
+                conn.commit();
+            } finally {
+                conn.setAutoCommit(autoCommit);
+            }
+        }
+    }
+
+    private Transaction mapTransaction(ResultSet rs) throws SQLException {
+        String category = rs.getString("category");
+        if (category == null) {
+            category = "Other";
+        }
+        String type = rs.getString("type");
+        return Transaction.fromRow(
+                rs.getInt("id"),
+                rs.getInt("user_id"),
+                rs.getTimestamp("date"),
+                rs.getString("description"),
+                category,
+                type != null ? type : "expense",
+                Money.fromDecimal(rs.getBigDecimal("amount"))
+        );
+    }
+
+    @Override
+    public TransactionPage getTransactionsPage(int userId, TransactionPage.Cursor after, int pageSize) throws SQLException {
+        // Seek past the previous page on (date, id) instead of OFFSET so every page costs the same
+        String columns = "SELECT id, user_id, date, description, category, type, amount FROM transactions ";
+        String query = after == null
+                ? columns + "WHERE user_id = ? ORDER BY date DESC, id DESC LIMIT ?"
+                : columns + "WHERE user_id = ? AND (date, id) < (?, ?) ORDER BY date DESC, id DESC LIMIT ?";
+        List<Transaction> transactions = new ArrayList<>();
+        Timestamp lastDate = null;
+        int lastId = 0;
+        boolean hasMore = false;
+        try (Connection conn = DatabaseManager.borrow(connection);
+             PreparedStatement pstmt = conn.prepareStatement(query)) {
+            int index = 1;
+            pstmt.setInt(index++, userId);
+            if (after != null) {
+                pstmt.setTimestamp(index++, after.getDate());
+                pstmt.setInt(index++, after.getId());
+            }
+            // One extra row tells us whether another page exists
+            pstmt.setInt(index, pageSize + 1);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    if (transactions.size() == pageSize) {
+                        hasMore = true;
+                        break;
+                    }
+                    Transaction transaction = mapTransaction(rs);
+                    lastDate = rs.getTimestamp("date");
+                    lastId = transaction.getId();
                     transactions.add(transaction);
                 }
             }
         }
+        return new TransactionPage(transactions, hasMore ? new TransactionPage.Cursor(lastDate, lastId) : null);
+    }
+
+    @Override
+    public List<Transaction> getTransactionsBetween(int userId, LocalDate from, LocalDate to) throws SQLException {
+        // Served by the (user_id, date, id) keyset index
+        String query = "SELECT id, user_id, date, description, category, type, amount FROM transactions " +
+                "WHERE user_id = ? AND date >= ? AND date < ? ORDER BY date, id";
+        List<Transaction> transactions = new ArrayList<>();
+        try (Connection conn = DatabaseManager.borrow(connection);
+             PreparedStatement pstmt = conn.prepareStatement(query)) {
+            pstmt.setInt(1, userId);
+            pstmt.setDate(2, Date.valueOf(from));
+            pstmt.setDate(3, Date.valueOf(to));
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    transactions.add(mapTransaction(rs));
+                }
+            }
+        }
         return transactions;
     }
 
@@ -49,17 +167,22 @@ public class TransactionDaoImpl implements TransactionDao {
     public void addTransaction(int userId, LocalDate date, double amount, String description, String type, String category) {
         String query = "INSERT INTO transactions (user_id, date, amount, description, type, category) VALUES (?, ?, ?, ?, ?, ?)";
 
-        try (Connection conn = DatabaseManager.getConnection();
+        try (Connection conn = DatabaseManager.borrow(connection);
              PreparedStatement pstmt = conn.prepareStatement(query)) {
 
             pstmt.setInt(1, userId);
             pstmt.setDate(2, Date.valueOf(date));
-            pstmt.setDouble(3, amount);
+            pstmt.setBigDecimal(3, Money.toDecimal(Money.toCents(amount)));
             pstmt.setString(4, description);
             pstmt.setString(5, type);
             pstmt.setString(6, category);
 
             pstmt.executeUpdate();
+            if (writesThrough()) {
+                TransactionCache.getInstance().transactionAdded(userId, date, amount, category,
+                        "income".equalsIgnoreCase(type));
+                CalendarMonthCache.getInstance().transactionAdded(userId, date);
+            }
 
         } catch (SQLException e) {
             e.printStackTrace();
@@ -67,37 +190,155 @@ public class TransactionDaoImpl implements TransactionDao {
         }
     }
 
+    @Override
+    public int addTransactions(Collection<Transaction> transactions) throws SQLException {
+        if (transactions.isEmpty()) {
+            return 0;
+        }
+        try (Connection conn = DatabaseManager.borrow(connection)) {
+            boolean autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+            try {
+                if (transactions.size() >= COPY_THRESHOLD) {
+                    copyTransactions(conn, transactions);
+                } else {
+                    batchInsertTransactions(conn, transactions);
+                }
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(autoCommit);
+            }
+        }
+        if (writesThrough()) {
+            TransactionCache.getInstance().transactionsAdded(transactions);
+            CalendarMonthCache.getInstance().transactionsAdded(transactions);
+        }
+        return transactions.size();
+    }
+
+    private void batchInsertTransactions(Connection conn, Collection<Transaction> transactions) throws SQLException {
+        String query = "INSERT INTO transactions (user_id, date, description, category, type, amount) VALUES (?, ?, ?, ?, ?, ?)";
+        try (PreparedStatement pstmt = conn.prepareStatement(query)) {
+            int pending = 0;
+            for (Transaction transaction : transactions) {
+                pstmt.setInt(1, transaction.getUserId());
+                pstmt.setDate(2, Date.valueOf(transaction.getDate()));
+                pstmt.setString(3, transaction.getDescription());
+                pstmt.setString(4, transaction.getCategory());
+                pstmt.setString(5, transaction.isIncome() ? "income" : "expense");
+                pstmt.setBigDecimal(6, Money.toDecimal(transaction.getAmountCents()));
+                pstmt.addBatch();
+                if (++pending == INSERT_BATCH_SIZE) {
+                    pstmt.executeBatch();
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                pstmt.executeBatch();
+            }
+        }
+    }
+
+    // Streams the rows as CSV through COPY FROM STDIN; the daily rollup
+    // trigger still fires for every row
+    private void copyTransactions(Connection conn, Collection<Transaction> transactions) throws SQLException {
+        String copy = "COPY transactions (user_id, date, description, category, type, amount) " +
+                "FROM STDIN WITH (FORMAT csv)";
+        CopyIn copyIn = conn.unwrap(PGConnection.class).getCopyAPI().copyIn(copy);
+        try {
+            StringBuilder csv = new StringBuilder(COPY_BUFFER_BYTES + 256);
+            for (Transaction transaction : transactions) {
+                csv.append(transaction.getUserId()).append(',')
+                        .append(transaction.getDate()).append(',');
+                appendCsvText(csv, transaction.getDescription());
+                csv.append(',');
+                appendCsvText(csv, transaction.getCategory());
+                csv.append(',')
+                        .append(transaction.isIncome() ? "income" : "expense").append(',');
+                Money.appendTo(csv, transaction.getAmountCents()).append('\n');
+                if (csv.length() >= COPY_BUFFER_BYTES) {
+                    writeToCopy(copyIn, csv);
+                }
+            }
+            writeToCopy(copyIn, csv);
+            copyIn.endCopy();
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+
+    private static void appendCsvText(StringBuilder csv, String text) {
+        if (text == null) {
+            // Unquoted empty field is NULL in CSV COPY
+            return;
+        }
+        csv.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"') {
+                csv.append('"');
+            }
+            csv.append(c);
+        }
+        csv.append('"');
+    }
+
+    private static void writeToCopy(CopyIn copyIn, StringBuilder csv) throws SQLException {
+        byte[] bytes = csv.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        csv.setLength(0);
+    }
+
     @Override
     public boolean updateTransaction(Transaction transaction) throws SQLException {
         String query = "UPDATE transactions SET date = ?, description = ?, category = ?, type = ?, amount = ? WHERE id = ? AND user_id = ?";
-        try (Connection conn = DatabaseManager.getConnection();
+        try (Connection conn = DatabaseManager.borrow(connection);
              PreparedStatement pstmt = conn.prepareStatement(query)) {
             pstmt.setDate(1, java.sql.Date.valueOf(transaction.getDate()));
             pstmt.setString(2, transaction.getDescription());
             pstmt.setString(3, transaction.getCategory());
             pstmt.setString(4, transaction.isIncome() ? "income" : "expense");
-            pstmt.setDouble(5, transaction.getAmount());
+            pstmt.setBigDecimal(5, Money.toDecimal(transaction.getAmountCents()));
             pstmt.setInt(6, transaction.getId());
             pstmt.setInt(7, transaction.getUserId());
-            return pstmt.executeUpdate() > 0;
+            if (pstmt.executeUpdate() == 0) {
+                return false;
+            }
+        }
+        if (writesThrough()) {
+            TransactionCache.getInstance().transactionUpdated(transaction);
+            CalendarMonthCache.getInstance().transactionUpdated(transaction);
         }
+        return true;
     }
 
     @Override
     public boolean deleteTransaction(int transactionId) throws SQLException {
         String query = "DELETE FROM transactions WHERE id = ?";
-        try (Connection conn = DatabaseManager.getConnection();
+        try (Connection conn = DatabaseManager.borrow(connection);
              PreparedStatement pstmt = conn.prepareStatement(query)) {
             pstmt.setInt(1, transactionId);
-            return pstmt.executeUpdate() > 0;
+            if (pstmt.executeUpdate() == 0) {
+                return false;
+            }
+        }
+        if (writesThrough()) {
+            TransactionCache.getInstance().transactionDeleted(transactionId);
+            CalendarMonthCache.getInstance().transactionChanged(transactionId);
         }
+        return true;
     }
 
     @Override
     public int getTransactionCountForUser(int userId) throws SQLException {
         String sql = "SELECT COUNT(*) FROM transactions WHERE user_id = ?";
 
-        try (Connection conn = DatabaseManager.getConnection();
+        try (Connection conn = DatabaseManager.borrow(connection);
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setInt(1, userId);
@@ -116,7 +357,7 @@ public class TransactionDaoImpl implements TransactionDao {
     public int getTransactionCountForDay(int userId, LocalDate date) throws SQLException {
         String sql = "SELECT COUNT(*) FROM transactions WHERE user_id = ? AND date = ?";
 
-        try (Connection conn = DatabaseManager.getConnection();
+        try (Connection conn = DatabaseManager.borrow(connection);
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setInt(1, userId);
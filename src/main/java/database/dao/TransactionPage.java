@@ -0,0 +1,57 @@
+package database.dao;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import model.Transaction;
+
+/**
+ * One page of a user's transaction history, newest first.
+ * Pass {@link #getNextCursor()} back to the DAO to fetch the following page.
+ */
+public class TransactionPage {
+
+    /**
+     * Position after the last row of a page: the (date, id) seek key.
+     */
+    public static class Cursor {
+        private final Timestamp date;
+        private final int id;
+
+        public Cursor(Timestamp date, int id) {
+            this.date = date;
+            this.id = id;
+        }
+
+        public Timestamp getDate() {
+            return date;
+        }
+
+        public int getId() {
+            return id;
+        }
+    }
+
+    private final List<Transaction> transactions;
+    private final Cursor nextCursor;
+
+    public TransactionPage(List<Transaction> transactions, Cursor nextCursor) {
+        this.transactions = transactions;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<Transaction> getTransactions() {
+        return transactions;
+    }
+
+    /**
+     * @return the cursor for the next page, or null if this is the last page
+     */
+    public Cursor getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean hasMore() {
+        return nextCursor != null;
+    }
+}
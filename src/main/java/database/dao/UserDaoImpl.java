@@ -7,8 +7,9 @@ import java.sql.*;
 public class UserDaoImpl implements UserDao {
     private final Connection connection;
     
+    // Each call borrows a pooled connection
     public UserDaoImpl() throws SQLException {
-        this.connection = DatabaseManager.getConnection();
+        this.connection = null;
     }
     
 
@@ -19,7 +20,8 @@ public class UserDaoImpl implements UserDao {
     @Override
     public User findUserById(int userId) throws SQLException {
         String query = "SELECT * FROM users WHERE id = ?";
-        try (PreparedStatement pstmt = connection.prepareStatement(query)) {
+        try (Connection conn = DatabaseManager.borrow(connection);
+             PreparedStatement pstmt = conn.prepareStatement(query)) {
             pstmt.setInt(1, userId);
             try (ResultSet rs = pstmt.executeQuery()) {
                 if (rs.next()) {
@@ -45,7 +47,8 @@ public class UserDaoImpl implements UserDao {
     @Override
     public int authenticateUser(String email, String password) {
         String query = "SELECT id FROM users WHERE email = ? AND password = ?";
-        try (PreparedStatement pstmt = connection.prepareStatement(query)) {
+        try (Connection conn = DatabaseManager.borrow(connection);
+             PreparedStatement pstmt = conn.prepareStatement(query)) {
             pstmt.setString(1, email);
             pstmt.setString(2, password);
             System.out.println("Attempting to authenticate user with email: " + email);
@@ -75,7 +78,8 @@ public class UserDaoImpl implements UserDao {
         }
 
         String query = "INSERT INTO users (email, password) VALUES (?, ?)";
-        try (PreparedStatement pstmt = connection.prepareStatement(query, Statement.RETURN_GENERATED_KEYS)) {
+        try (Connection conn = DatabaseManager.borrow(connection);
+             PreparedStatement pstmt = conn.prepareStatement(query, Statement.RETURN_GENERATED_KEYS)) {
             pstmt.setString(1, email);
             pstmt.setString(2, password);
             System.out.println("Attempting to register new user with email: " + email);
@@ -98,7 +102,8 @@ public class UserDaoImpl implements UserDao {
     @Override
     public int updatePassword(int userId, String newPassword) throws SQLException {
         String query = "UPDATE users SET password = ? WHERE id = ?";
-        try (PreparedStatement pstmt = connection.prepareStatement(query)) {
+        try (Connection conn = DatabaseManager.borrow(connection);
+             PreparedStatement pstmt = conn.prepareStatement(query)) {
             pstmt.setString(1, newPassword);
             pstmt.setInt(2, userId);
             return pstmt.executeUpdate();
@@ -108,7 +113,8 @@ public class UserDaoImpl implements UserDao {
     @Override
     public String getPasswordForUser(int userId) throws SQLException {
         String query = "SELECT password FROM users WHERE id = ?";
-        try (PreparedStatement pstmt = connection.prepareStatement(query)) {
+        try (Connection conn = DatabaseManager.borrow(connection);
+             PreparedStatement pstmt = conn.prepareStatement(query)) {
             pstmt.setInt(1, userId);
             try (ResultSet rs = pstmt.executeQuery()) {
                 if (rs.next()) {
@@ -122,7 +128,8 @@ public class UserDaoImpl implements UserDao {
     @Override
     public boolean deleteUser(int userId) throws SQLException {
         String query = "DELETE FROM users WHERE id = ?";
-        try (PreparedStatement pstmt = connection.prepareStatement(query)) {
+        try (Connection conn = DatabaseManager.borrow(connection);
+             PreparedStatement pstmt = conn.prepareStatement(query)) {
             pstmt.setInt(1, userId);
             return pstmt.executeUpdate() > 0;
         }
@@ -136,7 +143,8 @@ public class UserDaoImpl implements UserDao {
         }
         
         String query = "UPDATE users SET username = ? WHERE id = ?";
-        try (PreparedStatement pstmt = connection.prepareStatement(query)) {
+        try (Connection conn = DatabaseManager.borrow(connection);
+             PreparedStatement pstmt = conn.prepareStatement(query)) {
             pstmt.setString(1, newUsername);
             pstmt.setInt(2, userId);
             return pstmt.executeUpdate();
@@ -146,7 +154,8 @@ public class UserDaoImpl implements UserDao {
     @Override
     public String getUsernameForUser(int userId) throws SQLException {
         String query = "SELECT username, email FROM users WHERE id = ?";
-        try (PreparedStatement pstmt = connection.prepareStatement(query)) {
+        try (Connection conn = DatabaseManager.borrow(connection);
+             PreparedStatement pstmt = conn.prepareStatement(query)) {
             pstmt.setInt(1, userId);
             try (ResultSet rs = pstmt.executeQuery()) {
                 if (rs.next()) {
@@ -166,7 +175,8 @@ public class UserDaoImpl implements UserDao {
     @Override
     public boolean isUsernameAvailable(String username) throws SQLException {
         String query = "SELECT id FROM users WHERE username = ?";
-        try (PreparedStatement pstmt = connection.prepareStatement(query)) {
+        try (Connection conn = DatabaseManager.borrow(connection);
+             PreparedStatement pstmt = conn.prepareStatement(query)) {
             pstmt.setString(1, username);
             try (ResultSet rs = pstmt.executeQuery()) {
                 // If no record is found, the username is available
@@ -0,0 +1,11 @@
+package database.dao;
+
+import model.UserMetricsSnapshot;
+import java.sql.SQLException;
+
+public interface UserMetricsDao {
+    /**
+     * Reads every figure quest rules use for a user in one round trip.
+     */
+    UserMetricsSnapshot loadSnapshot(int userId) throws SQLException;
+}
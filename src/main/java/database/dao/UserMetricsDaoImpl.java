@@ -0,0 +1,48 @@
+package database.dao;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import database.DatabaseManager;
+import model.Money;
+import model.UserMetricsSnapshot;
+
+public class UserMetricsDaoImpl implements UserMetricsDao {
+    // Month and day figures come from the daily_user_totals rollup; a user
+    // without an experience row is treated as level 1, as ExperienceDaoImpl does
+    private static final String SNAPSHOT_QUERY =
+            "SELECT " +
+            "(SELECT COUNT(*) FROM transactions WHERE user_id = ?) AS transaction_count, " +
+            "(SELECT COALESCE(SUM(tx_count), 0) FROM daily_user_totals " +
+            "  WHERE user_id = ? AND day = CURRENT_DATE) AS transaction_count_today, " +
+            "m.income AS monthly_income, m.expense AS monthly_expense, " +
+            "(SELECT COUNT(*) FROM quiz_completions WHERE user_id = ?) AS quiz_count, " +
+            "COALESCE((SELECT level FROM user_experience WHERE user_id = ?), 1) AS level " +
+            "FROM (SELECT COALESCE(SUM(income), 0) AS income, COALESCE(SUM(expense), 0) AS expense " +
+            "      FROM daily_user_totals WHERE user_id = ? " +
+            "      AND day >= date_trunc('month', CURRENT_DATE) " +
+            "      AND day < date_trunc('month', CURRENT_DATE) + INTERVAL '1 month') m";
+
+    @Override
+    public UserMetricsSnapshot loadSnapshot(int userId) throws SQLException {
+        try (Connection conn = DatabaseManager.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(SNAPSHOT_QUERY)) {
+            for (int i = 1; i <= 5; i++) {
+                pstmt.setInt(i, userId);
+            }
+            try (ResultSet rs = pstmt.executeQuery()) {
+                rs.next();
+                return new UserMetricsSnapshot(
+                        rs.getInt("transaction_count"),
+                        rs.getInt("transaction_count_today"),
+                        Money.toDouble(Money.fromDecimal(rs.getBigDecimal("monthly_income"))),
+                        Money.toDouble(Money.fromDecimal(rs.getBigDecimal("monthly_expense"))),
+                        rs.getInt("quiz_count"),
+                        rs.getInt("level")
+                );
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package database.dao;
+
+/**
+ * Outcome of a single XP award: the user's totals after the award and the
+ * level they were on before it.
+ */
+public class XpAward {
+    private final int currentXp;
+    private final int level;
+    private final int previousLevel;
+
+    public XpAward(int currentXp, int level, int previousLevel) {
+        this.currentXp = currentXp;
+        this.level = level;
+        this.previousLevel = previousLevel;
+    }
+
+    public int getCurrentXp() {
+        return currentXp;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public int getPreviousLevel() {
+        return previousLevel;
+    }
+
+    /**
+     * Number of levels gained by this award; zero when no threshold was crossed.
+     */
+    public int getLevelsGained() {
+        return Math.max(0, level - previousLevel);
+    }
+
+    public boolean isLevelUp() {
+        return level > previousLevel;
+    }
+}
@@ -0,0 +1,21 @@
+package events;
+
+/**
+ * Everything the dashboard shows after login has been fetched. Does not
+ * change any data; handlers that react to data changes can ignore it.
+ */
+public class DashboardReady extends DomainEvent {
+    private final long loadMillis;
+
+    public DashboardReady(int userId, long loadMillis) {
+        super(userId);
+        this.loadMillis = loadMillis;
+    }
+
+    /**
+     * Wall-clock time from login to the last prefetch finishing.
+     */
+    public long getLoadMillis() {
+        return loadMillis;
+    }
+}
@@ -0,0 +1,22 @@
+package events;
+
+/**
+ * Something that happened to a user's data. Published on the {@link EventBus}
+ * after the change has been written to the database.
+ */
+public abstract class DomainEvent {
+    private final int userId;
+
+    protected DomainEvent(int userId) {
+        this.userId = userId;
+    }
+
+    public int getUserId() {
+        return userId;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[userId=" + userId + "]";
+    }
+}
@@ -0,0 +1,78 @@
+package events;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * In-process publish/subscribe for {@link DomainEvent}s.
+ * Handlers run synchronously on the publishing thread, in subscription order.
+ * A handler subscribed to a type also receives its subclasses, so subscribing
+ * to DomainEvent sees everything.
+ */
+public class EventBus {
+    private static final EventBus INSTANCE = new EventBus();
+
+    private final List<Handler<?>> handlers = new CopyOnWriteArrayList<>();
+    private final Map<String, LongAdder> published = new ConcurrentHashMap<>();
+
+    /**
+     * Returned by subscribe; close it to stop receiving events.
+     */
+    public interface Subscription extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    private static class Handler<T extends DomainEvent> {
+        private final Class<T> type;
+        private final Consumer<? super T> consumer;
+
+        Handler(Class<T> type, Consumer<? super T> consumer) {
+            this.type = type;
+            this.consumer = consumer;
+        }
+
+        void deliver(DomainEvent event) {
+            if (type.isInstance(event)) {
+                consumer.accept(type.cast(event));
+            }
+        }
+    }
+
+    public static EventBus getInstance() {
+        return INSTANCE;
+    }
+
+    public <T extends DomainEvent> Subscription subscribe(Class<T> type, Consumer<? super T> consumer) {
+        Handler<T> handler = new Handler<>(type, consumer);
+        handlers.add(handler);
+        return () -> handlers.remove(handler);
+    }
+
+    public void publish(DomainEvent event) {
+        published.computeIfAbsent(event.getClass().getSimpleName(), k -> new LongAdder()).increment();
+        for (Handler<?> handler : handlers) {
+            try {
+                handler.deliver(event);
+            } catch (RuntimeException e) {
+                // One broken handler must not stop the others or fail the publisher
+                System.out.println("Error handling " + event + ": " + e.getMessage());
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Number of events published so far, by event type.
+     */
+    public Map<String, Long> getPublishedCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        published.forEach((type, count) -> counts.put(type, count.sum()));
+        return counts;
+    }
+}
@@ -0,0 +1,17 @@
+package events;
+
+/**
+ * A goal was created, changed or had its progress recalculated.
+ */
+public class GoalUpdated extends DomainEvent {
+    private final int goalId;
+
+    public GoalUpdated(int userId, int goalId) {
+        super(userId);
+        this.goalId = goalId;
+    }
+
+    public int getGoalId() {
+        return goalId;
+    }
+}
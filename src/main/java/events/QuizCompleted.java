@@ -0,0 +1,17 @@
+package events;
+
+/**
+ * The user finished a quiz.
+ */
+public class QuizCompleted extends DomainEvent {
+    private final int score;
+
+    public QuizCompleted(int userId, int score) {
+        super(userId);
+        this.score = score;
+    }
+
+    public int getScore() {
+        return score;
+    }
+}
@@ -0,0 +1,23 @@
+package events;
+
+/**
+ * A transaction was recorded for the user.
+ */
+public class TransactionAdded extends DomainEvent {
+    private final boolean income;
+    private final double amount;
+
+    public TransactionAdded(int userId, boolean income, double amount) {
+        super(userId);
+        this.income = income;
+        this.amount = amount;
+    }
+
+    public boolean isIncome() {
+        return income;
+    }
+
+    public double getAmount() {
+        return amount;
+    }
+}
@@ -0,0 +1,33 @@
+package events;
+
+/**
+ * The user chose a category for a transaction, either when entering it or by
+ * moving it out of another category.
+ */
+public class TransactionCategorized extends DomainEvent {
+    private final String description;
+    private final String previousCategory;
+    private final String category;
+
+    /**
+     * @param previousCategory the category it had before, or null for a new transaction
+     */
+    public TransactionCategorized(int userId, String description, String previousCategory, String category) {
+        super(userId);
+        this.description = description;
+        this.previousCategory = previousCategory;
+        this.category = category;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public String getPreviousCategory() {
+        return previousCategory;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+}
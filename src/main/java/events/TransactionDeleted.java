@@ -0,0 +1,17 @@
+package events;
+
+/**
+ * A transaction was removed from the user's history.
+ */
+public class TransactionDeleted extends DomainEvent {
+    private final int transactionId;
+
+    public TransactionDeleted(int userId, int transactionId) {
+        super(userId);
+        this.transactionId = transactionId;
+    }
+
+    public int getTransactionId() {
+        return transactionId;
+    }
+}
@@ -0,0 +1,38 @@
+package events;
+
+/**
+ * The user gained XP, from any source. When the award came back from the
+ * database the new totals are attached; otherwise they are unknown (-1).
+ */
+public class XpAwarded extends DomainEvent {
+    private final int amount;
+    private final int currentXp;
+    private final int level;
+
+    public XpAwarded(int userId, int amount) {
+        this(userId, amount, -1, -1);
+    }
+
+    public XpAwarded(int userId, int amount, int currentXp, int level) {
+        super(userId);
+        this.amount = amount;
+        this.currentXp = currentXp;
+        this.level = level;
+    }
+
+    public int getAmount() {
+        return amount;
+    }
+
+    public boolean hasTotals() {
+        return currentXp >= 0;
+    }
+
+    public int getCurrentXp() {
+        return currentXp;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+}
@@ -8,23 +8,21 @@ import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVParser;
 import org.apache.commons.csv.CSVRecord;
 import java.nio.charset.StandardCharsets;
-import java.util.regex.Pattern;
 import com.opencsv.CSVReader;
 import com.opencsv.exceptions.CsvException;
 import java.util.Arrays;
+import utils.DateParser;
 
 public class Analytics {
     private Map<String, Double> categorySpending;
     private Map<LocalDate, Double> dailySpending;
     private double totalBudget;
     private double totalSpent;
-    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
 
     public Analytics() {
         this.categorySpending = new HashMap<>();
@@ -54,8 +52,11 @@ public class Analytics {
                 String debit = record[2]; // Assuming the third column is Debit
                 String credit = record[3]; // Assuming the fourth column is Credit
 
+                // Parsed once here; invalid dates come back as DateParser.INVALID
+                int epochDay = DateParser.parseEpochDay(date);
+
                 // Validate the format of the transaction
-                if (!isValidTransaction(date, description, debit, credit)) {
+                if (!isValidTransaction(epochDay, description, debit, credit)) {
                     throw new IllegalArgumentException("Invalid transaction format: " + Arrays.toString(record));
                 }
 
@@ -64,11 +65,8 @@ public class Analytics {
                     continue;
                 }
 
-                // Convert date from MM/dd/yyyy to yyyy-MM-dd
-                date = convertDateFormat(date);
-
                 String[] transaction = new String[4];
-                transaction[0] = date;  // Date in yyyy-MM-dd format
+                transaction[0] = LocalDate.ofEpochDay(epochDay).toString();  // Date in yyyy-MM-dd format
                 transaction[1] = !debit.isEmpty() ? debit : credit;  // Amount
                 transaction[2] = determineCategory(description);  // Category based on description
                 transaction[3] = description;  // Description
@@ -95,36 +93,13 @@ public class Analytics {
         return ""; // Return empty if no valid header found
     }
 
-    /**
-     * Converts date from various formats to yyyy-MM-dd.
-     */
-    private String convertDateFormat(String date) {
-        // Example: Handle MM/dd/yyyy and dd-MM-yyyy formats
-        String[] dateParts;
-        if (date.contains("/")) {
-            dateParts = date.split("/");
-            if (dateParts.length == 3) {
-                return dateParts[2] + "-" + String.format("%02d", Integer.parseInt(dateParts[0])) + "-" +
-                        String.format("%02d", Integer.parseInt(dateParts[1]));
-            }
-        } else if (date.contains("-")) {
-            dateParts = date.split("-");
-            if (dateParts.length == 3) {
-                return dateParts[2] + "-" + String.format("%02d", Integer.parseInt(dateParts[1])) + "-" +
-                        String.format("%02d", Integer.parseInt(dateParts[0]));
-            }
-        }
-        // If no valid format is found, return the original date (or handle as needed)
-        return date;
-    }
-
     /**
      * Validates the format of a transaction.
      * @return true if the transaction format is valid, false otherwise.
      */
-    private boolean isValidTransaction(String date, String description, String debit, String credit) {
-        // Check if the date is in the correct format (MM/dd/yyyy or dd-MM-yyyy)
-        if (!Pattern.matches("\\d{1,2}/\\d{1,2}/\\d{4}", date) && !Pattern.matches("\\d{1,2}-\\d{1,2}-\\d{4}", date)) {
+    private boolean isValidTransaction(int epochDay, String description, String debit, String credit) {
+        // Check the date parsed as MM/dd/yyyy, dd-MM-yyyy or yyyy-MM-dd
+        if (epochDay == DateParser.INVALID) {
             return false;
         }
 
@@ -157,39 +132,17 @@ public class Analytics {
     }
 
     // Helper method to determine category based on description
-    private String determineCategory(String description) {
-        description = description.toLowerCase();
-
-        if (description.contains("grocery") || description.contains("food") || description.contains("restaurant") ||
-                description.contains("uber eat") || description.contains("doordash")) {
-            return "Food & Dining";
-        } else if (description.contains("amazon") || description.contains("walmart") || description.contains("shopping")) {
-            return "Shopping";
-        } else if (description.contains("netflix") || description.contains("spotify") || description.contains("movie") ||
-                description.contains("entertainment")) {
-            return "Entertainment";
-        } else if (description.contains("gas") || description.contains("uber") || description.contains("lyft") ||
-                description.contains("transit")) {
-            return "Transport";
-        } else if (description.contains("rent") || description.contains("mortgage")) {
-            return "Housing";
-        } else if (description.contains("hydro") || description.contains("water") || description.contains("internet") ||
-                description.contains("phone")) {
-            return "Utilities";
-        } else if (description.contains("salary") || description.contains("deposit") || description.contains("payment")) {
-            return "Income";
-        } else if (description.contains("health") || description.contains("medical") || description.contains("pharmacy")) {
-            return "Healthcare";
-        } else if (description.contains("school") || description.contains("tuition") || description.contains("book")) {
-            return "Education";
-        }
-
-        return "Other";
+    public static String determineCategory(String description) {
+        return TransactionCategorizer.defaults().categorize(description);
     }
 
     public void processTransaction(String[] transaction) {
         try {
-            LocalDate date = LocalDate.parse(transaction[0].trim(), DATE_FORMATTER);
+            int epochDay = DateParser.parseEpochDay(transaction[0].trim());
+            if (epochDay == DateParser.INVALID) {
+                throw new IllegalArgumentException("Invalid date: " + transaction[0]);
+            }
+            LocalDate date = LocalDate.ofEpochDay(epochDay);
             double amount = Double.parseDouble(transaction[1].trim());
             String category = transaction[2].trim();
 
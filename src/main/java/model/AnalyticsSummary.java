@@ -0,0 +1,96 @@
+package model;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Everything the analytics dashboard shows for one user: daily income and
+ * expenses, expenses per category and the overall totals.
+ * Amounts are accumulated in cents and only turned into doubles for display.
+ */
+public class AnalyticsSummary {
+    private final Map<LocalDate, Long> incomeByDate = new HashMap<>();
+    private final Map<LocalDate, Long> expenseByDate = new HashMap<>();
+    private final Map<String, Long> expensesByCategory = new HashMap<>();
+    private long totalIncome;
+    private long totalExpense;
+
+    public void addDay(LocalDate date, long incomeCents, long expenseCents) {
+        if (incomeCents != 0) {
+            incomeByDate.merge(date, incomeCents, Long::sum);
+        }
+        if (expenseCents != 0) {
+            expenseByDate.merge(date, expenseCents, Long::sum);
+        }
+        totalIncome += incomeCents;
+        totalExpense += expenseCents;
+    }
+
+    public void addCategoryExpense(String category, long expenseCents) {
+        expensesByCategory.merge(category, expenseCents, Long::sum);
+    }
+
+    /**
+     * Folds a single transaction in, the same way the SQL aggregation does.
+     */
+    public void add(Transaction transaction) {
+        if (transaction.isIncome()) {
+            addDay(transaction.getDate(), transaction.getAmountCents(), 0);
+        } else {
+            addDay(transaction.getDate(), 0, transaction.getAmountCents());
+            addCategoryExpense(transaction.getCategory(), transaction.getAmountCents());
+        }
+    }
+
+    public Map<LocalDate, Double> getIncomeByDate() {
+        return toDoubles(incomeByDate);
+    }
+
+    public Map<LocalDate, Double> getExpenseByDate() {
+        return toDoubles(expenseByDate);
+    }
+
+    public Map<String, Double> getExpensesByCategory() {
+        return toDoubles(expensesByCategory);
+    }
+
+    public double getTotalIncome() {
+        return Money.toDouble(totalIncome);
+    }
+
+    public double getTotalExpense() {
+        return Money.toDouble(totalExpense);
+    }
+
+    public double getCurrentSavings() {
+        return Money.toDouble(totalIncome - totalExpense);
+    }
+
+    public long getTotalIncomeCents() {
+        return totalIncome;
+    }
+
+    public long getTotalExpenseCents() {
+        return totalExpense;
+    }
+
+    /**
+     * Income minus expenses for every day that has either.
+     */
+    public Map<LocalDate, Double> getSavingsByDate() {
+        Map<LocalDate, Long> savings = new HashMap<>(incomeByDate);
+        for (Map.Entry<LocalDate, Long> entry : expenseByDate.entrySet()) {
+            savings.merge(entry.getKey(), -entry.getValue(), Long::sum);
+        }
+        return toDoubles(savings);
+    }
+
+    private static <K> Map<K, Double> toDoubles(Map<K, Long> cents) {
+        Map<K, Double> amounts = new HashMap<>(cents.size() * 2);
+        for (Map.Entry<K, Long> entry : cents.entrySet()) {
+            amounts.put(entry.getKey(), Money.toDouble(entry.getValue()));
+        }
+        return amounts;
+    }
+}
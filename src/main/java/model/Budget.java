@@ -1,27 +1,36 @@
 package model;
 
 public class Budget {
-    private double monthlyLimit;
-    private double weeklyLimit;
+    // Limits in cents; see Money
+    private long monthlyLimit;
+    private long weeklyLimit;
 
     public Budget(double monthlyLimit, double weeklyLimit) {
-        this.monthlyLimit = monthlyLimit;
-        this.weeklyLimit = weeklyLimit;
+        this.monthlyLimit = Money.toCents(monthlyLimit);
+        this.weeklyLimit = Money.toCents(weeklyLimit);
     }
 
     public double getMonthlyLimit() {
-        return monthlyLimit;
+        return Money.toDouble(monthlyLimit);
     }
 
     public double getWeeklyLimit() {
+        return Money.toDouble(weeklyLimit);
+    }
+
+    public long getMonthlyLimitCents() {
+        return monthlyLimit;
+    }
+
+    public long getWeeklyLimitCents() {
         return weeklyLimit;
     }
 
     public void setMonthlyLimit(double monthlyLimit) {
-        this.monthlyLimit = monthlyLimit;
+        this.monthlyLimit = Money.toCents(monthlyLimit);
     }
 
     public void setWeeklyLimit(double weeklyLimit) {
-        this.weeklyLimit = weeklyLimit;
+        this.weeklyLimit = Money.toCents(weeklyLimit);
     }
 }
@@ -0,0 +1,171 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Multinomial naive Bayes over the words of a user's transaction
+ * descriptions, used to suggest a category for new ones. Words are hashed
+ * straight to int token ids while scanning, so no strings are created and
+ * each category keeps only an int-to-int count table. The model is updated
+ * one transaction at a time as the user categorizes things.
+ * Safe for concurrent readers and writers.
+ */
+public class CategoryModel {
+    // Longest run of words looked at in one description
+    private static final int MAX_TOKENS = 32;
+    // Below this posterior probability no suggestion is made
+    private static final double MIN_CONFIDENCE = 0.6;
+
+    private final List<String> categories = new ArrayList<>();
+    private final Map<String, Integer> categoryIndex = new HashMap<>();
+    private final List<IntCountMap> tokenCounts = new ArrayList<>();
+    private final List<int[]> totals = new ArrayList<>();
+    // Occurrences of each token over all categories; its size is the vocabulary
+    private final IntCountMap vocabulary = new IntCountMap(256);
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private int documents;
+
+    /**
+     * Counts the description as an example of the category.
+     */
+    public void learn(CharSequence description, String category) {
+        update(description, category, 1);
+    }
+
+    /**
+     * Takes back an earlier {@link #learn}, e.g. when the user moves the
+     * transaction to another category.
+     */
+    public void unlearn(CharSequence description, String category) {
+        update(description, category, -1);
+    }
+
+    public int getDocumentCount() {
+        lock.readLock().lock();
+        try {
+            return documents;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return the most likely category, or null if the model has not seen
+     *         any of the description's words or is not confident enough
+     */
+    public String suggest(CharSequence description) {
+        int[] tokens = new int[MAX_TOKENS];
+        int tokenCount = tokenize(description, tokens);
+        lock.readLock().lock();
+        try {
+            if (documents == 0 || tokenCount == 0) {
+                return null;
+            }
+            int known = 0;
+            double[] scores = new double[categories.size()];
+            double vocabularySize = vocabulary.size();
+            for (int c = 0; c < scores.length; c++) {
+                int[] total = totals.get(c);
+                // total[0] = descriptions, total[1] = tokens
+                scores[c] = Math.log((double) total[0] / documents);
+            }
+            for (int t = 0; t < tokenCount; t++) {
+                if (vocabulary.get(tokens[t]) == 0) {
+                    // Never seen in any category, so it tells us nothing
+                    continue;
+                }
+                known++;
+                for (int c = 0; c < scores.length; c++) {
+                    int count = tokenCounts.get(c).get(tokens[t]);
+                    scores[c] += Math.log((count + 1) / (totals.get(c)[1] + vocabularySize));
+                }
+            }
+            if (known == 0) {
+                return null;
+            }
+
+            int best = -1;
+            for (int c = 0; c < scores.length; c++) {
+                if (totals.get(c)[0] > 0 && (best < 0 || scores[c] > scores[best])) {
+                    best = c;
+                }
+            }
+            double sum = 0;
+            for (int c = 0; c < scores.length; c++) {
+                if (totals.get(c)[0] > 0) {
+                    sum += Math.exp(scores[c] - scores[best]);
+                }
+            }
+            return 1 / sum >= MIN_CONFIDENCE ? categories.get(best) : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void update(CharSequence description, String category, int delta) {
+        int[] tokens = new int[MAX_TOKENS];
+        int tokenCount = tokenize(description, tokens);
+        lock.writeLock().lock();
+        try {
+            Integer index = categoryIndex.get(category);
+            if (index == null) {
+                if (delta < 0) {
+                    return;
+                }
+                index = categories.size();
+                categories.add(category);
+                categoryIndex.put(category, index);
+                tokenCounts.add(new IntCountMap());
+                totals.add(new int[2]);
+            }
+            int[] total = totals.get(index);
+            if (delta < 0 && total[0] == 0) {
+                return;
+            }
+            IntCountMap counts = tokenCounts.get(index);
+            for (int t = 0; t < tokenCount; t++) {
+                int before = counts.get(tokens[t]);
+                int after = counts.add(tokens[t], delta);
+                total[1] += after - before;
+                vocabulary.add(tokens[t], after - before);
+            }
+            total[0] += delta;
+            documents += delta;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Splits the description into words of two or more letters, ignoring
+     * case, digits and punctuation, and writes a hash of each into tokens.
+     * @return number of tokens written
+     */
+    static int tokenize(CharSequence description, int[] tokens) {
+        if (description == null) {
+            return 0;
+        }
+        int count = 0;
+        int hash = 0;
+        int length = 0;
+        for (int i = 0, n = description.length(); i <= n && count < tokens.length; i++) {
+            char c = i < n ? description.charAt(i) : ' ';
+            if (Character.isLetter(c)) {
+                hash = hash * 31 + Character.toLowerCase(c);
+                length++;
+            } else {
+                if (length >= 2) {
+                    // 0 marks an empty slot in IntCountMap
+                    tokens[count++] = hash == 0 ? 1 : hash;
+                }
+                hash = 0;
+                length = 0;
+            }
+        }
+        return count;
+    }
+}
@@ -10,8 +10,9 @@ public class Goal {
     private int userId;
     private String title;
     private String description;
-    private double targetAmount;
-    private double currentAmount;
+    // Amounts in cents; see Money
+    private long targetAmount;
+    private long currentAmount;
     private Date startDate;
     private Date targetDate;
     private String category;
@@ -25,8 +26,8 @@ public class Goal {
         this.userId = userId;
         this.title = title;
         this.description = description;
-        this.targetAmount = targetAmount;
-        this.currentAmount = 0.0;
+        this.targetAmount = Money.toCents(targetAmount);
+        this.currentAmount = 0;
         this.startDate = startDate;
         this.targetDate = targetDate;
         this.category = category;
@@ -43,8 +44,8 @@ public class Goal {
         this.userId = userId;
         this.title = title;
         this.description = description;
-        this.targetAmount = targetAmount;
-        this.currentAmount = currentAmount;
+        this.targetAmount = Money.toCents(targetAmount);
+        this.currentAmount = Money.toCents(currentAmount);
         this.startDate = startDate;
         this.targetDate = targetDate;
         this.category = category;
@@ -85,18 +86,30 @@ public class Goal {
     }
 
     public double getTargetAmount() {
+        return Money.toDouble(targetAmount);
+    }
+
+    public long getTargetAmountCents() {
         return targetAmount;
     }
 
     public void setTargetAmount(double targetAmount) {
-        this.targetAmount = targetAmount;
+        this.targetAmount = Money.toCents(targetAmount);
     }
 
     public double getCurrentAmount() {
+        return Money.toDouble(currentAmount);
+    }
+
+    public long getCurrentAmountCents() {
         return currentAmount;
     }
 
     public void setCurrentAmount(double currentAmount) {
+        setCurrentAmountCents(Money.toCents(currentAmount));
+    }
+
+    public void setCurrentAmountCents(long currentAmount) {
         this.currentAmount = currentAmount;
         // Auto-update completion status
         this.completed = currentAmount >= targetAmount;
@@ -142,7 +155,7 @@ public class Goal {
         if (targetAmount <= 0) {
             return 0;
         }
-        double progress = (currentAmount / targetAmount) * 100;
+        double progress = (double) currentAmount / targetAmount * 100;
         return Math.min(progress, 100.0); // Cap at 100%
     }
 
@@ -0,0 +1,106 @@
+package model;
+
+/**
+ * Open-addressing map from int keys to int counts, without boxing.
+ * Key 0 is reserved as the empty-slot marker. Keys whose count drops to
+ * zero keep their slot, so they cost nothing to count again.
+ * Not thread-safe.
+ */
+class IntCountMap {
+    private static final float MAX_LOAD = 0.6f;
+
+    private int[] keys;
+    private int[] counts;
+    private int used;
+    private int live;
+
+    IntCountMap() {
+        this(16);
+    }
+
+    IntCountMap(int expected) {
+        int capacity = Integer.highestOneBit(Math.max(4, (int) (expected / MAX_LOAD)) * 2 - 1);
+        keys = new int[capacity];
+        counts = new int[capacity];
+    }
+
+    int get(int key) {
+        int mask = keys.length - 1;
+        for (int i = mix(key) & mask; ; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                return counts[i];
+            }
+            if (keys[i] == 0) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Adds delta to the key's count, never going below zero.
+     * @return the new count
+     */
+    int add(int key, int delta) {
+        if (key == 0) {
+            throw new IllegalArgumentException("Key 0 is reserved");
+        }
+        if (used + 1 > keys.length * MAX_LOAD) {
+            // Rehashing also drops zero-count keys, which may free enough room by itself
+            resize(live + 1 > keys.length * MAX_LOAD / 2 ? keys.length * 2 : keys.length);
+        }
+        int mask = keys.length - 1;
+        int i = mix(key) & mask;
+        while (keys[i] != key && keys[i] != 0) {
+            i = (i + 1) & mask;
+        }
+        if (keys[i] == 0) {
+            if (delta <= 0) {
+                return 0;
+            }
+            keys[i] = key;
+            used++;
+        }
+        int before = counts[i];
+        int after = Math.max(0, before + delta);
+        counts[i] = after;
+        if (before == 0 && after > 0) {
+            live++;
+        } else if (before > 0 && after == 0) {
+            live--;
+        }
+        return after;
+    }
+
+    /**
+     * @return number of keys with a positive count
+     */
+    int size() {
+        return live;
+    }
+
+    private void resize(int capacity) {
+        int[] oldKeys = keys;
+        int[] oldCounts = counts;
+        keys = new int[capacity];
+        counts = new int[capacity];
+        used = 0;
+        int mask = capacity - 1;
+        for (int j = 0; j < oldKeys.length; j++) {
+            // Drop keys that have gone back to zero
+            if (oldKeys[j] != 0 && oldCounts[j] > 0) {
+                int i = mix(oldKeys[j]) & mask;
+                while (keys[i] != 0) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = oldKeys[j];
+                counts[i] = oldCounts[j];
+                used++;
+            }
+        }
+    }
+
+    private static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
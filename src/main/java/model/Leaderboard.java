@@ -1,5 +1,274 @@
 package model;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Users ranked by level, then XP (both descending), with ties broken by user
+ * id. Backed by an indexable skip list: every forward link also records how
+ * many entries it skips, so rank lookups and "entry at rank r" both take
+ * O(log n), and an update is a remove plus an insert.
+ * Safe for concurrent readers and writers.
+ */
 public class Leaderboard {
+    private static final int MAX_HEIGHT = 32;
+
+    private static class Node {
+        final int userId;
+        final String userName;
+        final int level;
+        final int xp;
+        final Node[] next;
+        // span[i] = number of bottom-level steps covered by next[i]
+        final int[] span;
+
+        Node(int userId, String userName, int level, int xp, int height) {
+            this.userId = userId;
+            this.userName = userName;
+            this.level = level;
+            this.xp = xp;
+            this.next = new Node[height];
+            this.span = new int[height];
+        }
+    }
+
+    private final Node head = new Node(-1, null, Integer.MAX_VALUE, Integer.MAX_VALUE, MAX_HEIGHT);
+    private final Map<Integer, Node> byUser = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private int height = 1;
+    private int size;
+
+    /**
+     * Adds the user or moves them to the position for their new totals.
+     */
+    public void put(int userId, String userName, int level, int xp) {
+        lock.writeLock().lock();
+        try {
+            Node existing = byUser.remove(userId);
+            if (existing != null) {
+                unlink(existing);
+                if (userName == null) {
+                    userName = existing.userName;
+                }
+            }
+            byUser.put(userId, insert(userId, userName, level, xp));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(int userId) {
+        lock.writeLock().lock();
+        try {
+            Node existing = byUser.remove(userId);
+            if (existing != null) {
+                unlink(existing);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean contains(int userId) {
+        lock.readLock().lock();
+        try {
+            return byUser.containsKey(userId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return the user's entry with its current rank, or null if not ranked
+     */
+    public LeaderboardEntry get(int userId) {
+        lock.readLock().lock();
+        try {
+            Node node = byUser.get(userId);
+            return node == null ? null : toEntry(node, rankOf(node));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return 1-based rank of the user, or 0 if they are not ranked
+     */
+    public int rank(int userId) {
+        lock.readLock().lock();
+        try {
+            Node node = byUser.get(userId);
+            return node == null ? 0 : rankOf(node);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<LeaderboardEntry> top(int k) {
+        return page(0, k);
+    }
+
+    /**
+     * Returns up to limit entries starting after the first offset ranks.
+     */
+    public List<LeaderboardEntry> page(int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            List<LeaderboardEntry> entries = new ArrayList<>();
+            if (offset < 0 || offset >= size || limit <= 0) {
+                return entries;
+            }
+            int rank = offset + 1;
+            Node node = nodeAt(rank);
+            while (node != null && entries.size() < limit) {
+                entries.add(toEntry(node, rank++));
+                node = node.next[0];
+            }
+            return entries;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the user's entry with up to radius neighbours on each side.
+     * Empty if the user is not ranked.
+     */
+    public List<LeaderboardEntry> around(int userId, int radius) {
+        lock.readLock().lock();
+        try {
+            Node node = byUser.get(userId);
+            if (node == null) {
+                return new ArrayList<>();
+            }
+            int rank = rankOf(node);
+            int first = Math.max(1, rank - radius);
+            return page(first - 1, rank - first + radius + 1);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static LeaderboardEntry toEntry(Node node, int rank) {
+        return new LeaderboardEntry(node.userId, rank, node.userName, node.level, node.xp);
+    }
+
+    // Higher level first, then higher XP, then lower user id
+    private static int compare(Node a, int userId, int level, int xp) {
+        if (a.level != level) {
+            return a.level > level ? -1 : 1;
+        }
+        if (a.xp != xp) {
+            return a.xp > xp ? -1 : 1;
+        }
+        return Integer.compare(a.userId, userId);
+    }
+
+    private int rankOf(Node target) {
+        Node x = head;
+        int rank = 0;
+        for (int i = height - 1; i >= 0; i--) {
+            while (x.next[i] != null && compare(x.next[i], target.userId, target.level, target.xp) <= 0) {
+                rank += x.span[i];
+                x = x.next[i];
+            }
+            if (x == target) {
+                return rank;
+            }
+        }
+        return 0;
+    }
+
+    private Node nodeAt(int rank) {
+        Node x = head;
+        int traversed = 0;
+        for (int i = height - 1; i >= 0; i--) {
+            while (x.next[i] != null && traversed + x.span[i] <= rank) {
+                traversed += x.span[i];
+                x = x.next[i];
+            }
+            if (traversed == rank) {
+                return x;
+            }
+        }
+        return null;
+    }
+
+    private Node insert(int userId, String userName, int level, int xp) {
+        Node[] update = new Node[MAX_HEIGHT];
+        int[] rank = new int[MAX_HEIGHT];
+        Node x = head;
+        for (int i = height - 1; i >= 0; i--) {
+            rank[i] = i == height - 1 ? 0 : rank[i + 1];
+            while (x.next[i] != null && compare(x.next[i], userId, level, xp) < 0) {
+                rank[i] += x.span[i];
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+
+        int nodeHeight = randomHeight();
+        if (nodeHeight > height) {
+            for (int i = height; i < nodeHeight; i++) {
+                rank[i] = 0;
+                update[i] = head;
+                head.span[i] = size;
+            }
+            height = nodeHeight;
+        }
+
+        Node node = new Node(userId, userName, level, xp, nodeHeight);
+        for (int i = 0; i < nodeHeight; i++) {
+            node.next[i] = update[i].next[i];
+            update[i].next[i] = node;
+            node.span[i] = update[i].span[i] - (rank[0] - rank[i]);
+            update[i].span[i] = rank[0] - rank[i] + 1;
+        }
+        for (int i = nodeHeight; i < height; i++) {
+            update[i].span[i]++;
+        }
+        size++;
+        return node;
+    }
+
+    private void unlink(Node node) {
+        Node x = head;
+        for (int i = height - 1; i >= 0; i--) {
+            while (x.next[i] != null && compare(x.next[i], node.userId, node.level, node.xp) < 0) {
+                x = x.next[i];
+            }
+            if (x.next[i] == node) {
+                x.span[i] += node.span[i] - 1;
+                x.next[i] = node.next[i];
+            } else {
+                x.span[i]--;
+            }
+        }
+        while (height > 1 && head.next[height - 1] == null) {
+            height--;
+        }
+        size--;
+    }
 
+    private static int randomHeight() {
+        int h = 1;
+        // p = 1/4, as in most skip list implementations
+        while (h < MAX_HEIGHT && (ThreadLocalRandom.current().nextInt() & 3) == 0) {
+            h++;
+        }
+        return h;
+    }
 }
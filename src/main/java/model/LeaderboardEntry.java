@@ -1,18 +1,28 @@
 package model;
 
 public class LeaderboardEntry {
+    private int userId;
     private int rank;
     private String userName;
     private int level;
     private int xp;
 
     public LeaderboardEntry(int rank, String userName, int level, int xp) {
+        this(0, rank, userName, level, xp);
+    }
+
+    public LeaderboardEntry(int userId, int rank, String userName, int level, int xp) {
+        this.userId = userId;
         this.rank = rank;
         this.userName = userName;
         this.level = level;
         this.xp = xp;
     }
 
+    public int getUserId() {
+        return userId;
+    }
+
     public int getRank() {
         return rank;
     }
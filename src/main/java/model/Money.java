@@ -0,0 +1,106 @@
+package model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Money amounts as a whole number of cents in a long. Cents add up exactly,
+ * so totals never drift and can be kept in primitive accumulators.
+ * Doubles only appear at the edges (text fields, charts, JDBC getDouble);
+ * every cent value survives the round trip through {@link #toDouble} and
+ * {@link #toCents}, as does any value read from a NUMERIC(p, 2) column.
+ */
+public final class Money {
+    public static final long CENTS_PER_UNIT = 100;
+    /** Returned by {@link #parseCents} for text that is not an amount. */
+    public static final long INVALID = Long.MIN_VALUE;
+
+    private Money() {
+    }
+
+    /**
+     * Rounds a decimal amount to the nearest cent.
+     */
+    public static long toCents(double amount) {
+        if (Double.isNaN(amount) || Double.isInfinite(amount)) {
+            throw new IllegalArgumentException("Amount must be a finite number: " + amount);
+        }
+        return Math.round(amount * CENTS_PER_UNIT);
+    }
+
+    public static double toDouble(long cents) {
+        return cents / (double) CENTS_PER_UNIT;
+    }
+
+    public static long fromDecimal(BigDecimal amount) {
+        return amount == null ? 0 : amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    public static BigDecimal toDecimal(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    /**
+     * Reads an amount such as "12", "-3.5" or "1234.56" straight into cents
+     * without creating any objects. A third decimal digit and beyond is
+     * rounded half up.
+     * @return the amount in cents, or {@link #INVALID}
+     */
+    public static long parseCents(CharSequence text) {
+        int n = text == null ? 0 : text.length();
+        int i = 0;
+        boolean negative = false;
+        if (i < n && (text.charAt(i) == '-' || text.charAt(i) == '+')) {
+            negative = text.charAt(i) == '-';
+            i++;
+        }
+        long units = 0;
+        int digits = 0;
+        for (; i < n && text.charAt(i) >= '0' && text.charAt(i) <= '9'; i++, digits++) {
+            if (units > (Long.MAX_VALUE / CENTS_PER_UNIT - 9) / 10) {
+                return INVALID;
+            }
+            units = units * 10 + (text.charAt(i) - '0');
+        }
+        long cents = 0;
+        if (i < n && text.charAt(i) == '.') {
+            i++;
+            int scale = 0;
+            for (; i < n && text.charAt(i) >= '0' && text.charAt(i) <= '9'; i++, digits++, scale++) {
+                int digit = text.charAt(i) - '0';
+                if (scale == 0) {
+                    cents += digit * 10;
+                } else if (scale == 1) {
+                    cents += digit;
+                } else if (scale == 2 && digit >= 5) {
+                    cents++;
+                }
+            }
+        }
+        if (digits == 0 || i != n) {
+            return INVALID;
+        }
+        long total = units * CENTS_PER_UNIT + cents;
+        return negative ? -total : total;
+    }
+
+    /**
+     * Formats cents as a plain decimal, e.g. 123456 as "1234.56".
+     */
+    public static String format(long cents) {
+        return appendTo(new StringBuilder(24), cents).toString();
+    }
+
+    public static StringBuilder appendTo(StringBuilder out, long cents) {
+        if (cents < 0) {
+            out.append('-');
+        }
+        long abs = Math.abs(cents);
+        long fraction = abs % CENTS_PER_UNIT;
+        out.append(abs / CENTS_PER_UNIT).append('.');
+        if (fraction < 10) {
+            out.append('0');
+        }
+        return out.append(fraction);
+    }
+}
@@ -16,6 +16,7 @@ public class Quest {
     private LocalDate deadline;
     private int userId;
     private int progress; // Progress value from 0-100
+    private QuestRule rule;
     
     /**
      * Default constructor
@@ -118,6 +119,21 @@ public class Quest {
         this.userId = userId;
     }
     
+    /**
+     * Get the rule that decides this quest's progress. Quests without a stored
+     * rule get one inferred from their title and description.
+     */
+    public QuestRule getRule() {
+        if (rule == null) {
+            rule = QuestRule.infer(title, description, requiredAmount);
+        }
+        return rule;
+    }
+    
+    public void setRule(QuestRule rule) {
+        this.rule = rule;
+    }
+    
     /**
      * Get the current progress of this quest (0-100)
      * @return Progress percentage from 0 to 100
@@ -159,6 +175,7 @@ public class Quest {
                 ", deadline=" + deadline +
                 ", userId=" + userId +
                 ", progress=" + progress +
+                ", rule=" + rule +
                 '}';
     }
 } 
\ No newline at end of file
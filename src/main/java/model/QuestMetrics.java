@@ -0,0 +1,17 @@
+package model;
+
+import java.sql.SQLException;
+
+/**
+ * The user figures quest rules are evaluated against. One instance covers a
+ * single evaluation pass, so every quest in the pass sees the same numbers
+ * and each figure is fetched at most once.
+ */
+public interface QuestMetrics {
+    int getTransactionCount() throws SQLException;
+    int getTransactionCountToday() throws SQLException;
+    double getMonthlyIncome() throws SQLException;
+    double getMonthlyExpenses() throws SQLException;
+    int getQuizCount() throws SQLException;
+    int getLevel() throws SQLException;
+}
@@ -0,0 +1,108 @@
+package model;
+
+/**
+ * What a quest measures and the target it has to reach.
+ * Stored in the quests.rule column as KIND or KIND:target, e.g. TRANSACTION_COUNT:3.
+ */
+public class QuestRule {
+
+    public enum Kind {
+        LOG_TRANSACTION,   // any transaction logged
+        TRANSACTION_COUNT, // at least target transactions
+        DAILY_LOG,         // a transaction logged today
+        UNDER_BUDGET,      // monthly expenses below monthly income
+        SAVE_AMOUNT,       // monthly income minus expenses reaches target
+        COMPLETE_GOALS,    // all goals completed
+        REACH_LEVEL,       // user level reaches target
+        COMPLETE_QUIZZES,  // at least target quizzes completed
+        OTHER              // nothing measurable
+    }
+
+    private final Kind kind;
+    private final double target;
+
+    public QuestRule(Kind kind, double target) {
+        this.kind = kind;
+        this.target = target;
+    }
+
+    public QuestRule(Kind kind) {
+        this(kind, 0);
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public double getTarget() {
+        return target;
+    }
+
+    /**
+     * Parses the stored form produced by {@link #toString()}.
+     * @throws IllegalArgumentException if the text is not a valid rule
+     */
+    public static QuestRule parse(String text) {
+        int colon = text.indexOf(':');
+        if (colon < 0) {
+            return new QuestRule(Kind.valueOf(text.trim()));
+        }
+        return new QuestRule(Kind.valueOf(text.substring(0, colon).trim()),
+                Double.parseDouble(text.substring(colon + 1).trim()));
+    }
+
+    /**
+     * Works out the rule for a quest saved before rules were stored,
+     * from its title and description. The target is the quest's required amount.
+     */
+    public static QuestRule infer(String title, String description, double requiredAmount) {
+        title = title == null ? "" : title.toLowerCase();
+        description = description == null ? "" : description.toLowerCase();
+
+        Kind kind;
+        if (title.contains("daily log") || title.contains("log a transaction") ||
+            description.contains("log a transaction") || description.contains("log all your expenses")) {
+            kind = Kind.LOG_TRANSACTION;
+        } else if (title.contains("transaction master") || title.contains("log transactions") ||
+            description.contains("log multiple transactions") || description.contains("record at least")) {
+            kind = Kind.TRANSACTION_COUNT;
+        } else if (title.contains("budget guardian") || title.contains("budget streak") ||
+            title.contains("stay under budget") || description.contains("stay under budget") ||
+            description.contains("stay within your daily budget") ||
+            description.contains("keep your expenses below")) {
+            kind = Kind.UNDER_BUDGET;
+        } else if (title.contains("save $") || title.contains("savings champion") ||
+            title.contains("save money") || description.contains("save money") ||
+            description.contains("save at least") || description.contains("savings account")) {
+            kind = Kind.SAVE_AMOUNT;
+        } else if (title.contains("complete all goals")) {
+            kind = Kind.COMPLETE_GOALS;
+        } else if (title.contains("reach level")) {
+            kind = Kind.REACH_LEVEL;
+        } else if (title.contains("complete") && (title.contains("quiz") || title.contains("quizzes")) ||
+            description.contains("complete") && (description.contains("quiz") || description.contains("quizzes"))) {
+            kind = Kind.COMPLETE_QUIZZES;
+        } else {
+            kind = Kind.OTHER;
+        }
+        return new QuestRule(kind, requiredAmount);
+    }
+
+    @Override
+    public String toString() {
+        return target == 0 ? kind.name() : kind.name() + ":" + target;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof QuestRule)) return false;
+        QuestRule other = (QuestRule) o;
+        return kind == other.kind && Double.compare(target, other.target) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return kind.hashCode() * 31 + Double.hashCode(target);
+    }
+}
@@ -7,7 +7,7 @@ public class Transaction {
     private int id;
     private int userId;
     private String description;
-    private double amount;
+    private long amountCents; // see Money
     private LocalDate date;
     private boolean isIncome; // true = income, false = expense
     private String category;  // Transaction category
@@ -25,7 +25,7 @@ public class Transaction {
     		description = "Other";
     	}
         this.description = description;
-        this.amount = amount;
+        this.amountCents = Money.toCents(amount);
         this.date = date;
         this.isIncome = isIncome;
         this.category = "Other"; // Default category
@@ -47,12 +47,25 @@ public class Transaction {
     		description = category;
     	}
         this.description = description;
-        this.amount = amount;
+        this.amountCents = Money.toCents(amount);
         this.date = date;
         this.isIncome = isIncome;
         this.category = category;
     }
 
+    /**
+     * Creates a transaction from an amount already in cents, e.g. one parsed
+     * with {@link Money#parseCents}.
+     */
+    public static Transaction ofCents(String description, long amountCents, LocalDate date, boolean isIncome, String category) {
+        Transaction transaction = new Transaction(description, 0, date, isIncome, category);
+        if (amountCents < 0) {
+            throw new IllegalArgumentException("Amount can not be negative");
+        }
+        transaction.amountCents = amountCents;
+        return transaction;
+    }
+
     // New constructor for database retrieval
     // It accepts an id, a userId, a Timestamp for the date, a description,
     // a category, a type as a String ("income" or "expense"), and the amount.
@@ -69,12 +82,22 @@ public class Transaction {
         this.id = id;
         this.userId = userId;
         this.description = description;
-        this.amount = amount;
+        this.amountCents = Money.toCents(amount);
         this.date = timestamp.toLocalDateTime().toLocalDate();
         this.category = category;
         this.isIncome = type.equalsIgnoreCase("income");
     }
 
+    /**
+     * Creates a transaction read from the database, with the amount in cents.
+     */
+    public static Transaction fromRow(int id, int userId, Timestamp timestamp, String description, String category,
+                                      String type, long amountCents) {
+        Transaction transaction = new Transaction(id, userId, timestamp, description, category, type, 0);
+        transaction.amountCents = amountCents;
+        return transaction;
+    }
+
     // Getters
     public int getId() {
         return id;
@@ -97,7 +120,11 @@ public class Transaction {
     }
 
     public double getAmount() {
-        return amount;
+        return Money.toDouble(amountCents);
+    }
+
+    public long getAmountCents() {
+        return amountCents;
     }
 
     public LocalDate getDate() {
@@ -123,6 +150,6 @@ public class Transaction {
 
     @Override
     public String toString() {
-        return date + " | " + getType() + ": " + description + " - $" + amount + " (" + category + ")";
+        return date + " | " + getType() + ": " + description + " - $" + Money.format(amountCents) + " (" + category + ")";
     }
 }
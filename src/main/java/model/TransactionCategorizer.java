@@ -0,0 +1,204 @@
+package model;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Assigns a category to a transaction description from a keyword table.
+ * Every keyword is compiled into one Aho-Corasick automaton stored as a flat
+ * transition table, so a description is checked against all keywords in a
+ * single case-insensitive pass. When several keywords match, the rule listed
+ * first wins. Instances are immutable and safe to share between threads.
+ */
+public class TransactionCategorizer {
+    public static final String DEFAULT_CATEGORY = "Other";
+
+    private static final int NO_MATCH = Integer.MAX_VALUE;
+    private static final int ASCII = 128;
+
+    /**
+     * Descriptions containing the keyword (ignoring case) get the category.
+     */
+    public static class Rule {
+        private final String keyword;
+        private final String category;
+
+        public Rule(String keyword, String category) {
+            if (keyword == null || keyword.isEmpty()) {
+                throw new IllegalArgumentException("Keyword can not be empty");
+            }
+            if (category == null || category.trim().isEmpty()) {
+                throw new IllegalArgumentException("Category can not be empty");
+            }
+            this.keyword = keyword;
+            this.category = category;
+        }
+
+        public String getKeyword() {
+            return keyword;
+        }
+
+        public String getCategory() {
+            return category;
+        }
+    }
+
+    private static final List<Rule> DEFAULT_RULES = defaultRules();
+    private static final TransactionCategorizer DEFAULTS = new TransactionCategorizer(DEFAULT_RULES);
+
+    private final List<Rule> rules;
+    private final String[] categories;
+    // Keyword characters are mapped to columns of the transition table; column 0 is every other character
+    private final int[] asciiColumns = new int[ASCII];
+    private final Map<Character, Integer> otherColumns = new HashMap<>();
+    private final int columns;
+    // next[state * columns + column] = following state, with failure links already folded in
+    private final int[] next;
+    // Lowest rule index ending at the state, directly or through its failure chain
+    private final int[] match;
+
+    public TransactionCategorizer(List<Rule> rules) {
+        this.rules = Collections.unmodifiableList(new ArrayList<>(rules));
+        this.categories = new String[rules.size()];
+
+        int maxStates = 1;
+        int assigned = 0;
+        for (int i = 0; i < rules.size(); i++) {
+            Rule rule = rules.get(i);
+            categories[i] = rule.getCategory();
+            maxStates += rule.getKeyword().length();
+            for (int j = 0; j < rule.getKeyword().length(); j++) {
+                char c = Character.toLowerCase(rule.getKeyword().charAt(j));
+                if (c < ASCII) {
+                    if (asciiColumns[c] == 0) {
+                        asciiColumns[c] = ++assigned;
+                    }
+                } else if (!otherColumns.containsKey(c)) {
+                    otherColumns.put(c, ++assigned);
+                }
+            }
+        }
+        this.columns = 1 + assigned;
+        // Give upper-case ASCII letters their lower-case column so the scan can skip toLowerCase
+        for (char c = 'A'; c <= 'Z'; c++) {
+            asciiColumns[c] = asciiColumns[Character.toLowerCase(c)];
+        }
+
+        // Build the keyword trie; 0 is the root and also means "no child yet"
+        int[] trie = new int[maxStates * columns];
+        int[] best = new int[maxStates];
+        Arrays.fill(best, NO_MATCH);
+        int states = 1;
+        for (int i = 0; i < rules.size(); i++) {
+            String keyword = rules.get(i).getKeyword();
+            int state = 0;
+            for (int j = 0; j < keyword.length(); j++) {
+                int slot = state * columns + columnOf(Character.toLowerCase(keyword.charAt(j)));
+                if (trie[slot] == 0) {
+                    trie[slot] = states++;
+                }
+                state = trie[slot];
+            }
+            best[state] = Math.min(best[state], i);
+        }
+
+        // Breadth-first, so every failure target is complete before it is used
+        int[] fail = new int[states];
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int column = 0; column < columns; column++) {
+            if (trie[column] != 0) {
+                queue.add(trie[column]);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            best[state] = Math.min(best[state], best[fail[state]]);
+            for (int column = 0; column < columns; column++) {
+                int slot = state * columns + column;
+                int fallback = trie[fail[state] * columns + column];
+                if (trie[slot] != 0) {
+                    fail[trie[slot]] = fallback;
+                    queue.add(trie[slot]);
+                } else {
+                    trie[slot] = fallback;
+                }
+            }
+        }
+
+        this.next = Arrays.copyOf(trie, states * columns);
+        this.match = Arrays.copyOf(best, states);
+    }
+
+    /**
+     * @return the built-in rules, compiled once
+     */
+    public static TransactionCategorizer defaults() {
+        return DEFAULTS;
+    }
+
+    public static List<Rule> getDefaultRules() {
+        return DEFAULT_RULES;
+    }
+
+    public List<Rule> getRules() {
+        return rules;
+    }
+
+    /**
+     * @return the category of the first rule whose keyword occurs in the
+     *         description, or {@link #DEFAULT_CATEGORY} if none does
+     */
+    public String categorize(CharSequence description) {
+        if (description == null) {
+            return DEFAULT_CATEGORY;
+        }
+        int state = 0;
+        int found = NO_MATCH;
+        for (int i = 0, n = description.length(); i < n; i++) {
+            char c = description.charAt(i);
+            int column = c < ASCII ? asciiColumns[c] : columnOf(Character.toLowerCase(c));
+            state = next[state * columns + column];
+            if (match[state] < found) {
+                found = match[state];
+                if (found == 0) {
+                    break;
+                }
+            }
+        }
+        return found == NO_MATCH ? DEFAULT_CATEGORY : categories[found];
+    }
+
+    private int columnOf(char c) {
+        if (c < ASCII) {
+            return asciiColumns[c];
+        }
+        Integer column = otherColumns.get(c);
+        return column == null ? 0 : column;
+    }
+
+    private static List<Rule> defaultRules() {
+        List<Rule> rules = new ArrayList<>();
+        // Order matters: "uber eat" must be seen as food before "uber" as transport
+        add(rules, "Food & Dining", "grocery", "food", "restaurant", "uber eat", "doordash");
+        add(rules, "Shopping", "amazon", "walmart", "shopping");
+        add(rules, "Entertainment", "netflix", "spotify", "movie", "entertainment");
+        add(rules, "Transport", "gas", "uber", "lyft", "transit");
+        add(rules, "Housing", "rent", "mortgage");
+        add(rules, "Utilities", "hydro", "water", "internet", "phone");
+        add(rules, "Income", "salary", "deposit", "payment");
+        add(rules, "Healthcare", "health", "medical", "pharmacy");
+        add(rules, "Education", "school", "tuition", "book");
+        return Collections.unmodifiableList(rules);
+    }
+
+    private static void add(List<Rule> rules, String category, String... keywords) {
+        for (String keyword : keywords) {
+            rules.add(new Rule(keyword, category));
+        }
+    }
+}
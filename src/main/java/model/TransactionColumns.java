@@ -0,0 +1,304 @@
+package model;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * One user's transactions stored column by column: epoch days in an int[],
+ * amounts as cents in a long[], categories dictionary-encoded into a short[] and
+ * the income flag in a BitSet. Aggregations are plain loops over primitive
+ * arrays with long accumulators, so totals are exact to the cent. Row order is not kept.
+ * Safe for concurrent readers and writers.
+ */
+public class TransactionColumns {
+    /** Id of rows added without knowing their database id. */
+    public static final int UNKNOWN_ID = 0;
+
+    private static final int INITIAL_CAPACITY = 64;
+    // Beyond this many days per row, per-day arrays would be mostly empty
+    private static final int MAX_DAYS_PER_ROW = 64;
+
+    private int[] ids = new int[INITIAL_CAPACITY];
+    private int[] epochDays = new int[INITIAL_CAPACITY];
+    private long[] amountCents = new long[INITIAL_CAPACITY];
+    private short[] categoryIds = new short[INITIAL_CAPACITY];
+    private final BitSet income = new BitSet();
+    private int size;
+    private int unknownIds;
+
+    private final List<String> categoryNames = new ArrayList<>();
+    private final Map<String, Short> categoryCodes = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void add(Transaction transaction) {
+        addCents(transaction.getId(), transaction.getDate(), transaction.getAmountCents(),
+                transaction.getCategory(), transaction.isIncome());
+    }
+
+    public void add(int id, LocalDate date, double amount, String category, boolean isIncome) {
+        addCents(id, date, Money.toCents(amount), category, isIncome);
+    }
+
+    public void addCents(int id, LocalDate date, long cents, String category, boolean isIncome) {
+        lock.writeLock().lock();
+        try {
+            if (size == ids.length) {
+                int capacity = size * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                epochDays = Arrays.copyOf(epochDays, capacity);
+                amountCents = Arrays.copyOf(amountCents, capacity);
+                categoryIds = Arrays.copyOf(categoryIds, capacity);
+            }
+            set(size, id, date, cents, category, isIncome);
+            if (id == UNKNOWN_ID) {
+                unknownIds++;
+            }
+            size++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces the row with the transaction's id.
+     * @return false if no row has that id
+     */
+    public boolean update(Transaction transaction) {
+        lock.writeLock().lock();
+        try {
+            int row = indexOf(transaction.getId());
+            if (row < 0) {
+                return false;
+            }
+            set(row, transaction.getId(), transaction.getDate(), transaction.getAmountCents(),
+                    transaction.getCategory(), transaction.isIncome());
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean updateCategory(int id, String category) {
+        lock.writeLock().lock();
+        try {
+            int row = indexOf(id);
+            if (row < 0) {
+                return false;
+            }
+            categoryIds[row] = encode(category);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return false if no row has that id
+     */
+    public boolean remove(int id) {
+        lock.writeLock().lock();
+        try {
+            int row = indexOf(id);
+            if (row < 0) {
+                return false;
+            }
+            // Move the last row into the gap
+            int last = --size;
+            ids[row] = ids[last];
+            epochDays[row] = epochDays[last];
+            amountCents[row] = amountCents[last];
+            categoryIds[row] = categoryIds[last];
+            income.set(row, income.get(last));
+            income.clear(last);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return true if some rows were added without an id, so a failed
+     *         lookup by id does not prove the row is absent
+     */
+    public boolean hasUnknownIds() {
+        lock.readLock().lock();
+        try {
+            return unknownIds > 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Sums income or expense amounts dated in [from, to), in cents.
+     */
+    public long sumCents(boolean isIncome, LocalDate from, LocalDate to) {
+        int fromDay = (int) from.toEpochDay();
+        int toDay = (int) to.toEpochDay();
+        lock.readLock().lock();
+        try {
+            long total = 0;
+            for (int i = 0; i < size; i++) {
+                int day = epochDays[i];
+                if (day >= fromDay && day < toDay && income.get(i) == isIncome) {
+                    total += amountCents[i];
+                }
+            }
+            return total;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Sums income or expense amounts in the category dated in [from, to), in cents.
+     */
+    public long sumCents(boolean isIncome, String category, LocalDate from, LocalDate to) {
+        int fromDay = (int) from.toEpochDay();
+        int toDay = (int) to.toEpochDay();
+        lock.readLock().lock();
+        try {
+            Short code = categoryCodes.get(category);
+            if (code == null) {
+                return 0;
+            }
+            short wanted = code;
+            long total = 0;
+            for (int i = 0; i < size; i++) {
+                int day = epochDays[i];
+                if (categoryIds[i] == wanted && day >= fromDay && day < toDay && income.get(i) == isIncome) {
+                    total += amountCents[i];
+                }
+            }
+            return total;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return all income minus all expenses, in cents
+     */
+    public long balanceCents() {
+        lock.readLock().lock();
+        try {
+            long total = 0;
+            for (int i = 0; i < size; i++) {
+                total += income.get(i) ? amountCents[i] : -amountCents[i];
+            }
+            return total;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Builds the dashboard aggregates. Days and categories are totalled in
+     * primitive arrays first, so the maps only get one entry per day or category.
+     */
+    public AnalyticsSummary summarize() {
+        AnalyticsSummary summary = new AnalyticsSummary();
+        lock.readLock().lock();
+        try {
+            if (size == 0) {
+                return summary;
+            }
+            int firstDay = Integer.MAX_VALUE;
+            int lastDay = Integer.MIN_VALUE;
+            for (int i = 0; i < size; i++) {
+                firstDay = Math.min(firstDay, epochDays[i]);
+                lastDay = Math.max(lastDay, epochDays[i]);
+            }
+            if ((long) lastDay - firstDay > (long) size * MAX_DAYS_PER_ROW + 366) {
+                // A few far-off dates; totalling straight into the maps is cheaper
+                for (int i = 0; i < size; i++) {
+                    LocalDate date = LocalDate.ofEpochDay(epochDays[i]);
+                    if (income.get(i)) {
+                        summary.addDay(date, amountCents[i], 0);
+                    } else {
+                        summary.addDay(date, 0, amountCents[i]);
+                        summary.addCategoryExpense(categoryNames.get(categoryIds[i]), amountCents[i]);
+                    }
+                }
+                return summary;
+            }
+            long[] incomeByDay = new long[lastDay - firstDay + 1];
+            long[] expenseByDay = new long[incomeByDay.length];
+            long[] expenseByCategory = new long[categoryNames.size()];
+            boolean[] hasExpense = new boolean[categoryNames.size()];
+            for (int i = 0; i < size; i++) {
+                int day = epochDays[i] - firstDay;
+                if (income.get(i)) {
+                    incomeByDay[day] += amountCents[i];
+                } else {
+                    expenseByDay[day] += amountCents[i];
+                    expenseByCategory[categoryIds[i]] += amountCents[i];
+                    hasExpense[categoryIds[i]] = true;
+                }
+            }
+            for (int day = 0; day < incomeByDay.length; day++) {
+                if (incomeByDay[day] != 0 || expenseByDay[day] != 0) {
+                    summary.addDay(LocalDate.ofEpochDay(firstDay + day), incomeByDay[day], expenseByDay[day]);
+                }
+            }
+            for (int c = 0; c < expenseByCategory.length; c++) {
+                if (hasExpense[c]) {
+                    summary.addCategoryExpense(categoryNames.get(c), expenseByCategory[c]);
+                }
+            }
+            return summary;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void set(int row, int id, LocalDate date, long cents, String category, boolean isIncome) {
+        ids[row] = id;
+        epochDays[row] = (int) date.toEpochDay();
+        amountCents[row] = cents;
+        categoryIds[row] = encode(category);
+        income.set(row, isIncome);
+    }
+
+    private int indexOf(int id) {
+        if (id == UNKNOWN_ID) {
+            return -1;
+        }
+        for (int i = 0; i < size; i++) {
+            if (ids[i] == id) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // Missing categories count as "Other", as in the analytics SQL
+    private short encode(String category) {
+        String name = category == null ? TransactionCategorizer.DEFAULT_CATEGORY : category;
+        Short code = categoryCodes.get(name);
+        if (code == null) {
+            if (categoryNames.size() > Short.MAX_VALUE) {
+                throw new IllegalStateException("Too many distinct categories");
+            }
+            code = (short) categoryNames.size();
+            categoryNames.add(name);
+            categoryCodes.put(name, code);
+        }
+        return code;
+    }
+}
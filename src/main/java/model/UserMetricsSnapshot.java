@@ -0,0 +1,54 @@
+package model;
+
+/**
+ * The figures quest rules need for one user, read together in a single query
+ * at the start of an evaluation pass.
+ */
+public class UserMetricsSnapshot implements QuestMetrics {
+    private final int transactionCount;
+    private final int transactionCountToday;
+    private final double monthlyIncome;
+    private final double monthlyExpenses;
+    private final int quizCount;
+    private final int level;
+
+    public UserMetricsSnapshot(int transactionCount, int transactionCountToday, double monthlyIncome,
+                               double monthlyExpenses, int quizCount, int level) {
+        this.transactionCount = transactionCount;
+        this.transactionCountToday = transactionCountToday;
+        this.monthlyIncome = monthlyIncome;
+        this.monthlyExpenses = monthlyExpenses;
+        this.quizCount = quizCount;
+        this.level = level;
+    }
+
+    @Override
+    public int getTransactionCount() {
+        return transactionCount;
+    }
+
+    @Override
+    public int getTransactionCountToday() {
+        return transactionCountToday;
+    }
+
+    @Override
+    public double getMonthlyIncome() {
+        return monthlyIncome;
+    }
+
+    @Override
+    public double getMonthlyExpenses() {
+        return monthlyExpenses;
+    }
+
+    @Override
+    public int getQuizCount() {
+        return quizCount;
+    }
+
+    @Override
+    public int getLevel() {
+        return level;
+    }
+}
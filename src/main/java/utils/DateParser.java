@@ -0,0 +1,105 @@
+package utils;
+
+/**
+ * Reads statement dates straight from the text into an epoch day (days since
+ * 1970-01-01, as used by {@link java.time.LocalDate#ofEpochDay}) without
+ * creating any objects. Accepts yyyy-MM-dd, MM/dd/yyyy and dd-MM-yyyy; month
+ * and day may have one or two digits.
+ */
+public final class DateParser {
+    /** Returned when the text is not a valid date in one of the accepted forms. */
+    public static final int INVALID = Integer.MIN_VALUE;
+
+    private DateParser() {
+    }
+
+    public static int parseEpochDay(CharSequence text) {
+        return text == null ? INVALID : parseEpochDay(text, 0, text.length());
+    }
+
+    /**
+     * Parses text[from, to).
+     * @return the epoch day, or {@link #INVALID}
+     */
+    public static int parseEpochDay(CharSequence text, int from, int to) {
+        // Three runs of digits split by two identical separators
+        int first = -1;
+        int second = -1;
+        char separator = 0;
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            if (c == '/' || c == '-') {
+                if (first < 0) {
+                    first = i;
+                    separator = c;
+                } else if (second < 0 && c == separator) {
+                    second = i;
+                } else {
+                    return INVALID;
+                }
+            } else if (c < '0' || c > '9') {
+                return INVALID;
+            }
+        }
+        if (second < 0) {
+            return INVALID;
+        }
+        int a = number(text, from, first);
+        int b = number(text, first + 1, second);
+        int c = number(text, second + 1, to);
+        if (separator == '-' && first - from == 4) {
+            // ISO: yyyy-MM-dd
+            return second - first - 1 <= 2 && to - second - 1 <= 2 ? toEpochDay(a, b, c) : INVALID;
+        }
+        if (first - from > 2 || second - first - 1 > 2 || to - second - 1 != 4) {
+            return INVALID;
+        }
+        return separator == '/' ? toEpochDay(c, a, b) : toEpochDay(c, b, a);
+    }
+
+    public static boolean isLeapYear(int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    public static int lengthOfMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                return isLeapYear(year) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    /**
+     * @return the epoch day of the date, or {@link #INVALID} if it does not exist
+     */
+    public static int toEpochDay(int year, int month, int day) {
+        if (year < 1 || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)) {
+            return INVALID;
+        }
+        // Days from civil date, counting years from March so the leap day falls last
+        int y = month <= 2 ? year - 1 : year;
+        int era = y / 400;
+        int yearOfEra = y - era * 400;
+        int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146_097 + dayOfEra - 719_468;
+    }
+
+    // Digits only, already checked by the caller; -1 for an empty run
+    private static int number(CharSequence text, int from, int to) {
+        if (from >= to) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            value = value * 10 + (text.charAt(i) - '0');
+        }
+        return value;
+    }
+}
@@ -1,5 +1,7 @@
 package view;
 import controller.AnalyticsController;
+import controller.StatementImporter;
+import model.AnalyticsSummary;
 import org.jfree.chart.ChartFactory;
 import org.jfree.chart.ChartPanel;
 import org.jfree.chart.JFreeChart;
@@ -35,18 +37,14 @@ import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import javax.swing.filechooser.FileNameExtensionFilter;
 import java.awt.*;
-import java.io.BufferedReader;
-import java.io.FileReader;
-import java.sql.SQLException;
 import java.text.DecimalFormat;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
 
-public class AnalyticsUI extends JPanel {
+public class AnalyticsUI extends JPanel implements ScreenRegistry.Refreshable {
     private AnalyticsController controller;
     private int userId;
     private final Color BACKGROUND_COLOR = new Color(24, 15, 41);
@@ -91,7 +89,7 @@ public class AnalyticsUI extends JPanel {
         }
     }
 
-    private void initializeUI() throws SQLException {
+    private void initializeUI() {
         // Set up the main panel
         setLayout(new BorderLayout());
         setBackground(BACKGROUND_COLOR);
@@ -141,11 +139,11 @@ public class AnalyticsUI extends JPanel {
         analyticsChartPanel.setBackground(BACKGROUND_COLOR);
         analyticsChartPanel.setBorder(new EmptyBorder(10, 20, 20, 20));
 
-        // Create and store chart panels
-        savingsChartPanel = new ChartPanel(createSavingsChart());
-        expensesCategoryChartPanel = new ChartPanel(createExpensesByCategoryChart());
-        pieChartPanel = new ChartPanel(createPieChart());
-        barChartPanel = new ChartPanel(createBarChart());
+        // Create and store chart panels; the charts arrive with the summary
+        savingsChartPanel = new ChartPanel(null);
+        expensesCategoryChartPanel = new ChartPanel(null);
+        pieChartPanel = new ChartPanel(null);
+        barChartPanel = new ChartPanel(null);
 
         // Customize chart panels
         for (ChartPanel panel : new ChartPanel[]{savingsChartPanel, expensesCategoryChartPanel, pieChartPanel, barChartPanel}) {
@@ -161,18 +159,24 @@ public class AnalyticsUI extends JPanel {
         analyticsChartPanel.add(pieChartPanel);
         analyticsChartPanel.add(barChartPanel);
 
-        // Add the chart panel to the main panel
-        add(analyticsChartPanel, BorderLayout.CENTER);
+        // Show a placeholder until the summary is loaded, all charts from one aggregate query
+        JPanel chartsContainer = new JPanel(new BorderLayout());
+        chartsContainer.setBackground(BACKGROUND_COLOR);
+        add(chartsContainer, BorderLayout.CENTER);
+        UiTaskExecutor.getInstance().load(chartsContainer, "analytics", controller::getSummary, summary -> {
+            setCharts(summary);
+            return analyticsChartPanel;
+        });
     }
 
     // Create a monthly income vs expenses bar chart
-    private JFreeChart createBarChart() throws SQLException {
+    private JFreeChart createBarChart(AnalyticsSummary summary) {
         // Create dataset
         DefaultCategoryDataset dataset = new DefaultCategoryDataset();
 
         // Get income and expense data
-        Map<LocalDate, Double> incomeData = controller.getIncomeData();
-        Map<LocalDate, Double> expenseData = controller.getExpenseData();
+        Map<LocalDate, Double> incomeData = summary.getIncomeByDate();
+        Map<LocalDate, Double> expenseData = summary.getExpenseByDate();
 
         // Aggregate by month
         Map<String, Double> monthlyIncome = aggregateByMonth(incomeData);
@@ -237,13 +241,13 @@ public class AnalyticsUI extends JPanel {
     }
 
     // Create a pie chart for income vs expenses
-    private JFreeChart createPieChart() throws SQLException {
+    private JFreeChart createPieChart(AnalyticsSummary summary) {
         // Create dataset
         DefaultPieDataset<String> dataset = new DefaultPieDataset<>();
 
         // Get totals
-        double totalIncome = controller.getTotalIncome();
-        double totalExpense = controller.getTotalExpense();
+        double totalIncome = summary.getTotalIncome();
+        double totalExpense = summary.getTotalExpense();
 
         // Add data to dataset
         dataset.setValue("Income", totalIncome);
@@ -288,9 +292,9 @@ public class AnalyticsUI extends JPanel {
     }
 
     // Create a line chart for savings over time
-    private JFreeChart createSavingsChart() throws SQLException {
+    private JFreeChart createSavingsChart(AnalyticsSummary summary) {
         // Get savings data
-        Map<LocalDate, Double> savingsData = controller.getSavingsOverTime();
+        Map<LocalDate, Double> savingsData = summary.getSavingsByDate();
         boolean useMonthly = savingsData.size() > 60; // Use monthly aggregation if we have lots of data points
         
         JFreeChart chart;
@@ -373,12 +377,12 @@ public class AnalyticsUI extends JPanel {
     }
 
     // Create a donut chart for expenses by category
-    private JFreeChart createExpensesByCategoryChart() throws SQLException {
+    private JFreeChart createExpensesByCategoryChart(AnalyticsSummary summary) {
         // Create dataset
         DefaultPieDataset<String> dataset = new DefaultPieDataset<>();
 
         // Get expenses by category
-        Map<String, Double> expensesByCategory = controller.getExpensesByCategory();
+        Map<String, Double> expensesByCategory = summary.getExpensesByCategory();
         double totalExpenses = expensesByCategory.values().stream().mapToDouble(Double::doubleValue).sum();
 
         // Add data to dataset (filter out categories with very small values)
@@ -525,70 +529,35 @@ public class AnalyticsUI extends JPanel {
 
         int result = fileChooser.showOpenDialog(this);
         if (result == JFileChooser.APPROVE_OPTION) {
-            try (BufferedReader br = new BufferedReader(new FileReader(fileChooser.getSelectedFile()))) {
-                String line;
-                boolean firstLine = true;
-                DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-
-                while ((line = br.readLine()) != null) {
-                    if (firstLine) {
-                        firstLine = false;
-                        continue; // Skip header row
-                    }
-
-                    String[] values = line.split(",");
-                    if (values.length >= 5) {
-                        // Remove any quotes and trim whitespace
-                        String dateStr = values[0].trim().replace("\"", "").replace("'", "");
-                        String description = values[1].trim().replace("\"", "").replace("'", "");
-                        String expense = values[2].trim().replace("\"", "").replace("'", "");
-                        String income = values[3].trim().replace("\"", "").replace("'", "");
-
-                        try {
-                            LocalDate date = LocalDate.parse(dateStr, formatter);
-
-                            if (!expense.isEmpty()) {
-                                // Add expense transaction
-                                controller.addTransaction(date, Double.parseDouble(expense),
-                                        description, "expense", "Uncategorized");
-                            } else if (!income.isEmpty()) {
-                                // Add income transaction
-                                controller.addTransaction(date, Double.parseDouble(income),
-                                        description, "income", "Uncategorized");
-                            }
-                        } catch (Exception e) {
-                            System.out.println("Error parsing date: " + dateStr);
-                            continue; // Skip this row and continue with next
-                        }
-                    }
-                }
-
+            new CsvImportTask(this, new StatementImporter(userId), fileChooser.getSelectedFile(), report -> {
                 // Show success message
                 JOptionPane.showMessageDialog(this,
-                        "CSV file imported successfully!",
+                        CsvImportTask.describe(report),
                         "Success",
                         JOptionPane.INFORMATION_MESSAGE);
-
                 // Refresh the charts
                 refreshCharts();
-
-            } catch (Exception ex) {
-                JOptionPane.showMessageDialog(this,
-                        "Error importing CSV file: " + ex.getMessage() +
-                                "\nMake sure your CSV format is: date,description,expense,income,balance" +
-                                "\nDate should be in YYYY-MM-DD format",
-                        "Error",
-                        JOptionPane.ERROR_MESSAGE);
-            }
+            }, "\nMake sure your CSV format is: date,description,expense,income,balance" +
+                    "\nDate should be in YYYY-MM-DD, MM/DD/YYYY or DD-MM-YYYY format").execute();
         }
     }
 
-    private void refreshCharts() throws SQLException {
+    @Override
+    public void refresh() {
+        refreshCharts();
+    }
+
+    private void refreshCharts() {
+        UiTaskExecutor.getInstance().submitLatest(this, "analytics", controller::getSummary, this::setCharts,
+                ex -> System.out.println("Error refreshing charts: " + ex.getMessage()));
+    }
+
+    private void setCharts(AnalyticsSummary summary) {
         // Update each chart with new data
-        savingsChartPanel.setChart(createSavingsChart());
-        expensesCategoryChartPanel.setChart(createExpensesByCategoryChart());
-        pieChartPanel.setChart(createPieChart());
-        barChartPanel.setChart(createBarChart());
+        savingsChartPanel.setChart(createSavingsChart(summary));
+        expensesCategoryChartPanel.setChart(createExpensesByCategoryChart(summary));
+        pieChartPanel.setChart(createPieChart(summary));
+        barChartPanel.setChart(createBarChart(summary));
 
         // Refresh the display
         revalidate();
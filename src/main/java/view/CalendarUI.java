@@ -18,22 +18,32 @@ import java.awt.image.BufferedImage;
 import java.sql.SQLException;
 import java.text.SimpleDateFormat;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.Locale;
 import java.util.Properties;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import javax.swing.SpinnerDateModel;
-import java.io.BufferedReader;
-import java.io.FileReader;
-import java.time.format.DateTimeFormatter;
 import java.awt.event.*;
 import java.sql.Connection;
 import java.text.NumberFormat;
 import javax.swing.event.*;
 import javax.swing.text.*;
+import database.CalendarMonthCache;
 import database.DatabaseManager;
+import database.TransactionCache;
+import database.dao.AsyncDao;
+import events.DomainEvent;
+import events.GoalUpdated;
+import events.TransactionAdded;
+import events.TransactionCategorized;
+import events.TransactionDeleted;
+import events.XpAwarded;
+import database.dao.TransactionPage;
 import view.LevelProgressPanel;
 import view.NewLeaderboardUI;
 
@@ -52,6 +62,8 @@ public class CalendarUI extends JFrame implements CategoryChangeListener {
     private GoalController goalController;
     private CategoryManager categoryManager;
     private CustomCalendarPicker datePicker;
+    private JLabel daySummaryLabel;
+    private final CalendarMonthCache calendarMonths = CalendarMonthCache.getInstance();
     private JTextField descriptionField;
     private JTextField amountField;
     private JRadioButton incomeButton;
@@ -62,7 +74,14 @@ public class CalendarUI extends JFrame implements CategoryChangeListener {
     private String userName;
     private String userEmail;
     private double userBalance; // New field to store the user's balance
+    private boolean balanceLoaded;
     private JLabel balanceLabel;
+    private TransactionPage.Cursor nextTransactionCursor;
+    private ScreenRegistry screens;
+    // Kept across tab switches; it follows XP awards itself
+    private LevelProgressPanel levelProgressPanel;
+
+    private static final int TRANSACTION_PAGE_SIZE = DashboardBootstrap.RECENT_TRANSACTIONS;
 
     private static final String[] tabNames = {
         "Dashboard", "Goals", "Quests", "Analytics", "Quiz", "Financial Tips", "Leaderboard", "Transaction Log"
@@ -73,8 +92,7 @@ public class CalendarUI extends JFrame implements CategoryChangeListener {
         this.userName = userName;
         this.userEmail = userEmail;
 
-        // Get the user balance from the database
-        this.userBalance = BudgetController.getCurrentBalance(userId);
+        // The balance is loaded in the background once the balance panel exists
 
         // Initialize the UserController with user details
         UserController userController = new UserController(userName, userEmail, userBalance);
@@ -96,12 +114,15 @@ public class CalendarUI extends JFrame implements CategoryChangeListener {
         setLayout(new BorderLayout());
         getContentPane().setBackground(BACKGROUND_COLOR);
 
+        registerScreens();
+
         // Initialize the UI with the Dashboard tab
         switchTab("Dashboard");
 
         // Center the window on screen
         setLocationRelativeTo(null);
         setVisible(true);
+        DashboardBootstrap.frameBuilt(userId);
     }
     
     // Add default constructor for backward compatibility
@@ -134,6 +155,8 @@ public class CalendarUI extends JFrame implements CategoryChangeListener {
         setLayout(new BorderLayout());
         getContentPane().setBackground(BACKGROUND_COLOR);
         
+        registerScreens();
+
         // Initialize the UI with the Dashboard tab
         switchTab("Dashboard");
         
@@ -435,6 +458,27 @@ public class CalendarUI extends JFrame implements CategoryChangeListener {
         }
     }
     
+    /**
+     * Registers the tabs other than the Dashboard with the screen cache and
+     * the events after which each one reloads its data.
+     */
+    private void registerScreens() {
+        screens = new ScreenRegistry(userId);
+        screens.register("Goals", () -> new GoalsUI(userId, userName, userEmail), GoalUpdated.class);
+        screens.register("Quests", () -> new QuestsUI(userId, userName, userEmail), DomainEvent.class);
+        screens.register("Quiz", () -> {
+            // For Quiz, don't add a header panel
+            UserController userController = new UserController(userName, userEmail, 1000);
+            return new QuizUI(new QuizController(userController));
+        });
+        screens.register("Analytics", () -> new AnalyticsUI(userId),
+                TransactionAdded.class, TransactionCategorized.class, TransactionDeleted.class);
+        screens.register("Financial Tips", FinancialTipsUI::new);
+        screens.register("Leaderboard", () -> new NewLeaderboardUI(userId), XpAwarded.class);
+        screens.register("Transaction Log", () -> new LogUI(userId),
+                TransactionAdded.class, TransactionCategorized.class, TransactionDeleted.class);
+    }
+
     /**
      * Switches to the selected tab.
      */
@@ -481,7 +525,9 @@ public class CalendarUI extends JFrame implements CategoryChangeListener {
         levelPanel.setBackground(BACKGROUND_COLOR);
         
         // Add Level Progress bar
-        LevelProgressPanel levelProgressPanel = new LevelProgressPanel(userId, LevelProgressPanel.LAYOUT_HEADER);
+        if (levelProgressPanel == null) {
+            levelProgressPanel = new LevelProgressPanel(userId, LevelProgressPanel.LAYOUT_HEADER);
+        }
         levelPanel.add(levelProgressPanel, BorderLayout.CENTER);
         
         // 3. Add balance panel below the level progress
@@ -526,53 +572,12 @@ public class CalendarUI extends JFrame implements CategoryChangeListener {
                
                 break;
                 
-            case "Goals":
-                // Create and add the GoalsUI panel
-                GoalsUI goalsUI = new GoalsUI(userId, userName, userEmail);
-                add(goalsUI, BorderLayout.CENTER);
-                break;
-                
-            case "Quests":
-                // Create and add the QuestsUI panel
-                QuestsUI questsUI = new QuestsUI(userId, userName, userEmail);
-                add(questsUI, BorderLayout.CENTER);
-                break;
-                
-            case "Quiz":
-                // For Quiz, don't add a header panel
-                UserController userController = new UserController(userName, userEmail, 1000);
-                QuizController quizController = new QuizController(userController);
-                QuizUI quizUI = new QuizUI(quizController);
-                add(quizUI, BorderLayout.CENTER);
-                break;
-                
-            case "Analytics":
-                // Use the actual AnalyticsUI since JFreeChart is available in the lib folder
-                AnalyticsUI analyticsUI = new AnalyticsUI(userId);
-                add(analyticsUI, BorderLayout.CENTER);
-                break;
-                
-            case "Financial Tips":
-                // Create and add the FinancialTipsUI panel
-                FinancialTipsUI financialTipsUI = new FinancialTipsUI();
-                add(financialTipsUI, BorderLayout.CENTER);
-                break;
-                
-            case "Leaderboard":
-                // Create and add the Leaderboard tab
-                JPanel leaderboardTab = new JPanel(new BorderLayout());
-                leaderboardTab.setBackground(BACKGROUND_COLOR);
-                
-                NewLeaderboardUI leaderboardPlaceholderPanel = new NewLeaderboardUI(userId);
-                leaderboardTab.add(leaderboardPlaceholderPanel, BorderLayout.CENTER);
-                
-                add(leaderboardTab, BorderLayout.CENTER);
-                break;
-                
-            case "Transaction Log":
-                // Create and add the LogUI panel
-                LogUI logUI = new LogUI(userId);
-                add(logUI, BorderLayout.CENTER);
+            default:
+                // Every other tab is built on first view and cached by the registry
+                JComponent screen = screens.show(tabName);
+                if (screen != null) {
+                    add(screen, BorderLayout.CENTER);
+                }
                 break;
         }
         
@@ -608,20 +613,35 @@ public class CalendarUI extends JFrame implements CategoryChangeListener {
         JPanel balancePanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
         balancePanel.setBackground(BACKGROUND_COLOR);
         // Instead of creating a local label, assign it to the class field
-        balanceLabel = new JLabel("Balance: $" + String.format("%.2f", userBalance));
-        if (userBalance >= 0) {
-            balanceLabel.setForeground(INCOME_COLOR);
+        balanceLabel = new JLabel();
+        balanceLabel.setFont(new Font("Arial", Font.BOLD, 14));
+        if (balanceLoaded) {
+            showBalance();
         } else {
-            balanceLabel.setForeground(EXPENSE_COLOR);
+            balanceLabel.setText("Balance: loading...");
+            balanceLabel.setForeground(new Color(180, 180, 180));
+            updateBalanceDisplay();
         }
-        balanceLabel.setFont(new Font("Arial", Font.BOLD, 14));
         balancePanel.add(balanceLabel);
         return balancePanel;
     }
 
-    public void updateBalanceDisplay() throws SQLException {
-        // Fetch updated balance from database via BudgetController
-        userBalance = BudgetController.getCurrentBalance(userId);
+    public void updateBalanceDisplay() {
+        // Fetch updated balance from database via BudgetController, off the EDT
+        UiTaskExecutor.getInstance().submitLatest(this, "balance", this::loadBalance, balance -> {
+                    userBalance = balance;
+                    balanceLoaded = true;
+                    showBalance();
+                });
+    }
+
+    // Uses the totals prefetched at login the first time, then the daily totals rollup
+    private double loadBalance() throws SQLException {
+        DashboardBootstrap.Totals totals = DashboardBootstrap.takeTotals(userId);
+        return totals != null ? Money.toDouble(totals.getBalanceCents()) : BudgetController.getCurrentBalance(userId);
+    }
+
+    private void showBalance() {
         balanceLabel.setText("Balance: $" + String.format("%.2f", userBalance));
         if (userBalance >= 0) {
             balanceLabel.setForeground(INCOME_COLOR);
@@ -657,6 +677,10 @@ public class CalendarUI extends JFrame implements CategoryChangeListener {
         
         if (choice == JOptionPane.YES_OPTION) {
             // Dispose current window
+            screens.close();
+            DashboardBootstrap.close(userId);
+            TransactionCache.getInstance().invalidate(userId);
+            CalendarMonthCache.getInstance().invalidate(userId);
             this.dispose();
             
             // Show login screen
@@ -758,6 +782,16 @@ public class CalendarUI extends JFrame implements CategoryChangeListener {
         datePickerPanel.setAlignmentX(Component.LEFT_ALIGNMENT);
         datePickerPanel.setMaximumSize(new Dimension(Integer.MAX_VALUE, 40));
         logPanel.add(datePickerPanel);
+
+        // Days with transactions are marked in the picker; months come from the calendar cache
+        datePicker.setDayInfoProvider(new TransactionDayInfo());
+        datePicker.addChangeListener(e -> showDaySummary());
+        daySummaryLabel = new JLabel(" ");
+        daySummaryLabel.setFont(new Font("Arial", Font.ITALIC, 12));
+        daySummaryLabel.setForeground(new Color(180, 180, 180));
+        daySummaryLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
+        logPanel.add(Box.createRigidArea(new Dimension(0, 5)));
+        logPanel.add(daySummaryLabel);
         
         logPanel.add(Box.createRigidArea(new Dimension(0, 15)));
         
@@ -822,6 +856,14 @@ public class CalendarUI extends JFrame implements CategoryChangeListener {
         
         logPanel.add(categoryComboBox);
         
+        // Pre-select the category this user usually picks for similar descriptions
+        descriptionField.addFocusListener(new FocusAdapter() {
+            @Override
+            public void focusLost(FocusEvent e) {
+                suggestCategory(descriptionField.getText().trim());
+            }
+        });
+        
         logPanel.add(Box.createRigidArea(new Dimension(0, 20)));
         
         // Log button
@@ -846,7 +888,7 @@ public class CalendarUI extends JFrame implements CategoryChangeListener {
         return logPanel;
     }
     
-    private JPanel createTransactionHistoryPanel() throws SQLException {
+    private JPanel createTransactionHistoryPanel() {
         JPanel historyPanel = new JPanel(new BorderLayout());
         historyPanel.setBackground(PANEL_COLOR);
         historyPanel.setBorder(BorderFactory.createCompoundBorder(
@@ -901,9 +943,8 @@ public class CalendarUI extends JFrame implements CategoryChangeListener {
         historyPanel.add(headerLabel, BorderLayout.NORTH);
         historyPanel.add(scrollPane, BorderLayout.CENTER);
         
-        // Initially populate with transactions
+        // Initially populate with transactions (and the balance)
         updateTransactionDisplay();
-        updateBalanceDisplay();
         
         return historyPanel;
     }
@@ -946,24 +987,24 @@ public class CalendarUI extends JFrame implements CategoryChangeListener {
             }
             
             // Add transaction
-            transactionController.addTransaction(description, amount, date, isIncome, category);
-
-            // update user balance
-            updateBalanceDisplay();
-            
-            // Update goals related to this category
-            updateRelatedGoals(category);
-            
-            // Show confirmation
-            JOptionPane.showMessageDialog(this, "Transaction logged successfully!");
-            
-            // Reset fields
-            descriptionField.setText("");
-            amountField.setText("");
-            
-            // Refresh transaction display
-            updateTransactionDisplay();
-            updateBalanceDisplay();
+            String transactionCategory = category;
+            UiTaskExecutor.getInstance().submit("transaction-add", () -> {
+                transactionController.addTransaction(description, amount, date, isIncome, transactionCategory);
+                return null;
+            }, ignored -> {
+                // Update goals related to this category
+                updateRelatedGoals(transactionCategory);
+
+                // Show confirmation
+                JOptionPane.showMessageDialog(this, "Transaction logged successfully!");
+
+                // Reset fields
+                descriptionField.setText("");
+                amountField.setText("");
+
+                // Refresh transaction display and user balance
+                updateTransactionDisplay();
+            }, e -> JOptionPane.showMessageDialog(this, "Error logging transaction: " + e.getMessage()));
             
         } catch (Exception e) {
             JOptionPane.showMessageDialog(this, "Error logging transaction: " + e.getMessage());
@@ -975,53 +1016,198 @@ public class CalendarUI extends JFrame implements CategoryChangeListener {
      * Updates any goals related to the given transaction category
      */
     private void updateRelatedGoals(String category) {
-        try {
+        UiTaskExecutor.getInstance().submit("goal-progress", () -> {
             // Get all active goals for the user
             List<Goal> activeGoals = goalController.getActiveGoalsByUserId(userId);
             
-            // Update progress for goals matching this category or "All Categories"
+            // Update progress for goals matching this category or "All Categories", concurrently
+            List<CompletableFuture<Boolean>> updates = new ArrayList<>();
             for (Goal goal : activeGoals) {
                 if (goal.getCategory().equalsIgnoreCase(category) || 
                     goal.getCategory().equalsIgnoreCase("All Categories")) {
-                    goalController.updateGoalProgress(goal.getId());
+                    updates.add(AsyncDao.call(() -> goalController.updateGoalProgress(goal.getId())));
                 }
             }
-        } catch (SQLException e) {
-            System.out.println("Error updating goals: " + e.getMessage());
-            e.printStackTrace();
+            for (CompletableFuture<Boolean> update : updates) {
+                AsyncDao.await(update);
+            }
+            return null;
+        }, null, e -> System.out.println("Error updating goals: " + e.getMessage()));
+    }
+
+    // Looks the suggestion up off the EDT; the first call trains the user's model from the database
+    private void suggestCategory(String description) {
+        if (description.isEmpty()) {
+            return;
         }
+        UiTaskExecutor.getInstance().submitLatest(this, "category-suggestion",
+                () -> CategorySuggestionService.getInstance().suggest(userId, description), suggested -> {
+                    if (suggested != null && description.equals(descriptionField.getText().trim())) {
+                        categoryComboBox.setSelectedItem(suggested);
+                    }
+                }, e -> System.out.println("Could not suggest a category: " + e.getMessage()));
     }
 
-    private void updateTransactionDisplay() throws SQLException {
+    // Marks and describes days from the cached month; loads months the picker steps to
+    private class TransactionDayInfo implements CustomCalendarPicker.DayInfoProvider {
+        @Override
+        public Color markerFor(LocalDate day) {
+            CalendarMonthCache.DaySummary summary = cachedSummary(day);
+            if (summary == null || summary.getCount() == 0) {
+                return null;
+            }
+            return summary.getIncomeCents() >= summary.getExpenseCents() ? INCOME_COLOR : EXPENSE_COLOR;
+        }
+
+        @Override
+        public String describe(LocalDate day) {
+            CalendarMonthCache.DaySummary summary = cachedSummary(day);
+            return summary == null || summary.getCount() == 0 ? null : describeDay(summary);
+        }
+
+        @Override
+        public void monthShown(YearMonth month) {
+            if (calendarMonths.getIfCached(userId, month) != null) {
+                // Keep the neighbours warm for the next step
+                calendarMonths.prefetch(userId, month.minusMonths(1));
+                calendarMonths.prefetch(userId, month.plusMonths(1));
+                return;
+            }
+            UiTaskExecutor.getInstance().submitLatest(CalendarUI.this, "calendar-month",
+                    () -> calendarMonths.getMonth(userId, month), loaded -> datePicker.refreshDayInfo(),
+                    e -> System.out.println("Could not load " + month + ": " + e.getMessage()));
+        }
+    }
+
+    private CalendarMonthCache.DaySummary cachedSummary(LocalDate day) {
+        CalendarMonthCache.Month month = calendarMonths.getIfCached(userId, YearMonth.from(day));
+        return month != null ? month.getSummary(day) : null;
+    }
+
+    private static String describeDay(CalendarMonthCache.DaySummary summary) {
+        if (summary.getCount() == 0) {
+            return "No transactions on this day";
+        }
+        return String.format("%d transaction%s: +$%s income, -$%s spent", summary.getCount(),
+                summary.getCount() == 1 ? "" : "s",
+                Money.format(summary.getIncomeCents()), Money.format(summary.getExpenseCents()));
+    }
+
+    /**
+     * Shows what was logged on the picked day, from memory when its month is cached.
+     */
+    private void showDaySummary() {
+        if (daySummaryLabel == null) {
+            return;
+        }
+        LocalDate day = datePicker.getDate().toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
+        CalendarMonthCache.DaySummary summary = cachedSummary(day);
+        if (summary != null) {
+            daySummaryLabel.setText(describeDay(summary));
+            return;
+        }
+        UiTaskExecutor.getInstance().submitLatest(this, "calendar-day",
+                () -> calendarMonths.getMonth(userId, YearMonth.from(day)),
+                month -> daySummaryLabel.setText(describeDay(month.getSummary(day))),
+                e -> daySummaryLabel.setText(" "));
+    }
+
+    private void updateTransactionDisplay() {
+        // A write may have changed the picked day
+        showDaySummary();
         if (transactionDisplayPanel != null) {
-            transactionDisplayPanel.removeAll();
+            if (transactionDisplayPanel.getComponentCount() == 0) {
+                UiTaskExecutor.showPlaceholder(transactionDisplayPanel, "Loading transactions...");
+            }
+            // Only the newest page is loaded; older ones are fetched on demand.
+            // The page and the balance are fetched concurrently.
+            UiTaskExecutor.getInstance().submitLatest(this, "transactions", () -> {
+                TransactionPage prefetched = DashboardBootstrap.takeRecentTransactions(userId);
+                CompletableFuture<TransactionPage> page = prefetched != null
+                        ? CompletableFuture.completedFuture(prefetched)
+                        : AsyncDao.transactions().supply(dao -> dao.getTransactionsPage(userId, null, TRANSACTION_PAGE_SIZE));
+                CompletableFuture<Double> balance = AsyncDao.call(this::loadBalance);
+                return new DashboardData(AsyncDao.await(page), AsyncDao.await(balance));
+            }, data -> {
+                userBalance = data.balance;
+                balanceLoaded = true;
+                showBalance();
+                showTransactions(data.page);
+                DashboardBootstrap.firstFrameShown(userId);
+            }, ex -> UiTaskExecutor.showPlaceholder(transactionDisplayPanel,
+                    "Error loading transactions: " + ex.getMessage()));
+        }
+    }
+
+    // Results of the concurrent dashboard loads
+    private static class DashboardData {
+        final TransactionPage page;
+        final double balance;
+
+        DashboardData(TransactionPage page, double balance) {
+            this.page = page;
+            this.balance = balance;
+        }
+    }
 
-            // Get transactions from controller
-            List<Transaction> transactions = transactionController.getAllTransactions(userId);
+    private void showTransactions(TransactionPage page) {
+        transactionDisplayPanel.removeAll();
+        nextTransactionCursor = null;
+
+        if (page.getTransactions().isEmpty()) {
+            // Show empty state
+            JLabel emptyLabel = new JLabel("No transactions to display");
+            emptyLabel.setForeground(TEXT_COLOR);
+            emptyLabel.setFont(new Font("Arial", Font.BOLD, 14));
+            emptyLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
+            transactionDisplayPanel.add(emptyLabel);
+        } else {
+            appendTransactionPage(page);
+        }
+        // Make sure scrolling works properly
+        transactionDisplayPanel.revalidate();
+        transactionDisplayPanel.repaint();
+    }
+
+    /**
+     * Adds a page of transaction cards, followed by a "Load more" button when
+     * older transactions exist.
+     */
+    private void appendTransactionPage(TransactionPage page) {
+        // Add each transaction as a card
+        for (Transaction transaction : page.getTransactions()) {
+            JPanel card = createTransactionCard(transaction);
+            transactionDisplayPanel.add(card);
             
-            if (transactions.isEmpty()) {
-                // Show empty state
-                JLabel emptyLabel = new JLabel("No transactions to display");
-                emptyLabel.setForeground(TEXT_COLOR);
-                emptyLabel.setFont(new Font("Arial", Font.BOLD, 14));
-                emptyLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
-                transactionDisplayPanel.add(emptyLabel);
-            } else {
-                // Add each transaction as a card
-                for (Transaction transaction : transactions) {
-                    JPanel card = createTransactionCard(transaction);
-                    transactionDisplayPanel.add(card);
-                    
-                    // Add spacing between cards
-                    transactionDisplayPanel.add(Box.createRigidArea(new Dimension(0, 10)));
-                }
-            }
-            // update user balance
-            updateBalanceDisplay();
-            // Make sure scrolling works properly
-            transactionDisplayPanel.revalidate();
-            transactionDisplayPanel.repaint();
+            // Add spacing between cards
+            transactionDisplayPanel.add(Box.createRigidArea(new Dimension(0, 10)));
         }
+
+        nextTransactionCursor = page.getNextCursor();
+        if (page.hasMore()) {
+            JButton loadMoreButton = new JButton("Load more");
+            styleButton(loadMoreButton);
+            loadMoreButton.setAlignmentX(Component.CENTER_ALIGNMENT);
+            loadMoreButton.addActionListener(e -> loadMoreTransactions(loadMoreButton));
+            transactionDisplayPanel.add(loadMoreButton);
+        }
+    }
+
+    private void loadMoreTransactions(JButton loadMoreButton) {
+        TransactionPage.Cursor cursor = nextTransactionCursor;
+        loadMoreButton.setEnabled(false);
+        loadMoreButton.setText("Loading...");
+        UiTaskExecutor.getInstance().submitLatest(this, "transactions",
+                () -> TransactionController.getTransactionsPage(userId, cursor, TRANSACTION_PAGE_SIZE), page -> {
+                    transactionDisplayPanel.remove(loadMoreButton);
+                    appendTransactionPage(page);
+                    transactionDisplayPanel.revalidate();
+                    transactionDisplayPanel.repaint();
+                }, ex -> {
+                    loadMoreButton.setEnabled(true);
+                    loadMoreButton.setText("Load more");
+                    JOptionPane.showMessageDialog(this, "Error loading transactions: " + ex.getMessage(), "Error", JOptionPane.ERROR_MESSAGE);
+                });
     }
     
     // Create a card for a transaction
@@ -1090,22 +1276,17 @@ public class CalendarUI extends JFrame implements CategoryChangeListener {
             @Override
             public void actionPerformed(ActionEvent e) {
                 int transactionId = transaction.getId();
-                boolean success = transactionController.deleteTransaction(transactionId);
-                if (success) {
-                    // Update the UI to remove the deleted transaction
-                    try {
-                        updateTransactionDisplay();
-                    } catch (SQLException ex) {
-                        throw new RuntimeException(ex);
-                    }
-                    try {
-                        updateBalanceDisplay();
-                    } catch (SQLException ex) {
-                        throw new RuntimeException(ex);
-                    }
-                } else {
-                    JOptionPane.showMessageDialog(cardPanel, "Failed to delete transaction", "Error", JOptionPane.ERROR_MESSAGE);
-                }
+                deleteButton.setEnabled(false);
+                UiTaskExecutor.getInstance().submit("transaction-delete",
+                        () -> transactionController.deleteTransaction(transactionId), success -> {
+                            if (success) {
+                                // Update the UI to remove the deleted transaction
+                                updateTransactionDisplay();
+                            } else {
+                                deleteButton.setEnabled(true);
+                                JOptionPane.showMessageDialog(cardPanel, "Failed to delete transaction", "Error", JOptionPane.ERROR_MESSAGE);
+                            }
+                        });
             }
         });
 
@@ -1485,75 +1666,9 @@ public class CalendarUI extends JFrame implements CategoryChangeListener {
 
         int result = fileChooser.showOpenDialog(this);
         if (result == JFileChooser.APPROVE_OPTION) {
-            try (BufferedReader br = new BufferedReader(new FileReader(fileChooser.getSelectedFile()))) {
-                String line;
-                boolean firstLine = true;
-                DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-                int importCount = 0;
-                // Keep track of categories for goal updates
-                java.util.Set<String> affectedCategories = new java.util.HashSet<>();
-
-                while ((line = br.readLine()) != null) {
-                    if (firstLine) {
-                        firstLine = false;
-                        continue; // Skip header row
-                    }
-
-                    String[] values = line.split(",");
-                    if (values.length >= 5) {
-                        // Remove any quotes and trim whitespace
-                        String dateStr = values[0].trim().replace("\"", "").replace("'", "");
-                        String description = values[1].trim().replace("\"", "").replace("'", "");
-                        String expense = values[2].trim().replace("\"", "").replace("'", "");
-                        String income = values[3].trim().replace("\"", "").replace("'", "");
-                        // Try to get category if available (column 6)
-                        String category = "Uncategorized";
-                        if (values.length > 5 && values[5] != null && !values[5].trim().isEmpty()) {
-                            category = values[5].trim().replace("\"", "").replace("'", "");
-                        }
-                        
-                        // Add the category to the set of affected categories
-                        affectedCategories.add(category);
-
-                        try {
-                            LocalDate date = LocalDate.parse(dateStr, formatter);
-                            // Convert LocalDate to String for the addTransaction method
-                            String formattedDate = date.format(formatter);
-
-                            if (!expense.isEmpty()) {
-                                // Add expense transaction
-                                double expenseAmount = Double.parseDouble(expense);
-                                TransactionController.addTransaction(
-                                    userId, 
-                                    formattedDate,
-                                    description,
-                                    category,
-                                    "expense",
-                                    expenseAmount
-                                );
-                                importCount++;
-                            } else if (!income.isEmpty()) {
-                                // Add income transaction
-                                double incomeAmount = Double.parseDouble(income);
-                                TransactionController.addTransaction(
-                                    userId, 
-                                    formattedDate,
-                                    description,
-                                    category,
-                                    "income", 
-                                    incomeAmount
-                                );
-                                importCount++;
-                            }
-                        } catch (Exception e) {
-                            System.out.println("Error parsing date: " + dateStr);
-                            continue; // Skip this row and continue with next
-                        }
-                    }
-                }
-                
+            new CsvImportTask(this, new StatementImporter(userId), fileChooser.getSelectedFile(), report -> {
                 // Update all affected goals
-                for (String category : affectedCategories) {
+                for (String category : report.getCategories()) {
                     updateRelatedGoals(category);
                 }
                 // Also update "All Categories" goals
@@ -1561,31 +1676,23 @@ public class CalendarUI extends JFrame implements CategoryChangeListener {
 
                 // Show success message
                 JOptionPane.showMessageDialog(this,
-                        importCount + " transactions imported successfully!" +
-                        (affectedCategories.size() > 0 ? "\nRelated goals have been updated." : ""),
+                        CsvImportTask.describe(report) +
+                        (report.getCategories().size() > 0 ? "\nRelated goals have been updated." : ""),
                         "Success",
                         JOptionPane.INFORMATION_MESSAGE);
 
                 // Refresh transaction display
                 updateTransactionDisplay();
-                updateBalanceDisplay();
-
-            } catch (Exception ex) {
-                JOptionPane.showMessageDialog(this,
-                        "Error importing CSV file: " + ex.getMessage() +
-                                "\n\nExpected CSV format:" +
-                                "\ndate,description,expense,income,balance,category" +
-                                "\n\nWhere:" +
-                                "\n- date should be in YYYY-MM-DD format" +
-                                "\n- expense column should be empty for income transactions" +
-                                "\n- income column should be empty for expense transactions" +
-                                "\n- category is optional (will use 'Uncategorized' if missing)" +
-                                "\n\nExample:" +
-                                "\n2023-05-01,Salary,,3000.00,3000.00,Income" +
-                                "\n2023-05-02,Groceries,150.25,,2849.75,Food",
-                        "Error",
-                        JOptionPane.ERROR_MESSAGE);
-            }
+            }, "\n\nExpected CSV format:" +
+                    "\ndate,description,expense,income,balance,category" +
+                    "\n\nWhere:" +
+                    "\n- date should be in YYYY-MM-DD, MM/DD/YYYY or DD-MM-YYYY format" +
+                    "\n- expense column should be empty for income transactions" +
+                    "\n- income column should be empty for expense transactions" +
+                    "\n- category is optional (chosen from the description if missing)" +
+                    "\n\nExample:" +
+                    "\n2023-05-01,Salary,,3000.00,3000.00,Income" +
+                    "\n2023-05-02,Groceries,150.25,,2849.75,Food").execute();
         }
     }
 
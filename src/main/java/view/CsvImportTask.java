@@ -0,0 +1,101 @@
+package view;
+
+import java.awt.Component;
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+
+import javax.swing.JOptionPane;
+import javax.swing.ProgressMonitor;
+import javax.swing.SwingWorker;
+
+import controller.StatementImporter;
+
+/**
+ * Runs a statement import off the event dispatch thread with a progress
+ * dialog, then hands the report back on the EDT.
+ */
+public class CsvImportTask extends SwingWorker<StatementImporter.Report, Long> {
+    private final Component parent;
+    private final StatementImporter importer;
+    private final File file;
+    private final Consumer<StatementImporter.Report> onSuccess;
+    private final String formatHelp;
+    private final ProgressMonitor monitor;
+
+    public CsvImportTask(Component parent, StatementImporter importer, File file,
+                         Consumer<StatementImporter.Report> onSuccess, String formatHelp) {
+        this.parent = parent;
+        this.importer = importer;
+        this.file = file;
+        this.onSuccess = onSuccess;
+        this.formatHelp = formatHelp;
+        this.monitor = new ProgressMonitor(parent, "Importing " + file.getName(), "", 0, 100);
+        this.monitor.setMillisToDecideToPopup(200);
+        addPropertyChangeListener(event -> {
+            if ("progress".equals(event.getPropertyName())) {
+                monitor.setProgress((Integer) event.getNewValue());
+            }
+        });
+    }
+
+    @Override
+    protected StatementImporter.Report doInBackground() throws Exception {
+        return importer.importFile(file, (bytesRead, totalBytes, rowsImported) -> {
+            if (monitor.isCanceled()) {
+                // Interrupts the import; rows already written stay imported
+                cancel(true);
+                return;
+            }
+            if (totalBytes > 0) {
+                setProgress((int) Math.min(99, bytesRead * 100 / totalBytes));
+            }
+            publish(rowsImported);
+        });
+    }
+
+    @Override
+    protected void process(List<Long> rowsImported) {
+        monitor.setNote(rowsImported.get(rowsImported.size() - 1) + " transactions imported");
+    }
+
+    @Override
+    protected void done() {
+        monitor.close();
+        try {
+            onSuccess.accept(get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (CancellationException e) {
+            JOptionPane.showMessageDialog(parent,
+                    "Import cancelled. Transactions read before cancelling were kept.",
+                    "Import Cancelled",
+                    JOptionPane.WARNING_MESSAGE);
+        } catch (ExecutionException e) {
+            JOptionPane.showMessageDialog(parent,
+                    "Error importing CSV file: " + e.getCause().getMessage() + formatHelp,
+                    "Error",
+                    JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
+    /**
+     * Success message text for a finished import, including the first rejected rows.
+     */
+    public static String describe(StatementImporter.Report report) {
+        StringBuilder message = new StringBuilder()
+                .append(report.getRowsImported()).append(" transactions imported successfully!");
+        if (report.getXpAwarded() > 0) {
+            message.append("\n+").append(report.getXpAwarded()).append(" XP");
+        }
+        if (report.getRowsRejected() > 0) {
+            message.append("\n").append(report.getRowsRejected()).append(" rows were skipped as invalid:");
+            for (String error : report.getErrors()) {
+                message.append("\n- ").append(error);
+            }
+        }
+        return message.toString();
+    }
+}
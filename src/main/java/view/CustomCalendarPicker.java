@@ -12,6 +12,8 @@ import java.awt.*;
 import java.awt.event.*;
 import java.awt.geom.Ellipse2D;
 import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.*;
 import java.util.List;
 
@@ -39,6 +41,7 @@ public class CustomCalendarPicker extends JPanel {
     private JTable calendarTable;
     private SimpleDateFormat dateFormat;
     private List<ChangeListener> changeListeners;
+    private DayInfoProvider dayInfoProvider;
     
     private String[] monthNames = {"January", "February", "March", "April", "May", "June", 
                                    "July", "August", "September", "October", "November", "December"};
@@ -46,6 +49,28 @@ public class CustomCalendarPicker extends JPanel {
     
     // Two-dimensional array to store date information for each cell
     private Calendar[][] dateCells = new Calendar[6][7];
+
+    /**
+     * Optional per-day information drawn into the calendar grid. Called on
+     * the EDT while painting, so it must answer from memory.
+     */
+    public interface DayInfoProvider {
+        /**
+         * @return the color of the marker under the day, or null for none
+         */
+        Color markerFor(LocalDate day);
+
+        /**
+         * @return tooltip text for the day, or null for none
+         */
+        String describe(LocalDate day);
+
+        /**
+         * The popup now shows this month; a chance to load its data and
+         * call {@link #refreshDayInfo()} when it arrives.
+         */
+        void monthShown(YearMonth month);
+    }
     
     /**
      * Creates a new CustomCalendarPicker with the current date selected.
@@ -239,6 +264,15 @@ public class CustomCalendarPicker extends JPanel {
                     if (cellDate.get(Calendar.MONTH) != currentMonthCalendar.get(Calendar.MONTH)) {
                         label.setForeground(DISABLED_TEXT);
                     }
+
+                    if (dayInfoProvider != null) {
+                        LocalDate day = toLocalDate(cellDate);
+                        Color marker = dayInfoProvider.markerFor(day);
+                        if (marker != null) {
+                            label.setBorder(BorderFactory.createMatteBorder(0, 0, 3, 0, marker));
+                        }
+                        label.setToolTipText(dayInfoProvider.describe(day));
+                    }
                 }
                 
                 return label;
@@ -427,6 +461,30 @@ public class CustomCalendarPicker extends JPanel {
         }
         
         calendarTable.repaint();
+
+        if (dayInfoProvider != null) {
+            dayInfoProvider.monthShown(YearMonth.of(currentMonthCalendar.get(Calendar.YEAR),
+                    currentMonthCalendar.get(Calendar.MONTH) + 1));
+        }
+    }
+
+    /**
+     * Sets the source of the per-day markers and tooltips, or null for none.
+     */
+    public void setDayInfoProvider(DayInfoProvider provider) {
+        this.dayInfoProvider = provider;
+    }
+
+    /**
+     * Repaints the grid after the day information changed.
+     */
+    public void refreshDayInfo() {
+        calendarTable.repaint();
+    }
+
+    private static LocalDate toLocalDate(Calendar calendar) {
+        return LocalDate.of(calendar.get(Calendar.YEAR), calendar.get(Calendar.MONTH) + 1,
+                calendar.get(Calendar.DAY_OF_MONTH));
     }
     
     /**
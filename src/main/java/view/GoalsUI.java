@@ -1,5 +1,6 @@
 package view;
 
+import controller.DashboardBootstrap;
 import controller.GoalController;
 import controller.CategoryManager;
 import model.Goal;
@@ -28,7 +29,7 @@ import javax.swing.DefaultListCellRenderer;
 import javax.swing.JList;
 import java.awt.BasicStroke;
 
-public class GoalsUI extends JPanel {
+public class GoalsUI extends JPanel implements ScreenRegistry.Refreshable {
     // Define colors to match the existing UI
     private final Color BACKGROUND_COLOR = new Color(24, 15, 41);
     private final Color PANEL_COLOR = new Color(40, 24, 69);
@@ -124,70 +125,81 @@ public class GoalsUI extends JPanel {
         loadGoals();
     }
 
+    // Reload after a goal changed elsewhere, e.g. progress from a new transaction
+    @Override
+    public void refresh() {
+        loadGoals();
+    }
+
     /**
      * Load and display goals for the current user
      */
     private void loadGoals() {
+        if (goalsPanel.getComponentCount() == 0) {
+            UiTaskExecutor.showPlaceholder(goalsPanel, "Loading goals...");
+        }
+        UiTaskExecutor.getInstance().submitLatest(this, "goals", () -> {
+            List<Goal> prefetched = DashboardBootstrap.takeGoals(userId);
+            return prefetched != null ? prefetched : goalController.getGoalsByUserId(userId);
+        }, this::showGoals, e -> {
+                    e.printStackTrace();
+                    JOptionPane.showMessageDialog(this,
+                            "Error loading goals: " + e.getMessage(),
+                            "Database Error",
+                            JOptionPane.ERROR_MESSAGE);
+                });
+    }
+
+    private void showGoals(List<Goal> goals) {
         goalsPanel.removeAll();
 
-        try {
-            List<Goal> goals = goalController.getGoalsByUserId(userId);
-
-            if (goals.isEmpty()) {
-                // Show empty state
-                JPanel emptyStatePanel = new JPanel();
-                emptyStatePanel.setLayout(new BoxLayout(emptyStatePanel, BoxLayout.Y_AXIS));
-                emptyStatePanel.setBackground(BACKGROUND_COLOR);
-                emptyStatePanel.setAlignmentX(Component.CENTER_ALIGNMENT);
-                emptyStatePanel.setBorder(new EmptyBorder(50, 0, 0, 0));
-
-                JLabel emptyIcon = new JLabel("🎯");
-                emptyIcon.setFont(new Font("Arial", Font.PLAIN, 48));
-                emptyIcon.setAlignmentX(Component.CENTER_ALIGNMENT);
-
-                JLabel emptyLabel = new JLabel("No financial goals yet");
-                emptyLabel.setFont(new Font("Arial", Font.BOLD, 18));
-                emptyLabel.setForeground(TEXT_COLOR);
-                emptyLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
-
-                JLabel emptyHintLabel = new JLabel("Create your first financial goal to start tracking your progress");
-                emptyHintLabel.setFont(new Font("Arial", Font.PLAIN, 14));
-                emptyHintLabel.setForeground(new Color(180, 180, 180));
-                emptyHintLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
-
-                JButton createGoalButton = new JButton("Create a Goal");
-                styleButton(createGoalButton);
-                createGoalButton.setAlignmentX(Component.CENTER_ALIGNMENT);
-                createGoalButton.addActionListener(e -> showAddGoalDialog());
-
-                emptyStatePanel.add(emptyIcon);
-                emptyStatePanel.add(Box.createRigidArea(new Dimension(0, 15)));
-                emptyStatePanel.add(emptyLabel);
-                emptyStatePanel.add(Box.createRigidArea(new Dimension(0, 5)));
-                emptyStatePanel.add(emptyHintLabel);
-                emptyStatePanel.add(Box.createRigidArea(new Dimension(0, 20)));
-                emptyStatePanel.add(createGoalButton);
-
-                goalsPanel.add(emptyStatePanel);
-            } else {
-                // Display goals
-                for (Goal goal : goals) {
-                    JPanel goalCard = createGoalCard(goal);
-                    goalsPanel.add(goalCard);
-                    goalsPanel.add(Box.createRigidArea(new Dimension(0, 15)));
-                }
+        if (goals.isEmpty()) {
+            // Show empty state
+            JPanel emptyStatePanel = new JPanel();
+            emptyStatePanel.setLayout(new BoxLayout(emptyStatePanel, BoxLayout.Y_AXIS));
+            emptyStatePanel.setBackground(BACKGROUND_COLOR);
+            emptyStatePanel.setAlignmentX(Component.CENTER_ALIGNMENT);
+            emptyStatePanel.setBorder(new EmptyBorder(50, 0, 0, 0));
+
+            JLabel emptyIcon = new JLabel("🎯");
+            emptyIcon.setFont(new Font("Arial", Font.PLAIN, 48));
+            emptyIcon.setAlignmentX(Component.CENTER_ALIGNMENT);
+
+            JLabel emptyLabel = new JLabel("No financial goals yet");
+            emptyLabel.setFont(new Font("Arial", Font.BOLD, 18));
+            emptyLabel.setForeground(TEXT_COLOR);
+            emptyLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
+
+            JLabel emptyHintLabel = new JLabel("Create your first financial goal to start tracking your progress");
+            emptyHintLabel.setFont(new Font("Arial", Font.PLAIN, 14));
+            emptyHintLabel.setForeground(new Color(180, 180, 180));
+            emptyHintLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
+
+            JButton createGoalButton = new JButton("Create a Goal");
+            styleButton(createGoalButton);
+            createGoalButton.setAlignmentX(Component.CENTER_ALIGNMENT);
+            createGoalButton.addActionListener(e -> showAddGoalDialog());
+
+            emptyStatePanel.add(emptyIcon);
+            emptyStatePanel.add(Box.createRigidArea(new Dimension(0, 15)));
+            emptyStatePanel.add(emptyLabel);
+            emptyStatePanel.add(Box.createRigidArea(new Dimension(0, 5)));
+            emptyStatePanel.add(emptyHintLabel);
+            emptyStatePanel.add(Box.createRigidArea(new Dimension(0, 20)));
+            emptyStatePanel.add(createGoalButton);
+
+            goalsPanel.add(emptyStatePanel);
+        } else {
+            // Display goals
+            for (Goal goal : goals) {
+                JPanel goalCard = createGoalCard(goal);
+                goalsPanel.add(goalCard);
+                goalsPanel.add(Box.createRigidArea(new Dimension(0, 15)));
             }
-
-            revalidate();
-            repaint();
-
-        } catch (SQLException e) {
-            e.printStackTrace();
-            JOptionPane.showMessageDialog(this,
-                    "Error loading goals: " + e.getMessage(),
-                    "Database Error",
-                    JOptionPane.ERROR_MESSAGE);
         }
+
+        revalidate();
+        repaint();
     }
 
     /**
@@ -542,25 +554,28 @@ public class GoalsUI extends JPanel {
                 // Create the goal
                 Goal newGoal = new Goal(userId, title, description, amount, startDate, targetDate, category);
 
-                try {
-                    goalController.createGoal(newGoal);
-
+                String goalCategory = category;
+                saveButton.setEnabled(false);
+                UiTaskExecutor.getInstance().submit("goal-create", () -> goalController.createGoal(newGoal), id -> {
                     // Generate an icon and add the category to the CategoryManager
-                    categoryManager.generateIconForCategory(category);
-                    categoryManager.addCategory(category);
+                    categoryManager.generateIconForCategory(goalCategory);
+                    categoryManager.addCategory(goalCategory);
 
                     addGoalDialog.dispose();
                     loadGoals(); // Refresh the list
-                } catch (IllegalArgumentException ex) {
-                    // Show pop-up message for duplicate goal name
-                    JOptionPane.showMessageDialog(addGoalDialog, ex.getMessage(), "Please create a unique goal name. ", JOptionPane.WARNING_MESSAGE);
-                } catch (SQLException ex) {
-                    ex.printStackTrace();
-                    JOptionPane.showMessageDialog(addGoalDialog,
-                            "Error creating goal: " + ex.getMessage(),
-                            "Database Error",
-                            JOptionPane.ERROR_MESSAGE);
-                }
+                }, ex -> {
+                    saveButton.setEnabled(true);
+                    if (ex instanceof IllegalArgumentException) {
+                        // Show pop-up message for duplicate goal name
+                        JOptionPane.showMessageDialog(addGoalDialog, ex.getMessage(), "Please create a unique goal name. ", JOptionPane.WARNING_MESSAGE);
+                    } else {
+                        ex.printStackTrace();
+                        JOptionPane.showMessageDialog(addGoalDialog,
+                                "Error creating goal: " + ex.getMessage(),
+                                "Database Error",
+                                JOptionPane.ERROR_MESSAGE);
+                    }
+                });
             }
         });
 
@@ -579,10 +594,8 @@ public class GoalsUI extends JPanel {
      * Update a goal's progress
      */
     private void updateGoalProgress(Goal goal) {
-        try {
-            // Automatically update based on transactions
-            boolean success = goalController.updateGoalProgress(goal.getId());
-
+        // Automatically update based on transactions
+        UiTaskExecutor.getInstance().submit("goal-progress", () -> goalController.updateGoalProgress(goal.getId()), success -> {
             if (success) {
                 JOptionPane.showMessageDialog(this,
                         "Goal progress updated successfully!",
@@ -595,13 +608,13 @@ public class GoalsUI extends JPanel {
                         "Error",
                         JOptionPane.ERROR_MESSAGE);
             }
-        } catch (SQLException e) {
+        }, e -> {
             e.printStackTrace();
             JOptionPane.showMessageDialog(this,
                     "Error updating goal: " + e.getMessage(),
                     "Database Error",
                     JOptionPane.ERROR_MESSAGE);
-        }
+        });
     }
 
     /**
@@ -626,9 +639,7 @@ public class GoalsUI extends JPanel {
                 JOptionPane.WARNING_MESSAGE);
 
         if (confirm == JOptionPane.YES_OPTION) {
-            try {
-                boolean success = goalController.deleteGoal(goal.getId());
-
+            UiTaskExecutor.getInstance().submit("goal-delete", () -> goalController.deleteGoal(goal.getId()), success -> {
                 if (success) {
                     loadGoals(); // Refresh the view
                 } else {
@@ -637,13 +648,13 @@ public class GoalsUI extends JPanel {
                             "Error",
                             JOptionPane.ERROR_MESSAGE);
                 }
-            } catch (SQLException e) {
+            }, e -> {
                 e.printStackTrace();
                 JOptionPane.showMessageDialog(this,
                         "Error deleting goal: " + e.getMessage(),
                         "Database Error",
                         JOptionPane.ERROR_MESSAGE);
-            }
+            });
         }
     }
 
@@ -676,89 +687,88 @@ public class GoalsUI extends JPanel {
      * Send an email with the goal progress report
      */
     private void sendGoalProgressEmail() {
-        try {
-            // Get all goals for the user
-            List<Goal> goals = goalController.getGoalsByUserId(userId);
-
-            if (goals.isEmpty()) {
-                JOptionPane.showMessageDialog(this,
-                        "You don't have any goals to report on yet.",
-                        "No Goals Found",
-                        JOptionPane.INFORMATION_MESSAGE);
-                return;
-            }
-
-            // Get the user's email address
-            String userEmailInput = getUserEmail();
-            if (userEmailInput == null || userEmailInput.trim().isEmpty()) {
-                userEmailInput = JOptionPane.showInputDialog(this,
-                        "Please enter your email address to receive the report:",
-                        "Email Address Required",
-                        JOptionPane.PLAIN_MESSAGE);
-
-                if (userEmailInput == null || userEmailInput.trim().isEmpty()) {
-                    return; // User canceled
-                }
-
-                // Optional: Validate email format
-                if (!userEmailInput.matches("^[A-Za-z0-9+_.-]+@(.+)$")) {
+        // Get all goals for the user
+        UiTaskExecutor.getInstance().submit("goal-report", () -> goalController.getGoalsByUserId(userId),
+                this::sendGoalProgressEmail, e -> {
+                    e.printStackTrace();
                     JOptionPane.showMessageDialog(this,
-                            "Please enter a valid email address.",
-                            "Invalid Email",
+                            "Error retrieving goals: " + e.getMessage(),
+                            "Database Error",
                             JOptionPane.ERROR_MESSAGE);
-                    return;
-                }
-            }
+                });
+    }
 
-            // Create a final copy of the email for use in the lambda
-            final String userEmail = userEmailInput;
-            final String userName = getUserName();
+    private void sendGoalProgressEmail(List<Goal> goals) {
+        if (goals.isEmpty()) {
+            JOptionPane.showMessageDialog(this,
+                    "You don't have any goals to report on yet.",
+                    "No Goals Found",
+                    JOptionPane.INFORMATION_MESSAGE);
+            return;
+        }
 
-            // Show a progress dialog
-            JDialog progressDialog = new JDialog((Frame) SwingUtilities.getWindowAncestor(this), "Sending Email", true);
-            progressDialog.setLayout(new BorderLayout());
-            progressDialog.setSize(300, 100);
-            progressDialog.setLocationRelativeTo(this);
+        // Get the user's email address
+        String userEmailInput = getUserEmail();
+        if (userEmailInput == null || userEmailInput.trim().isEmpty()) {
+            userEmailInput = JOptionPane.showInputDialog(this,
+                    "Please enter your email address to receive the report:",
+                    "Email Address Required",
+                    JOptionPane.PLAIN_MESSAGE);
 
-            JLabel progressLabel = new JLabel("Sending progress report to " + userEmail + "...");
-            progressLabel.setBorder(new EmptyBorder(15, 15, 15, 15));
-            progressLabel.setHorizontalAlignment(JLabel.CENTER);
-            progressDialog.add(progressLabel, BorderLayout.CENTER);
+            if (userEmailInput == null || userEmailInput.trim().isEmpty()) {
+                return; // User canceled
+            }
 
-            // Start email sending in a background thread
-            new Thread(() -> {
-                boolean success = false;
-                try {
-                    success = EmailNotifier.sendGoalProgressEmail(userEmail, userName, goals);
-                } finally {
-                    boolean finalSuccess = success;
-                    SwingUtilities.invokeLater(() -> {
-                        progressDialog.dispose();
-                        if (finalSuccess) {
-                            JOptionPane.showMessageDialog(this,
-                                    "Goal progress report sent to " + userEmail,
-                                    "Email Sent",
-                                    JOptionPane.INFORMATION_MESSAGE);
-                        } else {
-                            JOptionPane.showMessageDialog(this,
-                                    "Failed to send the progress report. Please try again later.",
-                                    "Email Error",
-                                    JOptionPane.ERROR_MESSAGE);
-                        }
-                    });
-                }
-            }).start();
+            // Optional: Validate email format
+            if (!userEmailInput.matches("^[A-Za-z0-9+_.-]+@(.+)$")) {
+                JOptionPane.showMessageDialog(this,
+                        "Please enter a valid email address.",
+                        "Invalid Email",
+                        JOptionPane.ERROR_MESSAGE);
+                return;
+            }
+        }
 
-            // Show the progress dialog
-            progressDialog.setVisible(true);
+        // Create a final copy of the email for use in the lambda
+        final String userEmail = userEmailInput;
+        final String userName = getUserName();
+
+        // Show a progress dialog
+        JDialog progressDialog = new JDialog((Frame) SwingUtilities.getWindowAncestor(this), "Sending Email", true);
+        progressDialog.setLayout(new BorderLayout());
+        progressDialog.setSize(300, 100);
+        progressDialog.setLocationRelativeTo(this);
+
+        JLabel progressLabel = new JLabel("Sending progress report to " + userEmail + "...");
+        progressLabel.setBorder(new EmptyBorder(15, 15, 15, 15));
+        progressLabel.setHorizontalAlignment(JLabel.CENTER);
+        progressDialog.add(progressLabel, BorderLayout.CENTER);
+
+        // Send in the background; the modal dialog keeps the EDT pumping meanwhile
+        UiTaskExecutor.getInstance().submit("goal-report-email",
+                () -> EmailNotifier.sendGoalProgressEmail(userEmail, userName, goals), success -> {
+                    progressDialog.dispose();
+                    if (success) {
+                        JOptionPane.showMessageDialog(this,
+                                "Goal progress report sent to " + userEmail,
+                                "Email Sent",
+                                JOptionPane.INFORMATION_MESSAGE);
+                    } else {
+                        JOptionPane.showMessageDialog(this,
+                                "Failed to send the progress report. Please try again later.",
+                                "Email Error",
+                                JOptionPane.ERROR_MESSAGE);
+                    }
+                }, e -> {
+                    progressDialog.dispose();
+                    JOptionPane.showMessageDialog(this,
+                            "Failed to send the progress report. Please try again later.",
+                            "Email Error",
+                            JOptionPane.ERROR_MESSAGE);
+                });
 
-        } catch (SQLException e) {
-            e.printStackTrace();
-            JOptionPane.showMessageDialog(this,
-                    "Error retrieving goals: " + e.getMessage(),
-                    "Database Error",
-                    JOptionPane.ERROR_MESSAGE);
-        }
+        // Show the progress dialog
+        progressDialog.setVisible(true);
     }
 
     /**
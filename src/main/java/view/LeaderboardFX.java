@@ -17,6 +17,7 @@ import javafx.scene.shape.Rectangle;
 
 import javax.swing.JPanel;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
 
 import controller.LeaderboardController;
@@ -108,8 +109,8 @@ public class LeaderboardFX extends JPanel {
         StackPane podiumStack = new StackPane();
         podiumStack.setPadding(new Insets(20));
         
-        // Get leaderboard data
-        List<LeaderboardEntry> entries = controller.getLeaderboard();
+        // Only the top three are needed for the podium
+        List<LeaderboardEntry> entries = controller.getTop(3);
         
         // Create the podium layout
         HBox podiumLayout = new HBox(20);
@@ -279,9 +280,12 @@ public class LeaderboardFX extends JPanel {
         headerBox.getChildren().addAll(userIcon, contendersLabel);
         contendersBox.getChildren().add(headerBox);
         
-        // Get contenders (players after 3rd place)
-        List<LeaderboardEntry> entries = controller.getLeaderboard();
-        if (entries.size() <= 3) {
+        // Get one page of contenders (players after 3rd place)
+        List<LeaderboardEntry> podium = controller.getTop(3);
+        List<LeaderboardEntry> entries = podium.size() < 3
+                ? new ArrayList<>()
+                : controller.getPageAfter(podium.get(2), 7);
+        if (entries.isEmpty()) {
             Label noContendersLabel = new Label("No other contenders yet");
             noContendersLabel.setFont(Font.font("Arial", FontWeight.NORMAL, 14));
             noContendersLabel.setTextFill(Color.WHITE);
@@ -289,8 +293,8 @@ public class LeaderboardFX extends JPanel {
             noContendersLabel.setTextAlignment(TextAlignment.CENTER);
             contendersBox.getChildren().add(noContendersLabel);
         } else {
-            for (int i = 3; i < Math.min(entries.size(), 10); i++) {
-                HBox contenderRow = createContenderRow(entries.get(i));
+            for (LeaderboardEntry entry : entries) {
+                HBox contenderRow = createContenderRow(entry);
                 contendersBox.getChildren().add(contenderRow);
             }
         }
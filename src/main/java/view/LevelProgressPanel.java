@@ -18,9 +18,13 @@ import javax.swing.BoxLayout;
 import javax.swing.JLabel;
 import javax.swing.JPanel;
 import javax.swing.JProgressBar;
+import javax.swing.SwingUtilities;
 import javax.swing.border.EmptyBorder;
 
+import controller.DashboardBootstrap;
 import controller.QuestController;
+import events.EventBus;
+import events.XpAwarded;
 
 /**
  * Reusable panel for displaying level progress and XP
@@ -46,6 +50,7 @@ public class LevelProgressPanel extends JPanel {
     private int level;
     private int currentXp;
     private int xpForNextLevel;
+    private EventBus.Subscription xpEvents;
     
     // Layout modes
     public static final int LAYOUT_FULL = 1; // Shield icon + level name + progress bar
@@ -63,8 +68,35 @@ public class LevelProgressPanel extends JPanel {
         this.questController = new QuestController();
         
         initializeUI();
+        xpProgressLabel.setText("Loading...");
         updateLevelDisplay();
     }
+
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        // The main window keeps this panel across tab switches; follow XP awards instead of rebuilding
+        xpEvents = EventBus.getInstance().subscribe(XpAwarded.class, event -> {
+            if (event.getUserId() != userId) {
+                return;
+            }
+            if (event.hasTotals()) {
+                int[] totals = {event.getCurrentXp(), event.getLevel()};
+                SwingUtilities.invokeLater(() -> showExperience(totals));
+            } else {
+                SwingUtilities.invokeLater(this::updateLevelDisplay);
+            }
+        });
+    }
+
+    @Override
+    public void removeNotify() {
+        super.removeNotify();
+        if (xpEvents != null) {
+            xpEvents.close();
+            xpEvents = null;
+        }
+    }
     
     /**
      * Initialize the UI components
@@ -391,56 +423,62 @@ public class LevelProgressPanel extends JPanel {
      * Updates the level display with user's current level and XP
      */
     public void updateLevelDisplay() {
-        try {
-            int[] userExp = questController.getUserExperience(userId);
-            currentXp = userExp[0];
-            level = userExp[1];
+        UiTaskExecutor.getInstance().submitLatest(this, "level-progress",
+                this::loadExperience, this::showExperience);
+    }
+
+    // The first panel after login uses the XP prefetched by DashboardBootstrap
+    private int[] loadExperience() throws SQLException {
+        int[] prefetched = DashboardBootstrap.takeExperience(userId);
+        return prefetched != null ? prefetched : questController.getUserExperience(userId);
+    }
+
+    private void showExperience(int[] userExp) {
+        currentXp = userExp[0];
+        level = userExp[1];
+        
+        // Calculate XP needed for next level
+        xpForNextLevel = questController.getXpForNextLevel(level);
+        int xpNeededForCurrentLevel = (level * level) * 100;
+        int xpInCurrentLevel = currentXp - xpNeededForCurrentLevel;
+        int xpNeededForNextLevel = xpForNextLevel - xpNeededForCurrentLevel;
+        
+        if (layoutMode == LAYOUT_HEADER) {
+            // Update header style layout
+            levelNameLabel.setText(getLevelTitle(level));
+            xpProgressBar.setMaximum(xpNeededForNextLevel);
+            xpProgressBar.setValue(xpInCurrentLevel);
+            xpProgressLabel.setText(xpInCurrentLevel + " / " + xpNeededForNextLevel + " XP");
+        } else if (layoutMode == LAYOUT_COMPACT) {
+            // Update compact layout
+            xpProgressBar.setMaximum(xpNeededForNextLevel);
+            xpProgressBar.setValue(xpInCurrentLevel);
+            xpProgressLabel.setText(xpInCurrentLevel + " / " + xpNeededForNextLevel + " XP");
+        } else {
+            // Update full layout
+            levelNameLabel.setText("Level " + level);
+            levelSubtitleLabel.setText(currentXp + " XP total");
             
-            // Calculate XP needed for next level
-            xpForNextLevel = questController.getXpForNextLevel(level);
-            int xpNeededForCurrentLevel = (level * level) * 100;
-            int xpInCurrentLevel = currentXp - xpNeededForCurrentLevel;
-            int xpNeededForNextLevel = xpForNextLevel - xpNeededForCurrentLevel;
+            xpProgressBar.setMaximum(xpNeededForNextLevel);
+            xpProgressBar.setValue(xpInCurrentLevel);
+            xpProgressLabel.setText(xpInCurrentLevel + " / " + xpNeededForNextLevel + " XP to level " + (level + 1));
             
-            if (layoutMode == LAYOUT_HEADER) {
-                // Update header style layout
-                levelNameLabel.setText(getLevelTitle(level));
-                xpProgressBar.setMaximum(xpNeededForNextLevel);
-                xpProgressBar.setValue(xpInCurrentLevel);
-                xpProgressLabel.setText(xpInCurrentLevel + " / " + xpNeededForNextLevel + " XP");
-            } else if (layoutMode == LAYOUT_COMPACT) {
-                // Update compact layout
-                xpProgressBar.setMaximum(xpNeededForNextLevel);
-                xpProgressBar.setValue(xpInCurrentLevel);
-                xpProgressLabel.setText(xpInCurrentLevel + " / " + xpNeededForNextLevel + " XP");
-            } else {
-                // Update full layout
-                levelNameLabel.setText("Level " + level);
-                levelSubtitleLabel.setText(currentXp + " XP total");
-                
-                xpProgressBar.setMaximum(xpNeededForNextLevel);
-                xpProgressBar.setValue(xpInCurrentLevel);
-                xpProgressLabel.setText(xpInCurrentLevel + " / " + xpNeededForNextLevel + " XP to level " + (level + 1));
-                
-                // Update shield with current level
-                Component comp = getComponent(0); // Level panel at WEST
-                if (comp instanceof JPanel) {
-                    Component shieldComp = ((JPanel)comp).getComponent(0);
-                    if (shieldComp instanceof JLabel) {
-                        // Replace with new shield showing current level
-                        ((JPanel)comp).remove(0);
-                        ((JPanel)comp).add(createLevelShield(level), BorderLayout.WEST);
-                        ((JPanel)comp).revalidate();
-                        ((JPanel)comp).repaint();
-                    }
+            // Update shield with current level
+            Component comp = getComponent(0); // Level panel at WEST
+            if (comp instanceof JPanel) {
+                Component shieldComp = ((JPanel)comp).getComponent(0);
+                if (shieldComp instanceof JLabel) {
+                    // Replace with new shield showing current level
+                    ((JPanel)comp).remove(0);
+                    ((JPanel)comp).add(createLevelShield(level), BorderLayout.WEST);
+                    ((JPanel)comp).revalidate();
+                    ((JPanel)comp).repaint();
                 }
             }
-            
-            revalidate();
-            repaint();
-        } catch (SQLException e) {
-            e.printStackTrace();
         }
+        
+        revalidate();
+        repaint();
     }
     
     /**
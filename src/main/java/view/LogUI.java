@@ -1,6 +1,7 @@
 package view;
 
 import controller.TransactionController;
+import database.dao.TransactionPage;
 import model.Transaction;
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
@@ -11,10 +12,11 @@ import java.awt.*;
 import java.sql.SQLException;
 import java.text.SimpleDateFormat;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 
-public class LogUI extends JPanel {
+public class LogUI extends JPanel implements ScreenRegistry.Refreshable {
     private static final Color BACKGROUND_COLOR = new Color(24, 15, 41);
     private static final Color PANEL_COLOR = new Color(40, 24, 69);
     private static final Color TEXT_COLOR = new Color(255, 255, 255);
@@ -29,6 +31,11 @@ public class LogUI extends JPanel {
     private JTextField searchField;
     private static LogUI instance;
     private int userId;
+    private TransactionPage.Cursor nextCursor;
+    private boolean hasMorePages;
+    private boolean loadingPage;
+
+    private static final int PAGE_SIZE = 100;
 
     public LogUI(int userId) {
         this.userId = userId;
@@ -167,54 +174,123 @@ public class LogUI extends JPanel {
             }
         });
 
+        scrollPane.getVerticalScrollBar().addAdjustmentListener(e -> {
+            if (!e.getValueIsAdjusting()) {
+                onScroll(scrollPane.getVerticalScrollBar());
+            }
+        });
+
         tablePanel.add(scrollPane, BorderLayout.CENTER);
         return tablePanel;
     }
 
+    // Rows fetched in the background, already filtered and formatted for the table
+    private static class RowBatch {
+        final List<Object[]> rows = new ArrayList<>();
+        TransactionPage.Cursor nextCursor;
+        boolean hasMore;
+    }
+
+    // Reload after transactions changed elsewhere, without the empty-history message
+    @Override
+    public void refresh() {
+        reloadRows(false);
+    }
+
     private void refreshTransactionData() {
+        reloadRows(true);
+    }
+
+    private void reloadRows(boolean reportEmpty) {
         tableModel.setRowCount(0); // Clear existing data
+        nextCursor = null;
+        hasMorePages = true;
+        // Supersedes any page still loading for the old filters
+        loadMoreRows(reportEmpty);
+    }
 
-        try {
-            List<Transaction> transactions = transactionController.getAllTransactions(userId);
-            SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd");
-            String searchText = searchField.getText().toLowerCase();
-            String filterType = (String) filterTypeComboBox.getSelectedItem();
-
-            for (Transaction transaction : transactions) {
-                boolean matchesSearch = searchText.isEmpty() ||
-                        transaction.getDescription().toLowerCase().contains(searchText) ||
-                        transaction.getCategory().toLowerCase().contains(searchText);
-                boolean matchesFilter = filterType.equals("All") ||
-                        (filterType.equals("Income") && transaction.isIncome()) ||
-                        (filterType.equals("Expense") && !transaction.isIncome());
-
-                if (matchesSearch && matchesFilter) {
-                    String date = dateFormat.format(Date.from(
-                            transaction.getDate().atStartOfDay(ZoneId.systemDefault()).toInstant()
-                    ));
-                    String amount = String.format("$%.2f", Math.abs(transaction.getAmount()));
-
-                    tableModel.addRow(new Object[]{
-                            date,
-                            transaction.getDescription(),
-                            transaction.getCategory(),
-                            transaction.isIncome() ? "Income" : "Expense",
-                            amount
-                    });
-                }
-            }
+    private void loadMoreRows(boolean reportEmpty) {
+        loadingPage = true;
+        TransactionPage.Cursor cursor = nextCursor;
+        String searchText = searchField.getText().toLowerCase();
+        String filterType = (String) filterTypeComboBox.getSelectedItem();
+        UiTaskExecutor.getInstance().submitLatest(this, "transaction-log",
+                () -> fetchRows(cursor, searchText, filterType), batch -> {
+                    loadingPage = false;
+                    for (Object[] row : batch.rows) {
+                        tableModel.addRow(row);
+                    }
+                    nextCursor = batch.nextCursor;
+                    hasMorePages = batch.hasMore;
+
+                    if (reportEmpty && tableModel.getRowCount() == 0) {
+                        if (!searchText.isEmpty() || !filterType.equals("All")) {
+                            showMessage("No transactions match the current filters.");
+                        } else {
+                            showMessage("No transactions found. Add some transactions to get started!");
+                        }
+                    }
+                }, e -> {
+                    loadingPage = false;
+                    e.printStackTrace();
+                    showError("Error loading transactions: " + e.getMessage());
+                });
+    }
+
+    /**
+     * Fetches pages until at least one page worth of rows passes the filters
+     * or the history is exhausted. Runs off the EDT.
+     */
+    private RowBatch fetchRows(TransactionPage.Cursor cursor, String searchText, String filterType) throws SQLException {
+        RowBatch batch = new RowBatch();
+        batch.nextCursor = cursor;
+        batch.hasMore = true;
+        while (batch.hasMore && batch.rows.size() < PAGE_SIZE) {
+            TransactionPage page = TransactionController.getTransactionsPage(userId, batch.nextCursor, PAGE_SIZE);
+            addMatchingRows(page.getTransactions(), searchText, filterType, batch.rows);
+            batch.nextCursor = page.getNextCursor();
+            batch.hasMore = page.hasMore();
+        }
+        return batch;
+    }
 
-            if (tableModel.getRowCount() == 0) {
-                if (!searchText.isEmpty() || !filterType.equals("All")) {
-                    showMessage("No transactions match the current filters.");
-                } else {
-                    showMessage("No transactions found. Add some transactions to get started!");
-                }
+    private static void addMatchingRows(List<Transaction> transactions, String searchText, String filterType,
+                                        List<Object[]> rows) {
+        SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd");
+
+        for (Transaction transaction : transactions) {
+            boolean matchesSearch = searchText.isEmpty() ||
+                    transaction.getDescription().toLowerCase().contains(searchText) ||
+                    transaction.getCategory().toLowerCase().contains(searchText);
+            boolean matchesFilter = filterType.equals("All") ||
+                    (filterType.equals("Income") && transaction.isIncome()) ||
+                    (filterType.equals("Expense") && !transaction.isIncome());
+
+            if (matchesSearch && matchesFilter) {
+                String date = dateFormat.format(Date.from(
+                        transaction.getDate().atStartOfDay(ZoneId.systemDefault()).toInstant()
+                ));
+                String amount = String.format("$%.2f", Math.abs(transaction.getAmount()));
+
+                rows.add(new Object[]{
+                        date,
+                        transaction.getDescription(),
+                        transaction.getCategory(),
+                        transaction.isIncome() ? "Income" : "Expense",
+                        amount
+                });
             }
+        }
+    }
 
-        } catch (Exception e) {
-            e.printStackTrace();
-            showError("Error loading transactions: " + e.getMessage());
+    // Fetch the next page once the user scrolls close to the bottom
+    private void onScroll(JScrollBar scrollBar) {
+        if (!hasMorePages || loadingPage) {
+            return;
+        }
+        int bottom = scrollBar.getValue() + scrollBar.getVisibleAmount();
+        if (bottom >= scrollBar.getMaximum() - transactionTable.getRowHeight() * 5) {
+            loadMoreRows(false);
         }
     }
 
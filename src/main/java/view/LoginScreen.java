@@ -1,6 +1,9 @@
 package view;
 
+import controller.DashboardBootstrap;
 import controller.UserControllerWithDatabase;
+import database.CalendarMonthCache;
+import database.TransactionCache;
 import utils.SessionManager;
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
@@ -171,14 +174,19 @@ public class LoginScreen extends BaseScreen {
             return;
         }
 
-        UserControllerWithDatabase userController = new UserControllerWithDatabase();
-        int userId = 0;
-        try {
-            userId = userController.authenticateUser(email, password);
-        } catch (SQLException ex) {
-            throw new RuntimeException(ex);
-        }
+        // Password hashing and the user lookup run off the EDT
+        UiTaskExecutor.getInstance().submitLatest(this, "login",
+                () -> new UserControllerWithDatabase().authenticateUser(email, password),
+                userId -> onAuthenticated(userId, email),
+                ex -> JOptionPane.showMessageDialog(
+                        this,
+                        "Could not log in: " + ex.getMessage(),
+                        "Login Error",
+                        JOptionPane.ERROR_MESSAGE
+                ));
+    }
 
+    private void onAuthenticated(int userId, String email) {
         if (userId == -1) {
             JOptionPane.showMessageDialog(
                     this,
@@ -189,17 +197,20 @@ public class LoginScreen extends BaseScreen {
             return;
         }
 
-        // Successful login
+        // Successful login; drop anything cached from an earlier session, then
+        // start fetching the dashboard while the window is built
+        TransactionCache.getInstance().invalidate(userId);
+        CalendarMonthCache.getInstance().invalidate(userId);
+        DashboardBootstrap.start(userId);
         userName = email.split("@")[0];
         userEmail = email;
         SessionManager.getInstance().setCurrentUser(userId, userName, userEmail);
         isSubmitted = true;
         dispose();
 
-        final int finalUserId = userId;
         SwingUtilities.invokeLater(() -> {
             try {
-                new CalendarUI(finalUserId, userName, userEmail);
+                new CalendarUI(userId, userName, userEmail);
             } catch (SQLException ex) {
                 throw new RuntimeException(ex);
             }
@@ -14,10 +14,14 @@ import java.awt.Insets;
 import java.awt.RenderingHints;
 import java.awt.geom.Ellipse2D;
 import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 
 import javax.swing.Box;
 import javax.swing.BoxLayout;
+import javax.swing.JButton;
 import javax.swing.JLabel;
 import javax.swing.JOptionPane;
 import javax.swing.JPanel;
@@ -27,11 +31,21 @@ import javax.swing.border.EmptyBorder;
 import controller.LeaderboardController;
 import model.LeaderboardEntry;
 
-public class NewLeaderboardUI extends JPanel {
+public class NewLeaderboardUI extends JPanel implements ScreenRegistry.Refreshable {
+    // Contenders shown per page below the podium
+    private static final int PAGE_SIZE = 7;
+
     private LeaderboardController controller;
     private JPanel podiumPanel;
     private JPanel contendersPanel;
 
+    // Only the podium and the visible page are loaded
+    private List<LeaderboardEntry> podiumEntries = new ArrayList<>();
+    private List<LeaderboardEntry> pageEntries = new ArrayList<>();
+    private LeaderboardEntry pageAnchor;
+    private final Deque<LeaderboardEntry> previousAnchors = new ArrayDeque<>();
+    private boolean hasNextPage;
+
     // Colors exactly matching the design
     private final Color BACKGROUND_COLOR = new Color(48, 16, 107); // Deep purple background
     private final Color GOLD_COLOR = new Color(247, 182, 24);      // Gold for 1st place
@@ -50,7 +64,8 @@ public class NewLeaderboardUI extends JPanel {
             // Add component listener to refresh on resize
             addComponentListener(new java.awt.event.ComponentAdapter() {
                 public void componentResized(java.awt.event.ComponentEvent e) {
-                    refresh();
+                    // Re-lay out the loaded entries; no need to query again
+                    render();
                 }
             });
         } catch (Exception e) {
@@ -174,18 +189,73 @@ public class NewLeaderboardUI extends JPanel {
         return panel;
     }
 
+    // What one background load returns: the podium and the rows after the anchor
+    private static class Loaded {
+        final List<LeaderboardEntry> podium;
+        final List<LeaderboardEntry> rows;
+
+        Loaded(List<LeaderboardEntry> podium, List<LeaderboardEntry> rows) {
+            this.podium = podium;
+            this.rows = rows;
+        }
+    }
+
     private void loadLeaderboard() {
-        try {
-            List<LeaderboardEntry> entries = controller.getLeaderboard();
-            displayPodium(entries);
-            displayContenders(entries);
-        } catch (SQLException e) {
-            JOptionPane.showMessageDialog(this,
-                    "Error loading leaderboard data: " + e.getMessage(),
-                    "Data Error",
-                    JOptionPane.ERROR_MESSAGE);
-            e.printStackTrace();
+        UiTaskExecutor.showPlaceholder(podiumPanel, "Loading leaderboard...");
+        UiTaskExecutor.getInstance().submitLatest(this, "leaderboard", () -> {
+            List<LeaderboardEntry> podium = controller.getTop(3);
+            // The first page of contenders starts after 3rd place
+            LeaderboardEntry anchor = podium.size() == 3 ? podium.get(2) : null;
+            return new Loaded(podium, loadPage(podium, anchor));
+        }, loaded -> {
+            podiumEntries = loaded.podium;
+            previousAnchors.clear();
+            pageAnchor = podiumEntries.size() == 3 ? podiumEntries.get(2) : null;
+            showPage(loaded.rows);
+            render();
+        }, this::showLoadError);
+    }
+
+    // Runs off the EDT; asks for one extra row to learn whether there is a next page
+    private List<LeaderboardEntry> loadPage(List<LeaderboardEntry> podium, LeaderboardEntry anchor) throws SQLException {
+        if (podium.size() < 3) {
+            return new ArrayList<>();
         }
+        return controller.getPageAfter(anchor, PAGE_SIZE + 1);
+    }
+
+    private void showPage(List<LeaderboardEntry> rows) {
+        hasNextPage = rows.size() > PAGE_SIZE;
+        pageEntries = new ArrayList<>(rows.subList(0, Math.min(rows.size(), PAGE_SIZE)));
+    }
+
+    private void showAdjacentPage(boolean next) {
+        LeaderboardEntry anchor = next
+                ? pageEntries.get(pageEntries.size() - 1)
+                : previousAnchors.peek();
+        List<LeaderboardEntry> podium = podiumEntries;
+        UiTaskExecutor.getInstance().submitLatest(this, "leaderboard", () -> loadPage(podium, anchor), rows -> {
+            if (next) {
+                previousAnchors.push(pageAnchor);
+            } else {
+                previousAnchors.pop();
+            }
+            pageAnchor = anchor;
+            showPage(rows);
+            displayContenders(pageEntries);
+        }, this::showLoadError);
+    }
+
+    private void showLoadError(Exception e) {
+        JOptionPane.showMessageDialog(this,
+                "Error loading leaderboard data: " + e.getMessage(),
+                "Data Error",
+                JOptionPane.ERROR_MESSAGE);
+    }
+
+    private void render() {
+        displayPodium(podiumEntries);
+        displayContenders(pageEntries);
     }
 
     private void displayPodium(List<LeaderboardEntry> entries) {
@@ -248,11 +318,11 @@ public class NewLeaderboardUI extends JPanel {
     }
 
     private void displayContenders(List<LeaderboardEntry> entries) {
-        // Get the content panel (second component in contendersPanel)
+        // Get the content panel (center component of contendersPanel)
         JPanel contentPanel = (JPanel) ((BorderLayout) contendersPanel.getLayout()).getLayoutComponent(BorderLayout.CENTER);
         contentPanel.removeAll();
         
-        if (entries.size() <= 3) {
+        if (entries.isEmpty()) {
             // Show default message
             JLabel defaultLabel = new JLabel("No other contenders yet");
             defaultLabel.setFont(new Font("Dialog", Font.PLAIN, 14));
@@ -260,17 +330,41 @@ public class NewLeaderboardUI extends JPanel {
             defaultLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
             contentPanel.add(defaultLabel);
         } else {
-            // Display contenders beyond the top 3
-            for (int i = 3; i < Math.min(entries.size(), 10); i++) {
-                JPanel contenderRow = createContenderRow(entries.get(i));
+            // Display the current page of contenders beyond the top 3
+            for (LeaderboardEntry entry : entries) {
+                JPanel contenderRow = createContenderRow(entry);
                 contentPanel.add(contenderRow);
                 contentPanel.add(Box.createVerticalStrut(5));
             }
+            if (!previousAnchors.isEmpty() || hasNextPage) {
+                contentPanel.add(createPageControls());
+            }
         }
         
         contentPanel.revalidate();
         contentPanel.repaint();
     }
+
+    private JPanel createPageControls() {
+        JPanel controls = new JPanel();
+        controls.setLayout(new BoxLayout(controls, BoxLayout.X_AXIS));
+        controls.setBackground(DARKER_PURPLE);
+        
+        JButton previousButton = new JButton("Previous");
+        previousButton.setEnabled(!previousAnchors.isEmpty());
+        previousButton.addActionListener(e -> showAdjacentPage(false));
+        
+        JButton nextButton = new JButton("Next");
+        nextButton.setEnabled(hasNextPage);
+        nextButton.addActionListener(e -> showAdjacentPage(true));
+        
+        controls.add(Box.createHorizontalGlue());
+        controls.add(previousButton);
+        controls.add(Box.createHorizontalStrut(10));
+        controls.add(nextButton);
+        controls.add(Box.createHorizontalGlue());
+        return controls;
+    }
     
     private JPanel createContenderRow(LeaderboardEntry entry) {
         JPanel row = new JPanel();
@@ -546,6 +640,7 @@ public class NewLeaderboardUI extends JPanel {
     }
     
     // Method to refresh the leaderboard
+    @Override
     public void refresh() {
         loadLeaderboard();
     }
@@ -14,6 +14,7 @@ import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.sql.SQLException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import javax.swing.BorderFactory;
 import javax.swing.Box;
@@ -28,13 +29,16 @@ import javax.swing.border.CompoundBorder;
 import javax.swing.border.EmptyBorder;
 import javax.swing.plaf.basic.BasicScrollBarUI;
 
+import controller.DashboardBootstrap;
 import controller.QuestController;
+import database.dao.AsyncDao;
 import model.Quest;
+import model.QuestMetrics;
 
 /**
  * UI for displaying and managing quests
  */
-public class QuestsUI extends JPanel {
+public class QuestsUI extends JPanel implements ScreenRegistry.Refreshable {
     // Colors
     private final Color BACKGROUND_COLOR = new Color(24, 15, 41);
     private final Color PANEL_COLOR = new Color(40, 24, 69);
@@ -67,7 +71,6 @@ public class QuestsUI extends JPanel {
     private int userId;
     private String userName;
     private String userEmail;
-    private javax.swing.Timer autoCheckTimer;
     
     /**
      * Constructor
@@ -82,22 +85,16 @@ public class QuestsUI extends JPanel {
         
         initializeUI();
         loadQuests();
-        
-        // Set up timer to periodically check for completed quests (every 5 seconds)
-        autoCheckTimer = new javax.swing.Timer(5000, e -> {
-            try {
-                // Check for quest completions
-                questController.checkAndCompleteQuests(userId);
-                // Force quest controller tables creation
-                questController.createQuestTablesIfNotExists();
-                // Reload quests to reflect any automatic completions
-                loadQuests();
-            } catch (SQLException ex) {
-                ex.printStackTrace();
-                // Silent failure - don't show error to user for background updates
-            }
-        });
-        autoCheckTimer.start();
+    }
+
+    /**
+     * Called by the screen registry when something that can move quest progress
+     * happened. The quest handler registered at startup has already re-evaluated
+     * progress by then.
+     */
+    @Override
+    public void refresh() {
+        loadQuests();
     }
     
     /**
@@ -386,18 +383,8 @@ public class QuestsUI extends JPanel {
         progressBar.setMinimum(0);
         progressBar.setMaximum(100);
         
-        // Calculate actual progress instead of using random values
-        int progressValue = 0;
-        try {
-            // Use the controller to calculate quest progress
-            progressValue = questController.calculateQuestProgress(quest, userId);
-        } catch (SQLException e) {
-            e.printStackTrace();
-            System.out.println("Error calculating quest progress: " + e.getMessage());
-            // Default value on error
-            progressValue = quest.isCompleted() ? 100 : 0;
-        }
-        
+        // Progress was calculated in the background by loadQuests()
+        int progressValue = quest.getProgress();
         progressBar.setValue(progressValue);
         progressBar.setStringPainted(false);
         progressBar.setOpaque(false);
@@ -611,58 +598,21 @@ public class QuestsUI extends JPanel {
         return button;
     }
     
+    // One background load: the three quest lists with progress already calculated
+    private static class QuestLists {
+        List<Quest> daily;
+        List<Quest> weekly;
+        List<Quest> monthly;
+    }
+
     /**
      * Load quests from the database
      */
     private void loadQuests() {
-        try {
-            // Check if we need to generate sample quests
-            List<Quest> existingQuests = questController.getQuestsByUserId(userId);
-            if (existingQuests.isEmpty()) {
-                questController.generateSampleQuests(userId);
-            }
-            
-            // Load daily quests
-            List<Quest> dailyQuests = questController.getDailyQuestsByUserId(userId);
-            dailyQuestsPanel.removeAll();
-            for (Quest quest : dailyQuests) {
-                dailyQuestsPanel.add(createQuestCard(quest, DAILY_COLOR));
-            }
-            
-            if (dailyQuests.isEmpty()) {
-                dailyQuestsPanel.add(createEmptyQuestMessage("No daily quests available"));
-            }
-            
-            // Load weekly quests
-            List<Quest> weeklyQuests = questController.getWeeklyQuestsByUserId(userId);
-            weeklyQuestsPanel.removeAll();
-            for (Quest quest : weeklyQuests) {
-                weeklyQuestsPanel.add(createQuestCard(quest, WEEKLY_COLOR));
-            }
-            
-            if (weeklyQuests.isEmpty()) {
-                weeklyQuestsPanel.add(createEmptyQuestMessage("No weekly quests available"));
-            }
-            
-            // Load monthly quests - using these as "Special Quests"
-            List<Quest> monthlyQuests = questController.getMonthlyQuestsByUserId(userId);
-            specialQuestsPanel.removeAll();
-            for (Quest quest : monthlyQuests) {
-                specialQuestsPanel.add(createQuestCard(quest, MONTHLY_COLOR));
-            }
-            
-            if (monthlyQuests.isEmpty()) {
-                specialQuestsPanel.add(createEmptyQuestMessage("No special quests available"));
-            }
-            
-            // Update level displays (both top and bottom)
-            updateLevelPanels();
-            
-            // Refresh UI
-            revalidate();
-            repaint();
-            
-        } catch (SQLException e) {
+        if (dailyQuestsPanel.getComponentCount() == 0) {
+            UiTaskExecutor.showPlaceholder(dailyQuestsPanel, "Loading quests...");
+        }
+        UiTaskExecutor.getInstance().submitLatest(this, "quests", this::fetchQuests, this::showQuests, e -> {
             e.printStackTrace();
             JOptionPane.showMessageDialog(
                 this,
@@ -670,7 +620,88 @@ public class QuestsUI extends JPanel {
                 "Database Error",
                 JOptionPane.ERROR_MESSAGE
             );
+        });
+    }
+
+    // Runs off the EDT
+    private QuestLists fetchQuests() throws SQLException {
+        // Check if we need to generate sample quests
+        List<Quest> existingQuests = questController.getQuestsByUserId(userId);
+        if (existingQuests.isEmpty()) {
+            questController.generateSampleQuests(userId);
+        }
+
+        // All cards share one set of metrics, so each figure is fetched once per reload.
+        // The metrics and the three quest lists are independent and load concurrently.
+        CompletableFuture<QuestMetrics> metricsLoad = AsyncDao.call(() -> questController.loadMetrics(userId));
+        // Quests prefetched at login predate any sample quests generated above
+        List<Quest> prefetchedDaily = existingQuests.isEmpty() ? null : DashboardBootstrap.takeDailyQuests(userId);
+        CompletableFuture<List<Quest>> daily = prefetchedDaily != null
+                ? CompletableFuture.completedFuture(prefetchedDaily)
+                : AsyncDao.call(() -> questController.getDailyQuestsByUserId(userId));
+        CompletableFuture<List<Quest>> weekly = AsyncDao.call(() -> questController.getWeeklyQuestsByUserId(userId));
+        CompletableFuture<List<Quest>> monthly = AsyncDao.call(() -> questController.getMonthlyQuestsByUserId(userId));
+        QuestMetrics metrics = AsyncDao.await(metricsLoad);
+        QuestLists lists = new QuestLists();
+        lists.daily = AsyncDao.await(daily);
+        lists.weekly = AsyncDao.await(weekly);
+        lists.monthly = AsyncDao.await(monthly);
+        for (List<Quest> quests : List.of(lists.daily, lists.weekly, lists.monthly)) {
+            for (Quest quest : quests) {
+                calculateProgress(quest, metrics);
+            }
+        }
+        return lists;
+    }
+
+    private void calculateProgress(Quest quest, QuestMetrics metrics) {
+        try {
+            questController.calculateQuestProgress(quest, userId, metrics);
+        } catch (SQLException e) {
+            e.printStackTrace();
+            System.out.println("Error calculating quest progress: " + e.getMessage());
+            // Default value on error
+            quest.setProgress(quest.isCompleted() ? 100 : 0);
+        }
+    }
+
+    private void showQuests(QuestLists lists) {
+        // Load daily quests
+        dailyQuestsPanel.removeAll();
+        for (Quest quest : lists.daily) {
+            dailyQuestsPanel.add(createQuestCard(quest, DAILY_COLOR));
+        }
+
+        if (lists.daily.isEmpty()) {
+            dailyQuestsPanel.add(createEmptyQuestMessage("No daily quests available"));
+        }
+
+        // Load weekly quests
+        weeklyQuestsPanel.removeAll();
+        for (Quest quest : lists.weekly) {
+            weeklyQuestsPanel.add(createQuestCard(quest, WEEKLY_COLOR));
         }
+
+        if (lists.weekly.isEmpty()) {
+            weeklyQuestsPanel.add(createEmptyQuestMessage("No weekly quests available"));
+        }
+
+        // Load monthly quests - using these as "Special Quests"
+        specialQuestsPanel.removeAll();
+        for (Quest quest : lists.monthly) {
+            specialQuestsPanel.add(createQuestCard(quest, MONTHLY_COLOR));
+        }
+
+        if (lists.monthly.isEmpty()) {
+            specialQuestsPanel.add(createEmptyQuestMessage("No special quests available"));
+        }
+
+        // Update level displays (both top and bottom)
+        updateLevelPanels();
+
+        // Refresh UI
+        revalidate();
+        repaint();
     }
     
     /**
@@ -784,8 +784,11 @@
             
             System.out.println("Quiz completed with score: " + score + "/" + maxScore);
             
-            // Complete the quiz - this adds XP and checks quests
-            quizController.completeQuiz();
+            // Complete the quiz - this adds XP and checks quests off the EDT
+            UiTaskExecutor.getInstance().submit("quiz-complete", () -> {
+                quizController.completeQuiz();
+                return null;
+            }, null);
             
             // Update score text
             scoreLabel.setText("Your score: " + score + " / " + maxScore);
@@ -1,7 +1,6 @@
 package view;
 
 import controller.UserControllerWithDatabase;
-import model.User;
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import java.awt.*;
@@ -154,21 +153,23 @@ public class RegisterScreen extends BaseScreen {
             return;
         }
 
-        UserControllerWithDatabase userController = new UserControllerWithDatabase();
-        int userId = 0;
-        try {
-            userId = userController.registerUser(email, password);
-        } catch (SQLException ex) {
-            throw new RuntimeException(ex);
-        }
+        UiTaskExecutor.getInstance().submitLatest(this, "register",
+                () -> new UserControllerWithDatabase().registerUser(email, password),
+                this::onRegistered,
+                ex -> JOptionPane.showMessageDialog(
+                        this,
+                        "Registration failed: " + ex.getMessage(),
+                        "Registration Error",
+                        JOptionPane.ERROR_MESSAGE
+                ));
+    }
 
+    private void onRegistered(int userId) {
         if (userId != -1) {
             fadeOutAndSwitch(() -> {
                 LoginScreen loginScreen = new LoginScreen();
                 loginScreen.fadeIn(0.5f);
             });
-            User newUser = new User(userId, email.split("@")[0], email, 0.0, 0);
-            // Optionally handle post-registration actions here
         } else {
             JOptionPane.showMessageDialog(
                     this,
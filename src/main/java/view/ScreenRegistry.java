@@ -0,0 +1,190 @@
+package view;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.swing.JComponent;
+import javax.swing.SwingUtilities;
+
+import events.DashboardReady;
+import events.DomainEvent;
+import events.EventBus;
+
+/**
+ * Builds the main window's tab screens on first view and keeps them for
+ * later visits, so switching tabs does not re-create controllers or reload
+ * data.
+ *
+ * At most {@code fbg.screens.max} screens (default 4) are kept; the one
+ * viewed least recently is dropped first and its pending loads cancelled.
+ * Cached screens are not rebuilt when data changes. Each registration names
+ * the events that affect it: a visible screen refreshes at once, a hidden
+ * one is marked stale and refreshes on its next view.
+ *
+ * Must be used on the event dispatch thread.
+ */
+public class ScreenRegistry {
+    private static final int MAX_SCREENS = Integer.getInteger("fbg.screens.max", 4);
+
+    /**
+     * Creates a screen. Called on the EDT on first view.
+     */
+    public interface ScreenFactory {
+        JComponent create() throws SQLException;
+    }
+
+    /**
+     * A screen that can reload its data in place.
+     */
+    public interface Refreshable {
+        void refresh();
+    }
+
+    private static class Registration {
+        final ScreenFactory factory;
+        final List<Class<? extends DomainEvent>> refreshOn;
+
+        Registration(ScreenFactory factory, List<Class<? extends DomainEvent>> refreshOn) {
+            this.factory = factory;
+            this.refreshOn = refreshOn;
+        }
+
+        boolean affectedBy(DomainEvent event) {
+            for (Class<? extends DomainEvent> type : refreshOn) {
+                if (type.isInstance(event)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static class CachedScreen {
+        final JComponent screen;
+        boolean stale;
+
+        CachedScreen(JComponent screen) {
+            this.screen = screen;
+        }
+    }
+
+    private final int userId;
+    private final Map<String, Registration> registrations = new HashMap<>();
+    // Access order: the first entry is the screen viewed least recently
+    private final LinkedHashMap<String, CachedScreen> cache = new LinkedHashMap<>(16, 0.75f, true);
+    private final EventBus.Subscription changes;
+    private String visible;
+    private long hits;
+    private long builds;
+    private long buildMillis;
+    private long evictions;
+    private long refreshes;
+
+    public ScreenRegistry(int userId) {
+        this.userId = userId;
+        changes = EventBus.getInstance().subscribe(DomainEvent.class, event -> {
+            if (event.getUserId() == this.userId && !(event instanceof DashboardReady)) {
+                SwingUtilities.invokeLater(() -> onDataChanged(event));
+            }
+        });
+    }
+
+    @SafeVarargs
+    public final void register(String name, ScreenFactory factory, Class<? extends DomainEvent>... refreshOn) {
+        List<Class<? extends DomainEvent>> types = new ArrayList<>(refreshOn.length);
+        for (Class<? extends DomainEvent> type : refreshOn) {
+            types.add(type);
+        }
+        registrations.put(name, new Registration(factory, types));
+    }
+
+    public boolean isRegistered(String name) {
+        return registrations.containsKey(name);
+    }
+
+    /**
+     * Returns the screen for a tab, building it on first view and
+     * refreshing it if data changed while it was hidden.
+     */
+    public JComponent show(String name) throws SQLException {
+        Registration registration = registrations.get(name);
+        if (registration == null) {
+            visible = null;
+            return null;
+        }
+        visible = name;
+        CachedScreen cached = cache.get(name);
+        if (cached != null) {
+            hits++;
+            if (cached.stale) {
+                cached.stale = false;
+                refresh(cached.screen);
+            }
+            return cached.screen;
+        }
+
+        long start = System.nanoTime();
+        JComponent screen = registration.factory.create();
+        builds++;
+        buildMillis += (System.nanoTime() - start) / 1_000_000;
+        cache.put(name, new CachedScreen(screen));
+        evictOverflow();
+        return screen;
+    }
+
+    /**
+     * Drops every cached screen and stops listening for events, e.g. on logout.
+     */
+    public void close() {
+        changes.close();
+        for (CachedScreen cached : cache.values()) {
+            UiTaskExecutor.getInstance().cancelAll(cached.screen);
+        }
+        cache.clear();
+        visible = null;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Screens: cached=%d hits=%d builds=%d (%d ms) evictions=%d refreshes=%d",
+                cache.size(), hits, builds, buildMillis, evictions, refreshes);
+    }
+
+    private void onDataChanged(DomainEvent event) {
+        cache.forEach((name, cached) -> {
+            if (!registrations.get(name).affectedBy(event)) {
+                return;
+            }
+            if (name.equals(visible)) {
+                refresh(cached.screen);
+            } else {
+                cached.stale = true;
+            }
+        });
+    }
+
+    private void refresh(JComponent screen) {
+        if (screen instanceof Refreshable refreshable) {
+            refreshes++;
+            refreshable.refresh();
+        }
+    }
+
+    private void evictOverflow() {
+        Iterator<Map.Entry<String, CachedScreen>> it = cache.entrySet().iterator();
+        while (cache.size() > MAX_SCREENS && it.hasNext()) {
+            Map.Entry<String, CachedScreen> eldest = it.next();
+            if (eldest.getKey().equals(visible)) {
+                continue;
+            }
+            it.remove();
+            evictions++;
+            UiTaskExecutor.getInstance().cancelAll(eldest.getValue().screen);
+        }
+    }
+}
@@ -2,10 +2,10 @@ package view;
 import java.awt.BorderLayout;
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
-import java.sql.Statement;
 
 import javax.swing.*;
 import javax.swing.table.DefaultTableModel;
@@ -16,6 +16,10 @@ public class TransactionLogUI extends JFrame{
 	    private static final String TABLE_NAME = "transactions";
 	    private JTable table;
 	    private DefaultTableModel model;
+	    private static final String COLUMNS = "id, user_id, date, description, category, type, amount";
+	    private static final int PAGE_SIZE = 500;
+	    private int lastId = 0;
+	    private boolean hasMore = true;
 
 	    
 	    //UI
@@ -28,37 +32,55 @@ public class TransactionLogUI extends JFrame{
 	        model = new DefaultTableModel();
 	        table = new JTable(model);
 	        JScrollPane scrollPane = new JScrollPane(table);
+	        // Load the next page when the user reaches the bottom
+	        scrollPane.getVerticalScrollBar().addAdjustmentListener(e -> {
+	            JScrollBar bar = scrollPane.getVerticalScrollBar();
+	            if (hasMore && !e.getValueIsAdjusting()
+	                    && bar.getValue() + bar.getVisibleAmount() >= bar.getMaximum()) {
+	                loadData();
+	            }
+	        });
 	        add(scrollPane, BorderLayout.CENTER);
 
 	        loadData();
 	        setVisible(true);
 	    }
 
-	    //Fetching Data from Database
+	    //Fetching Data from Database, one id-ordered page at a time
 	    private void loadData() {
+	        String sql = "SELECT " + COLUMNS + " FROM " + TABLE_NAME + " WHERE id > ? ORDER BY id LIMIT ?";
 	        try (Connection connection = getDatabaseConnection();
-	             Statement statement = connection.createStatement();
-	             ResultSet resultSet = statement.executeQuery("SELECT * FROM " + TABLE_NAME)) {
-
-	            ResultSetMetaData metaData = resultSet.getMetaData();
-	            int columnCount = metaData.getColumnCount();
-	            String[] columnNames = new String[columnCount];
-
-	            for (int i = 1; i <= columnCount; i++) {
-	                columnNames[i - 1] = metaData.getColumnName(i);
-	            }
-
-	            model.setColumnIdentifiers(columnNames);
+	             PreparedStatement statement = connection.prepareStatement(sql)) {
+	            statement.setInt(1, lastId);
+	            statement.setInt(2, PAGE_SIZE);
+
+	            try (ResultSet resultSet = statement.executeQuery()) {
+	                ResultSetMetaData metaData = resultSet.getMetaData();
+	                int columnCount = metaData.getColumnCount();
+
+	                if (model.getColumnCount() == 0) {
+	                    String[] columnNames = new String[columnCount];
+	                    for (int i = 1; i <= columnCount; i++) {
+	                        columnNames[i - 1] = metaData.getColumnName(i);
+	                    }
+	                    model.setColumnIdentifiers(columnNames);
+	                }
 
-	            while (resultSet.next()) {
-	                Object[] rowData = new Object[columnCount];
-	                for (int i = 1; i <= columnCount; i++) {
-	                    rowData[i - 1] = resultSet.getObject(i);
+	                int rows = 0;
+	                while (resultSet.next()) {
+	                    Object[] rowData = new Object[columnCount];
+	                    for (int i = 1; i <= columnCount; i++) {
+	                        rowData[i - 1] = resultSet.getObject(i);
+	                    }
+	                    model.addRow(rowData);
+	                    lastId = resultSet.getInt("id");
+	                    rows++;
 	                }
-	                model.addRow(rowData);
+	                hasMore = rows == PAGE_SIZE;
 	            }
 
 	        } catch (SQLException e) {
+	            hasMore = false;
 	            JOptionPane.showMessageDialog(this, "Error loading data: " + e.getMessage(),
 	                    "Database Error", JOptionPane.ERROR_MESSAGE);
 	        }
@@ -0,0 +1,298 @@
+package view;
+
+import java.awt.Color;
+import java.awt.Component;
+import java.awt.Container;
+import java.awt.Font;
+import java.awt.GridBagLayout;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.SwingUtilities;
+
+/**
+ * Runs controller calls (and so JDBC) for the Swing screens on virtual
+ * threads and hands the results back on the event dispatch thread.
+ *
+ * Work submitted with an owner and a name supersedes any unfinished task
+ * with the same owner and name: the old task is interrupted and its result
+ * dropped, so only the latest request (e.g. the month the user clicked
+ * last) ever reaches the screen.
+ *
+ * For every task name it records how long the work ran in the background
+ * and how long its callback held the EDT. Together with
+ * {@link database.ConnectionPool.Stats#getEdtBorrowCount()} this shows the
+ * UI thread never waits on the database.
+ */
+public final class UiTaskExecutor {
+    private static final UiTaskExecutor INSTANCE = new UiTaskExecutor();
+    // Callbacks slower than this are logged; they make the UI stutter
+    private static final long SLOW_CALLBACK_NANOS = 50_000_000L;
+    private static final Color PLACEHOLDER_COLOR = new Color(160, 160, 170);
+
+    private final ExecutorService executor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("ui-task-", 0).factory());
+    private final Map<Key, Task<?>> latest = new ConcurrentHashMap<>();
+    private final Map<String, TaskStats> stats = new ConcurrentHashMap<>();
+
+    // Owners are compared by identity, names by value
+    private static final class Key {
+        final Object owner;
+        final String name;
+
+        Key(Object owner, String name) {
+            this.owner = owner;
+            this.name = name;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key other && other.owner == owner && other.name.equals(name);
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(owner) * 31 + name.hashCode();
+        }
+    }
+
+    /**
+     * Handle for a submitted task. Cancelling interrupts the work if it is
+     * still running and guarantees no callback runs afterwards.
+     */
+    public static final class Task<T> {
+        private final String name;
+        private volatile Future<?> future;
+        private volatile boolean cancelled;
+
+        private Task(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void cancel() {
+            cancelled = true;
+            Future<?> running = future;
+            if (running != null) {
+                running.cancel(true);
+            }
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+
+    /**
+     * Counters for one task name.
+     */
+    public static final class TaskStats {
+        private long completed;
+        private long failed;
+        private long cancelled;
+        private long backgroundNanos;
+        private long edtNanos;
+        private long maxEdtNanos;
+
+        private synchronized void record(long background, long edt) {
+            completed++;
+            backgroundNanos += background;
+            edtNanos += edt;
+            maxEdtNanos = Math.max(maxEdtNanos, edt);
+        }
+
+        private synchronized void recordFailure() {
+            failed++;
+        }
+
+        private synchronized void recordCancelled() {
+            cancelled++;
+        }
+
+        public synchronized long getCompleted() { return completed; }
+        public synchronized long getFailed() { return failed; }
+        public synchronized long getCancelled() { return cancelled; }
+        public synchronized double getBackgroundMillis() { return backgroundNanos / 1_000_000.0; }
+        public synchronized double getEdtMillis() { return edtNanos / 1_000_000.0; }
+        public synchronized double getMaxEdtMillis() { return maxEdtNanos / 1_000_000.0; }
+
+        @Override
+        public synchronized String toString() {
+            return String.format("done=%d failed=%d cancelled=%d background=%.1fms edt=%.1fms maxEdt=%.2fms",
+                    completed, failed, cancelled, getBackgroundMillis(), getEdtMillis(), getMaxEdtMillis());
+        }
+    }
+
+    UiTaskExecutor() {
+    }
+
+    public static UiTaskExecutor getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Runs work in the background, then onSuccess on the EDT. Failures are
+     * logged.
+     */
+    public <T> Task<T> submit(String name, Callable<T> work, Consumer<? super T> onSuccess) {
+        return submit(name, work, onSuccess, null);
+    }
+
+    public <T> Task<T> submit(String name, Callable<T> work, Consumer<? super T> onSuccess,
+                              Consumer<? super Exception> onFailure) {
+        Task<T> task = new Task<>(name);
+        start(task, null, work, onSuccess, onFailure);
+        return task;
+    }
+
+    /**
+     * Like {@link #submit}, but first cancels the owner's unfinished task of
+     * the same name.
+     */
+    public <T> Task<T> submitLatest(Object owner, String name, Callable<T> work, Consumer<? super T> onSuccess) {
+        return submitLatest(owner, name, work, onSuccess, null);
+    }
+
+    public <T> Task<T> submitLatest(Object owner, String name, Callable<T> work, Consumer<? super T> onSuccess,
+                                    Consumer<? super Exception> onFailure) {
+        Key key = new Key(owner, name);
+        Task<T> task = new Task<>(name);
+        Task<?> previous = latest.put(key, task);
+        if (previous != null) {
+            previous.cancel();
+        }
+        start(task, key, work, onSuccess, onFailure);
+        return task;
+    }
+
+    /**
+     * Shows a loading placeholder in target, loads in the background and
+     * replaces the placeholder with the rendered result. Superseded loads
+     * for the same target are dropped.
+     */
+    public <T> Task<T> load(Container target, String name, Callable<T> work, Function<? super T, ? extends Component> render) {
+        showPlaceholder(target, "Loading...");
+        return submitLatest(target, name, work, result -> replaceContent(target, render.apply(result)),
+                e -> showPlaceholder(target, "Could not load data: " + e.getMessage()));
+    }
+
+    /**
+     * Replaces the contents of target with a centred, muted message.
+     */
+    public static void showPlaceholder(Container target, String text) {
+        JLabel label = new JLabel(text);
+        label.setForeground(PLACEHOLDER_COLOR);
+        label.setFont(label.getFont().deriveFont(Font.ITALIC));
+        JPanel holder = new JPanel(new GridBagLayout());
+        holder.setOpaque(false);
+        holder.add(label);
+        replaceContent(target, holder);
+    }
+
+    private static void replaceContent(Container target, Component content) {
+        target.removeAll();
+        target.add(content);
+        target.revalidate();
+        target.repaint();
+    }
+
+    /**
+     * Cancels every unfinished keyed task of the owner, e.g. when a screen closes.
+     */
+    public void cancelAll(Object owner) {
+        latest.forEach((key, task) -> {
+            if (key.owner == owner && latest.remove(key, task)) {
+                task.cancel();
+            }
+        });
+    }
+
+    /**
+     * @return counters per task name, sorted by name
+     */
+    public Map<String, TaskStats> getStats() {
+        return new TreeMap<>(stats);
+    }
+
+    public String report() {
+        StringBuilder sb = new StringBuilder("UI tasks:");
+        getStats().forEach((name, taskStats) ->
+                sb.append(System.lineSeparator()).append(String.format("  %-28s %s", name, taskStats)));
+        return sb.toString();
+    }
+
+    private <T> void start(Task<T> task, Key key, Callable<T> work, Consumer<? super T> onSuccess,
+                           Consumer<? super Exception> onFailure) {
+        Objects.requireNonNull(work, "work");
+        TaskStats taskStats = stats.computeIfAbsent(task.name, name -> new TaskStats());
+        task.future = executor.submit(() -> {
+            long start = System.nanoTime();
+            T result = null;
+            Exception failure = null;
+            try {
+                result = work.call();
+            } catch (InterruptedException e) {
+                task.cancelled = true;
+            } catch (Exception e) {
+                failure = e;
+            }
+            long background = System.nanoTime() - start;
+            T value = result;
+            Exception error = failure;
+            SwingUtilities.invokeLater(() -> finish(task, key, taskStats, background, value, error, onSuccess, onFailure));
+        });
+        if (task.cancelled) {
+            // Cancelled before the future was assigned
+            task.future.cancel(true);
+        }
+    }
+
+    private <T> void finish(Task<T> task, Key key, TaskStats taskStats, long background, T value, Exception error,
+                            Consumer<? super T> onSuccess, Consumer<? super Exception> onFailure) {
+        if (key != null) {
+            latest.remove(key, task);
+        }
+        if (task.cancelled) {
+            taskStats.recordCancelled();
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            if (error == null) {
+                if (onSuccess != null) {
+                    onSuccess.accept(value);
+                }
+            } else {
+                taskStats.recordFailure();
+                System.out.println("UI task " + task.name + " failed: " + error.getMessage());
+                if (onFailure != null) {
+                    onFailure.accept(error);
+                } else {
+                    error.printStackTrace();
+                }
+            }
+        } finally {
+            long edt = System.nanoTime() - start;
+            // A failure is counted once, by recordFailure, and not in the timings
+            if (error == null) {
+                taskStats.record(background, edt);
+            }
+            if (edt > SLOW_CALLBACK_NANOS) {
+                System.out.println("UI task " + task.name + " held the EDT for " + edt / 1_000_000 + " ms");
+            }
+        }
+    }
+}
@@ -125,23 +125,37 @@ public class UserProfileDialog extends JDialog {
         cancelButton.addActionListener(e -> dispose());
     }
 
+    // What the background load returns; user is null when the profile was not found
+    private static class Profile {
+        User user;
+        String username;
+        String password;
+    }
+
     private void loadUserProfile() {
-        try {
-            User user = controller.getUserProfile();
-            if (user != null) {
-                emailLabel.setText(user.getEmail());
-                
+        emailLabel.setText("Loading...");
+        updateButton.setEnabled(false);
+        UiTaskExecutor.getInstance().submitLatest(this, "profile", () -> {
+            Profile profile = new Profile();
+            profile.user = controller.getUserProfile();
+            if (profile.user != null) {
                 // Get username with fallback to email prefix
-                currentUsername = controller.getUsername();
-                usernameField.setText(currentUsername);
-                
+                profile.username = controller.getUsername();
                 // Retrieve the password directly from the database
-                String currentPassword = controller.getUserPassword();
-                passwordField.setText(currentPassword);
+                profile.password = controller.getUserPassword();
             }
-        } catch (SQLException ex) {
-            JOptionPane.showMessageDialog(this, "Error loading profile: " + ex.getMessage(), "Error", JOptionPane.ERROR_MESSAGE);
-        }
+            return profile;
+        }, profile -> {
+            updateButton.setEnabled(true);
+            if (profile.user != null) {
+                emailLabel.setText(profile.user.getEmail());
+                currentUsername = profile.username;
+                usernameField.setText(currentUsername);
+                passwordField.setText(profile.password);
+            } else {
+                emailLabel.setText("");
+            }
+        }, ex -> JOptionPane.showMessageDialog(this, "Error loading profile: " + ex.getMessage(), "Error", JOptionPane.ERROR_MESSAGE));
     }
 
     private void updateProfile() {
@@ -170,51 +184,41 @@ public class UserProfileDialog extends JDialog {
         cancelButton.setEnabled(false);
 
         // Run the update in a background thread
-        SwingWorker<Boolean, Void> worker = new SwingWorker<Boolean, Void>() {
-            @Override
-            protected Boolean doInBackground() throws Exception {
-                boolean passwordSuccess = controller.updatePassword(newPassword);
-                
-                // Only check for username availability if it has changed
-                boolean usernameSuccess = true;
-                if (!newUsername.equals(currentUsername)) {
-                    // Check if the new username is available (not taken)
-                    if (!controller.isUsernameAvailable(newUsername)) {
-                        throw new SQLException("Username '" + newUsername + "' is already taken");
-                    }
-                    usernameSuccess = controller.updateUsername(newUsername);
+        UiTaskExecutor.getInstance().submit("profile-update", () -> {
+            boolean passwordSuccess = controller.updatePassword(newPassword);
+
+            // Only check for username availability if it has changed
+            boolean usernameSuccess = true;
+            if (!newUsername.equals(currentUsername)) {
+                // Check if the new username is available (not taken)
+                if (!controller.isUsernameAvailable(newUsername)) {
+                    throw new SQLException("Username '" + newUsername + "' is already taken");
                 }
-                
-                return passwordSuccess && usernameSuccess;
+                usernameSuccess = controller.updateUsername(newUsername);
             }
 
-            @Override
-            protected void done() {
-                try {
-                    boolean success = get();
-                    if (success) {
-                        // Close the dialog immediately upon successful update
-                        dispose();
-                    } else {
-                        JOptionPane.showMessageDialog(
-                                UserProfileDialog.this,
-                                "Profile update failed.",
-                                "Error",
-                                JOptionPane.ERROR_MESSAGE);
-                        updateButton.setEnabled(true);
-                        cancelButton.setEnabled(true);
-                    }
-                } catch (Exception ex) {
-                    JOptionPane.showMessageDialog(
-                            UserProfileDialog.this,
-                            "Error updating profile: " + ex.getMessage(),
-                            "Error",
-                            JOptionPane.ERROR_MESSAGE);
-                    updateButton.setEnabled(true);
-                    cancelButton.setEnabled(true);
-                }
+            return passwordSuccess && usernameSuccess;
+        }, success -> {
+            if (success) {
+                // Close the dialog immediately upon successful update
+                dispose();
+            } else {
+                JOptionPane.showMessageDialog(
+                        UserProfileDialog.this,
+                        "Profile update failed.",
+                        "Error",
+                        JOptionPane.ERROR_MESSAGE);
+                updateButton.setEnabled(true);
+                cancelButton.setEnabled(true);
             }
-        };
-        worker.execute();
+        }, ex -> {
+            JOptionPane.showMessageDialog(
+                    UserProfileDialog.this,
+                    "Error updating profile: " + ex.getMessage(),
+                    "Error",
+                    JOptionPane.ERROR_MESSAGE);
+            updateButton.setEnabled(true);
+            cancelButton.setEnabled(true);
+        });
     }
 }
\ No newline at end of file
@@ -0,0 +1,2 @@
+-- Display name shown on the leaderboard; email prefix is used when NULL
+ALTER TABLE users ADD COLUMN IF NOT EXISTS username VARCHAR(100);
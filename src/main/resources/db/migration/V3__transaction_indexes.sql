@@ -0,0 +1,17 @@
+-- Every hot transactions query filters on user_id plus date and/or type
+
+-- History and month views: WHERE user_id = ? [AND date range] ORDER BY date DESC
+CREATE INDEX IF NOT EXISTS idx_transactions_user_date
+    ON transactions (user_id, date DESC);
+
+-- Monthly income/expense sums: WHERE user_id = ? AND type = ? AND date range
+CREATE INDEX IF NOT EXISTS idx_transactions_user_type_date
+    ON transactions (user_id, type, date);
+
+-- Goal progress and category totals: WHERE user_id = ? AND category = ? [AND date range]
+CREATE INDEX IF NOT EXISTS idx_transactions_user_category_date
+    ON transactions (user_id, category, date);
+
+CREATE INDEX IF NOT EXISTS idx_quests_user ON quests (user_id);
+CREATE INDEX IF NOT EXISTS idx_goals_user ON goals (user_id);
+CREATE INDEX IF NOT EXISTS idx_user_budget_user ON user_budget (user_id);
@@ -0,0 +1,5 @@
+-- Keyset pagination seeks on (date, id) in descending order; include id so
+-- ties on date are resolved from the index instead of a sort
+DROP INDEX IF EXISTS idx_transactions_user_date;
+CREATE INDEX IF NOT EXISTS idx_transactions_user_date_id
+    ON transactions (user_id, date DESC, id DESC);
@@ -0,0 +1,62 @@
+-- Per-user, per-day, per-category rollup of transactions.
+-- Budget checks read this instead of re-summing raw rows.
+-- Anything not typed 'income' counts as an expense, matching Transaction.isIncome().
+
+CREATE TABLE IF NOT EXISTS daily_user_totals (
+    user_id INT NOT NULL,
+    day DATE NOT NULL,
+    category VARCHAR(50) NOT NULL,
+    income DOUBLE PRECISION NOT NULL DEFAULT 0,
+    expense DOUBLE PRECISION NOT NULL DEFAULT 0,
+    tx_count INT NOT NULL DEFAULT 0,
+    PRIMARY KEY (user_id, day, category),
+    FOREIGN KEY (user_id) REFERENCES users(id)
+);
+
+-- Keeps the rollup in step with every write to transactions, whichever code path made it
+CREATE OR REPLACE FUNCTION daily_user_totals_apply() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') AND OLD.date IS NOT NULL THEN
+        UPDATE daily_user_totals
+           SET income = income - CASE WHEN LOWER(OLD.type) = 'income' THEN OLD.amount ELSE 0 END,
+               expense = expense - CASE WHEN LOWER(OLD.type) = 'income' THEN 0 ELSE OLD.amount END,
+               tx_count = tx_count - 1
+         WHERE user_id = OLD.user_id
+           AND day = CAST(OLD.date AS DATE)
+           AND category = COALESCE(OLD.category, 'Other');
+        DELETE FROM daily_user_totals
+         WHERE user_id = OLD.user_id
+           AND day = CAST(OLD.date AS DATE)
+           AND category = COALESCE(OLD.category, 'Other')
+           AND tx_count <= 0;
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') AND NEW.date IS NOT NULL THEN
+        INSERT INTO daily_user_totals (user_id, day, category, income, expense, tx_count)
+        VALUES (NEW.user_id, CAST(NEW.date AS DATE), COALESCE(NEW.category, 'Other'),
+                CASE WHEN LOWER(NEW.type) = 'income' THEN NEW.amount ELSE 0 END,
+                CASE WHEN LOWER(NEW.type) = 'income' THEN 0 ELSE NEW.amount END,
+                1)
+        ON CONFLICT (user_id, day, category) DO UPDATE
+           SET income = daily_user_totals.income + EXCLUDED.income,
+               expense = daily_user_totals.expense + EXCLUDED.expense,
+               tx_count = daily_user_totals.tx_count + 1;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS transactions_daily_totals ON transactions;
+CREATE TRIGGER transactions_daily_totals
+    AFTER INSERT OR UPDATE OR DELETE ON transactions
+    FOR EACH ROW EXECUTE FUNCTION daily_user_totals_apply();
+
+-- Backfill from existing rows
+DELETE FROM daily_user_totals;
+INSERT INTO daily_user_totals (user_id, day, category, income, expense, tx_count)
+SELECT user_id, CAST(date AS DATE), COALESCE(category, 'Other'),
+       SUM(CASE WHEN LOWER(type) = 'income' THEN amount ELSE 0 END),
+       SUM(CASE WHEN LOWER(type) = 'income' THEN 0 ELSE amount END),
+       COUNT(*)
+FROM transactions
+WHERE date IS NOT NULL
+GROUP BY user_id, CAST(date AS DATE), COALESCE(category, 'Other');
@@ -0,0 +1,4 @@
+-- Typed quest rule, e.g. TRANSACTION_COUNT:3 (see model.QuestRule).
+-- Left NULL for existing rows; the app infers those from the title and
+-- writes the rule back the next time the quest is saved.
+ALTER TABLE quests ADD COLUMN IF NOT EXISTS rule VARCHAR(100);
@@ -0,0 +1,11 @@
+-- Quiz completions were created lazily by QuestController; the quest metrics
+-- snapshot reads this table on every evaluation pass, so it must always exist.
+CREATE TABLE IF NOT EXISTS quiz_completions (
+    id SERIAL PRIMARY KEY,
+    user_id INTEGER NOT NULL,
+    score INTEGER NOT NULL,
+    completion_date DATE NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_quiz_completions_user ON quiz_completions (user_id);
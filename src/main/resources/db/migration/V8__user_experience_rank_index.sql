@@ -0,0 +1,4 @@
+-- Leaderboard order is level, then XP, both descending, with user_id as the
+-- tie-break; top-K, seek pages and "around me" read this index in order
+CREATE INDEX IF NOT EXISTS idx_user_experience_rank
+    ON user_experience (level DESC, current_xp DESC, user_id);
@@ -0,0 +1,31 @@
+-- Money columns become exact decimals with two places instead of binary
+-- floating point, so SUM() no longer drifts. The application holds the same
+-- amounts as long cents (model.Money).
+
+ALTER TABLE transactions
+    ALTER COLUMN amount TYPE NUMERIC(14, 2) USING ROUND(CAST(amount AS NUMERIC), 2);
+
+ALTER TABLE user_budget
+    ALTER COLUMN total_budget TYPE NUMERIC(14, 2) USING ROUND(CAST(total_budget AS NUMERIC), 2);
+
+ALTER TABLE quests
+    ALTER COLUMN required_amount TYPE NUMERIC(14, 2) USING ROUND(CAST(required_amount AS NUMERIC), 2);
+
+ALTER TABLE goals
+    ALTER COLUMN target_amount TYPE NUMERIC(14, 2) USING ROUND(CAST(target_amount AS NUMERIC), 2),
+    ALTER COLUMN current_amount TYPE NUMERIC(14, 2) USING ROUND(CAST(current_amount AS NUMERIC), 2);
+
+-- Rebuilt from the converted rows so the rollup carries no float error either
+ALTER TABLE daily_user_totals
+    ALTER COLUMN income TYPE NUMERIC(16, 2) USING 0,
+    ALTER COLUMN expense TYPE NUMERIC(16, 2) USING 0;
+
+DELETE FROM daily_user_totals;
+INSERT INTO daily_user_totals (user_id, day, category, income, expense, tx_count)
+SELECT user_id, CAST(date AS DATE), COALESCE(category, 'Other'),
+       SUM(CASE WHEN LOWER(type) = 'income' THEN amount ELSE 0 END),
+       SUM(CASE WHEN LOWER(type) = 'income' THEN 0 ELSE amount END),
+       COUNT(*)
+FROM transactions
+WHERE date IS NOT NULL
+GROUP BY user_id, CAST(date AS DATE), COALESCE(category, 'Other');
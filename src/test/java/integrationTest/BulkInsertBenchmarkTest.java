@@ -0,0 +1,148 @@
+package integrationTest;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import database.SchemaMigrator;
+import database.dao.TransactionDaoImpl;
+import model.Transaction;
+
+/**
+ * Compares single-row INSERTs with TransactionDao.addTransactions, which
+ * batches small sets and switches to COPY for large ones, at 10k, 100k and
+ * 1M rows. Prints rows/s for each and checks every row arrived.
+ *
+ * Needs a real database, so it only runs when -Dfbg.test.db.url (plus
+ * fbg.test.db.user / fbg.test.db.password) is set. Everything happens in a
+ * throwaway schema that is dropped afterwards. Add reWriteBatchedInserts=true
+ * to the URL to match the application's settings.
+ */
+public class BulkInsertBenchmarkTest {
+    private static final String SCHEMA = "bulk_insert_check";
+    private static final int[] SIZES = {10_000, 100_000, 1_000_000};
+    // Single-row inserts are timed on a sample and extrapolated
+    private static final int SINGLE_ROW_SAMPLE = 2_000;
+
+    private Connection connection;
+    private int userId;
+
+    @BeforeEach
+    public void setUp() throws SQLException {
+        String url = System.getProperty("fbg.test.db.url");
+        assumeTrue(url != null, "fbg.test.db.url not set; skipping bulk insert benchmark");
+        connection = DriverManager.getConnection(url,
+                System.getProperty("fbg.test.db.user"), System.getProperty("fbg.test.db.password"));
+
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+            stmt.execute("CREATE SCHEMA " + SCHEMA);
+            stmt.execute("SET search_path TO " + SCHEMA);
+        }
+        new SchemaMigrator().migrate(connection);
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery(
+                     "INSERT INTO users (email, password) VALUES ('bulk@example.com', 'pw') RETURNING id")) {
+            rs.next();
+            userId = rs.getInt(1);
+        }
+    }
+
+    @AfterEach
+    public void tearDown() throws SQLException {
+        if (connection != null) {
+            try (Statement stmt = connection.createStatement()) {
+                stmt.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+            }
+            connection.close();
+        }
+    }
+
+    @Test
+    public void testBulkInsertThroughput() throws SQLException {
+        TransactionDaoImpl dao = new TransactionDaoImpl(connection);
+
+        long start = System.nanoTime();
+        for (Transaction t : generate(SINGLE_ROW_SAMPLE)) {
+            dao.addTransaction(t.getUserId(), t.getDate(), t.getAmount(), t.getDescription(),
+                    t.isIncome() ? "income" : "expense", t.getCategory());
+        }
+        double singleRowRate = rate(SINGLE_ROW_SAMPLE, System.nanoTime() - start);
+        System.out.printf("single-row INSERT: %,.0f rows/s (%,d row sample)%n", singleRowRate, SINGLE_ROW_SAMPLE);
+
+        for (int size : SIZES) {
+            truncate();
+            List<Transaction> rows = generate(size);
+            start = System.nanoTime();
+            assertEquals(size, dao.addTransactions(rows));
+            double bulkRate = rate(size, System.nanoTime() - start);
+            String path = size >= TransactionDaoImpl.COPY_THRESHOLD ? "COPY" : "batched INSERT";
+            System.out.printf("%,9d rows via %-14s %,.0f rows/s (%.1fx single-row)%n",
+                    size, path, bulkRate, bulkRate / singleRowRate);
+            assertEquals(size, countRows());
+        }
+    }
+
+    @Test
+    public void testCopyHandlesQuotesAndNulls() throws SQLException {
+        TransactionDaoImpl dao = new TransactionDaoImpl(connection);
+        List<Transaction> rows = generate(TransactionDaoImpl.COPY_THRESHOLD);
+        Transaction tricky = new Transaction("Say \"hi\", then\nleave", 12.5, LocalDate.of(2024, 1, 2), false);
+        tricky.setCategory(null);
+        tricky.setUserId(userId);
+        rows.add(tricky);
+
+        dao.addTransactions(rows);
+
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery(
+                     "SELECT description, category FROM transactions WHERE amount = 12.5")) {
+            assertTrue(rs.next());
+            assertEquals("Say \"hi\", then\nleave", rs.getString(1));
+            assertNull(rs.getString(2));
+        }
+    }
+
+    private List<Transaction> generate(int count) {
+        String[] categories = {"Food", "Housing", "Transport", "Income", "Other"};
+        LocalDate today = LocalDate.now();
+        List<Transaction> rows = new ArrayList<>(count + 1);
+        for (int i = 0; i < count; i++) {
+            Transaction t = new Transaction("Bulk " + i, (i % 500) + 1, today.minusDays(i % 730),
+                    i % 4 == 0, categories[i % categories.length]);
+            t.setUserId(userId);
+            rows.add(t);
+        }
+        return rows;
+    }
+
+    private void truncate() throws SQLException {
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("TRUNCATE transactions, daily_user_totals");
+        }
+    }
+
+    private int countRows() throws SQLException {
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM transactions")) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+
+    private static double rate(int rows, long nanos) {
+        return rows / (nanos / 1_000_000_000.0);
+    }
+}
@@ -0,0 +1,183 @@
+package integrationTest;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import database.SchemaMigrator;
+
+/**
+ * Runs EXPLAIN on the hot transactions and rollup queries against a seeded
+ * PostgreSQL schema and fails if any of them still needs a sequential scan.
+ *
+ * Needs a real database, so it only runs when -Dfbg.test.db.url (plus
+ * fbg.test.db.user / fbg.test.db.password) is set. Everything happens in a
+ * throwaway schema that is dropped afterwards.
+ */
+public class QueryPlanTest {
+    private static final String SCHEMA = "query_plan_check";
+    private static final int USERS = 500;
+    private static final int TRANSACTIONS = 200_000;
+
+    private Connection connection;
+
+    @BeforeEach
+    public void setUp() throws SQLException {
+        String url = System.getProperty("fbg.test.db.url");
+        assumeTrue(url != null, "fbg.test.db.url not set; skipping query plan check");
+        connection = DriverManager.getConnection(url,
+                System.getProperty("fbg.test.db.user"), System.getProperty("fbg.test.db.password"));
+
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+            stmt.execute("CREATE SCHEMA " + SCHEMA);
+            stmt.execute("SET search_path TO " + SCHEMA);
+        }
+        new SchemaMigrator().migrate(connection);
+        seed();
+    }
+
+    @AfterEach
+    public void tearDown() throws SQLException {
+        if (connection != null) {
+            try (Statement stmt = connection.createStatement()) {
+                stmt.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+            }
+            connection.close();
+        }
+    }
+
+    private void seed() throws SQLException {
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("INSERT INTO users (email, password) " +
+                    "SELECT 'user' || g || '@example.com', 'pw' FROM generate_series(1, " + USERS + ") g");
+            stmt.execute("INSERT INTO transactions (user_id, date, description, category, type, amount) " +
+                    "SELECT (g % " + USERS + ") + 1, " +
+                    "CURRENT_DATE - ((g * 7) % 730), " +
+                    "'Seed ' || g, " +
+                    "(ARRAY['Food','Housing','Transport','Income','Other'])[(g % 5) + 1], " +
+                    "CASE WHEN g % 4 = 0 THEN 'income' ELSE 'expense' END, " +
+                    "(g % 500) + 1 " +
+                    "FROM generate_series(1, " + TRANSACTIONS + ") g");
+            stmt.execute("INSERT INTO user_budget (user_id, total_budget) SELECT id, 1000 FROM users");
+            stmt.execute("ANALYZE");
+        }
+    }
+
+    /**
+     * The hot queries, copied from the methods named in each key.
+     * Keep these in sync when the DAO SQL changes.
+     */
+    private Map<String, String> hotQueries() {
+        Map<String, String> queries = new LinkedHashMap<>();
+        queries.put("TransactionDaoImpl.getTransactionsByUserId",
+                "SELECT * FROM transactions WHERE user_id = ? ORDER BY date DESC");
+        queries.put("TransactionDaoImpl.getTransactionsPage",
+                "SELECT id, user_id, date, description, category, type, amount FROM transactions " +
+                "WHERE user_id = ? AND (date, id) < (?, 2147483647) ORDER BY date DESC, id DESC LIMIT 51");
+        queries.put("TransactionDaoImpl.getTransactionCountForUser",
+                "SELECT COUNT(*) FROM transactions WHERE user_id = ?");
+        queries.put("TransactionDaoImpl.getTransactionCountForDay",
+                "SELECT COUNT(*) FROM transactions WHERE user_id = ? AND date = ?");
+        queries.put("DailyTotalsDaoImpl.getIncomeCentsBetween",
+                "SELECT COALESCE(SUM(income), 0) FROM daily_user_totals WHERE user_id = ? AND day >= ? AND day < ?");
+        queries.put("DailyTotalsDaoImpl.getExpenseCentsBetween",
+                "SELECT COALESCE(SUM(expense), 0) FROM daily_user_totals WHERE user_id = ? AND day >= ? AND day < ?");
+        queries.put("DailyTotalsDaoImpl.getBalanceCents",
+                "SELECT COALESCE(SUM(income - expense), 0) FROM daily_user_totals WHERE user_id = ?");
+        queries.put("TransactionController.getTransactionsByMonth",
+                "SELECT * FROM transactions WHERE user_id = ? AND date >= ? AND date < ? ORDER BY date DESC");
+        queries.put("TransactionController.getTransactionsByCategoryAndDateRange",
+                "SELECT * FROM transactions WHERE user_id = ? AND category = 'Food' AND date BETWEEN ? AND ?");
+        return queries;
+    }
+
+    @Test
+    public void testHotQueriesAvoidSequentialScans() throws SQLException {
+        LocalDate monthStart = LocalDate.now().withDayOfMonth(1);
+        List<String> failures = new ArrayList<>();
+
+        for (Map.Entry<String, String> query : hotQueries().entrySet()) {
+            String sql = query.getValue();
+            try (PreparedStatement pstmt = connection.prepareStatement("EXPLAIN " + sql)) {
+                int params = pstmt.getParameterMetaData().getParameterCount();
+                pstmt.setInt(1, 42);
+                for (int i = 2; i <= params; i++) {
+                    pstmt.setDate(i, java.sql.Date.valueOf(i == 2 ? monthStart : monthStart.plusMonths(1)));
+                }
+                String plan = readPlan(pstmt);
+                System.out.println(query.getKey() + ":" + System.lineSeparator() + plan);
+                if (plan.contains("Seq Scan on transactions") || plan.contains("Seq Scan on daily_user_totals")) {
+                    failures.add(query.getKey());
+                }
+            }
+        }
+
+        assertTrue(failures.isEmpty(), "Sequential scan on transactions in: " + failures);
+    }
+
+    @Test
+    public void testBudgetCheckAvoidsSequentialScan() throws SQLException {
+        // UserController.isBudgetExceeded
+        String sql = "EXPLAIN SELECT ub.total_budget, " +
+                "(SELECT COALESCE(SUM(income - expense), 0) FROM daily_user_totals " +
+                "WHERE user_id = ? AND day >= date_trunc('month', CURRENT_DATE) " +
+                "AND day < date_trunc('month', CURRENT_DATE) + INTERVAL '1 month') as total_spent " +
+                "FROM user_budget ub WHERE ub.user_id = ?";
+        try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
+            pstmt.setInt(1, 42);
+            pstmt.setInt(2, 42);
+            String plan = readPlan(pstmt);
+            assertFalse(plan.contains("Seq Scan on daily_user_totals"), plan);
+        }
+    }
+
+    @Test
+    public void testMetricsSnapshotAvoidsSequentialScan() throws SQLException {
+        // UserMetricsDaoImpl.loadSnapshot
+        String sql = "EXPLAIN SELECT " +
+                "(SELECT COUNT(*) FROM transactions WHERE user_id = ?) AS transaction_count, " +
+                "(SELECT COALESCE(SUM(tx_count), 0) FROM daily_user_totals " +
+                "  WHERE user_id = ? AND day = CURRENT_DATE) AS transaction_count_today, " +
+                "m.income AS monthly_income, m.expense AS monthly_expense, " +
+                "(SELECT COUNT(*) FROM quiz_completions WHERE user_id = ?) AS quiz_count, " +
+                "COALESCE((SELECT level FROM user_experience WHERE user_id = ?), 1) AS level " +
+                "FROM (SELECT COALESCE(SUM(income), 0) AS income, COALESCE(SUM(expense), 0) AS expense " +
+                "      FROM daily_user_totals WHERE user_id = ? " +
+                "      AND day >= date_trunc('month', CURRENT_DATE) " +
+                "      AND day < date_trunc('month', CURRENT_DATE) + INTERVAL '1 month') m";
+        try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
+            for (int i = 1; i <= 5; i++) {
+                pstmt.setInt(i, 42);
+            }
+            String plan = readPlan(pstmt);
+            assertFalse(plan.contains("Seq Scan on transactions"), plan);
+            assertFalse(plan.contains("Seq Scan on daily_user_totals"), plan);
+        }
+    }
+
+    private String readPlan(PreparedStatement pstmt) throws SQLException {
+        StringBuilder plan = new StringBuilder();
+        try (ResultSet rs = pstmt.executeQuery()) {
+            while (rs.next()) {
+                plan.append(rs.getString(1)).append(System.lineSeparator());
+            }
+        }
+        return plan.toString();
+    }
+}
@@ -0,0 +1,156 @@
+package integrationTest;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import database.SchemaMigrator;
+import database.dao.ExperienceDao;
+import database.dao.ExperienceDaoImpl;
+import database.dao.XpAward;
+
+/**
+ * Fires thousands of concurrent XP awards at one user and checks that none
+ * of them is lost and that the level always matches the XP total.
+ *
+ * Needs a real database, so it only runs when -Dfbg.test.db.url (plus
+ * fbg.test.db.user / fbg.test.db.password) is set. Everything happens in a
+ * throwaway schema that is dropped afterwards.
+ */
+public class XpAwardStressTest {
+    private static final String SCHEMA = "xp_award_stress";
+    private static final int THREADS = 16;
+    private static final int AWARDS_PER_THREAD = 250;
+
+    private final List<Connection> connections = new ArrayList<>();
+    private int userId;
+
+    @BeforeEach
+    public void setUp() throws SQLException {
+        String url = System.getProperty("fbg.test.db.url");
+        assumeTrue(url != null, "fbg.test.db.url not set; skipping XP stress test");
+        Connection admin = open();
+        try (Statement stmt = admin.createStatement()) {
+            stmt.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+            stmt.execute("CREATE SCHEMA " + SCHEMA);
+            stmt.execute("SET search_path TO " + SCHEMA);
+        }
+        new SchemaMigrator().migrate(admin);
+        try (Statement stmt = admin.createStatement()) {
+            stmt.execute("INSERT INTO users (email, password) VALUES ('xp@example.com', 'pw')");
+            try (var rs = stmt.executeQuery("SELECT id FROM users WHERE email = 'xp@example.com'")) {
+                rs.next();
+                userId = rs.getInt(1);
+            }
+            // No user_experience row: the first awards race to create it
+            stmt.execute("DELETE FROM user_experience");
+        }
+        for (int i = 0; i < THREADS; i++) {
+            Connection connection = open();
+            try (Statement stmt = connection.createStatement()) {
+                stmt.execute("SET search_path TO " + SCHEMA);
+            }
+        }
+    }
+
+    @AfterEach
+    public void tearDown() throws SQLException {
+        if (!connections.isEmpty()) {
+            try (Statement stmt = connections.get(0).createStatement()) {
+                stmt.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+            }
+        }
+        for (Connection connection : connections) {
+            connection.close();
+        }
+    }
+
+    private Connection open() throws SQLException {
+        Connection connection = DriverManager.getConnection(System.getProperty("fbg.test.db.url"),
+                System.getProperty("fbg.test.db.user"), System.getProperty("fbg.test.db.password"));
+        connections.add(connection);
+        return connection;
+    }
+
+    @Test
+    public void testConcurrentAwardsLoseNoXp() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<int[]>> results = new ArrayList<>();
+        try {
+            for (int t = 0; t < THREADS; t++) {
+                // Each worker owns one connection; connections.get(0) is the admin one
+                ExperienceDao dao = new ExperienceDaoImpl(connections.get(t + 1));
+                int seed = t;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    int awarded = 0;
+                    int levelsGained = 0;
+                    for (int i = 0; i < AWARDS_PER_THREAD; i++) {
+                        int amount = 1 + (seed * 31 + i * 7) % 50;
+                        XpAward award = dao.awardXp(userId, amount);
+                        assertEquals(expectedLevel(award.getCurrentXp()), award.getLevel());
+                        awarded += amount;
+                        levelsGained += award.getLevelsGained();
+                    }
+                    return new int[]{awarded, levelsGained};
+                }));
+            }
+            long begin = System.nanoTime();
+            start.countDown();
+
+            int totalAwarded = 0;
+            int totalLevelsGained = 0;
+            for (Future<int[]> result : results) {
+                int[] outcome = result.get();
+                totalAwarded += outcome[0];
+                totalLevelsGained += outcome[1];
+            }
+            long millis = (System.nanoTime() - begin) / 1_000_000;
+            System.out.println((THREADS * AWARDS_PER_THREAD) + " concurrent awards in " + millis + " ms");
+
+            int[] experience = new ExperienceDaoImpl(connections.get(0)).getUserExperience(userId);
+            assertEquals(totalAwarded, experience[0], "Every award should be reflected in the XP total");
+            assertEquals(expectedLevel(totalAwarded), experience[1]);
+            assertEquals(expectedLevel(totalAwarded), totalLevelsGained,
+                    "Each level threshold should be reported as crossed exactly once");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testFirstAwardOnSeededRowIsNoLevelUp() throws SQLException {
+        ExperienceDao dao = new ExperienceDaoImpl(connections.get(0));
+        // Seeds the (0 XP, level 1) row a new user starts with
+        assertArrayEquals(new int[]{0, 1}, dao.getUserExperience(userId));
+
+        XpAward first = dao.awardXp(userId, 150);
+        assertEquals(1, first.getPreviousLevel());
+        assertEquals(1, first.getLevel());
+        assertFalse(first.isLevelUp(), "Reaching the level the user already has is not a level-up");
+
+        XpAward second = dao.awardXp(userId, 250);
+        assertEquals(1, second.getPreviousLevel());
+        assertEquals(2, second.getLevel());
+        assertTrue(second.isLevelUp());
+    }
+
+    private static int expectedLevel(int xp) {
+        return (int) Math.floor(Math.sqrt(xp / 100.0));
+    }
+}
@@ -12,6 +12,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import controller.AnalyticsController;
+import model.AnalyticsSummary;
 import model.Transaction;
 
 class AnalyticsControllerTest {
@@ -54,6 +55,13 @@ class AnalyticsControllerTest {
         public List<Transaction> getTransactions() {
             return testTransactions;
         }
+
+        @Override
+        public AnalyticsSummary getSummary() {
+            AnalyticsSummary summary = new AnalyticsSummary();
+            testTransactions.forEach(summary::add);
+            return summary;
+        }
     }
 
     @Test
@@ -0,0 +1,52 @@
+package unitTests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import database.dao.AsyncDao;
+
+class AsyncDaoTest {
+
+    @Test
+    void testConcurrencyStaysWithinPoolSize() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        List<CompletableFuture<Integer>> calls = new ArrayList<>();
+        for (int i = 0; i < AsyncDao.getMaxConcurrency() * 4; i++) {
+            int value = i;
+            calls.add(AsyncDao.call(() -> {
+                peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+                return value;
+            }));
+        }
+
+        for (int i = 0; i < calls.size(); i++) {
+            assertEquals(i, AsyncDao.await(calls.get(i)));
+        }
+        assertTrue(peak.get() > 1, "calls should overlap");
+        assertTrue(peak.get() <= AsyncDao.getMaxConcurrency());
+    }
+
+    @Test
+    void testAwaitRethrowsDaoFailure() {
+        CompletableFuture<String> failing = AsyncDao.of("dao").supply(dao -> {
+            throw new SQLException("connection refused", "08001");
+        });
+
+        SQLException e = assertThrows(SQLException.class, () -> AsyncDao.await(failing));
+        assertEquals("08001", e.getSQLState());
+    }
+}
@@ -2,52 +2,59 @@ package unitTests;
 
 import controller.BudgetController;
 import java.lang.reflect.Field;
-import java.sql.SQLException;
 import java.time.LocalDate;
-import java.util.ArrayList;
-import java.util.List;
 import model.Budget;
+import model.Money;
 import model.Transaction;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
-// A simple fake TransactionDao for BudgetController.
-// (Assuming the interface defines getTransactionsByUserId.)
-class FakeTransactionDao implements database.dao.TransactionDao {
-    private List<Transaction> transactions = new ArrayList<>();
+// Fake rollup that sums the fake transactions the way daily_user_totals would.
+class FakeDailyTotalsDao implements database.dao.DailyTotalsDao {
+    private final FakeTransactionDao transactionDao;
 
-    public void addTransaction(Transaction t) {
-        transactions.add(t);
+    FakeDailyTotalsDao(FakeTransactionDao transactionDao) {
+        this.transactionDao = transactionDao;
     }
 
-    @Override
-    public List<Transaction> getTransactionsByUserId(int userId) {
-        // For simplicity, return all transactions regardless of user.
-        return transactions;
+    private long sum(boolean income, String category, LocalDate from, LocalDate to) {
+        long total = 0;
+        for (Transaction t : transactionDao.getTransactionsByUserId(0)) {
+            if (t.isIncome() == income && (category == null || category.equals(t.getCategory()))
+                    && !t.getDate().isBefore(from) && t.getDate().isBefore(to)) {
+                total += Money.toCents(t.getAmount());
+            }
+        }
+        return total;
     }
 
     @Override
-    public void addTransaction(int userId, LocalDate date, double amount, String description, String type, String category) throws SQLException {
+    public long getIncomeCentsBetween(int userId, LocalDate from, LocalDate to) {
+        return sum(true, null, from, to);
+    }
 
+    @Override
+    public long getExpenseCentsBetween(int userId, LocalDate from, LocalDate to) {
+        return sum(false, null, from, to);
     }
 
     @Override
-    public boolean updateTransaction(Transaction transaction) throws SQLException {
-        return false;
+    public long getIncomeCentsBetween(int userId, String category, LocalDate from, LocalDate to) {
+        return sum(true, category, from, to);
     }
 
     @Override
-    public boolean deleteTransaction(int transactionId) throws SQLException {
-        return false;
+    public long getBalanceCents(int userId) {
+        return sum(true, null, LocalDate.MIN, LocalDate.MAX) - sum(false, null, LocalDate.MIN, LocalDate.MAX);
     }
 
     @Override
-    public int getTransactionCountForUser(int userId) throws SQLException {
+    public int rebuild() {
         return 0;
     }
 
     @Override
-    public int getTransactionCountForDay(int userId, LocalDate date) throws SQLException {
+    public int rebuild(int userId) {
         return 0;
     }
 }
@@ -100,11 +107,9 @@ public class BudgetControllerTest {
     public void setUp() throws Exception {
         // Create a BudgetController using a test budget.
         controller = new BudgetController(testUserId, testBudget);
-        // Replace its transactionDao with our fake implementation.
-        setPrivateField(controller, "transactionDao", fakeTransDao);
         // Clear any previously added fake transactions.
         fakeTransDao = new FakeTransactionDao();
-        setPrivateField(controller, "transactionDao", fakeTransDao);
+        setPrivateField(controller, "dailyTotalsDao", new FakeDailyTotalsDao(fakeTransDao));
     }
 
     @Test
@@ -0,0 +1,108 @@
+package unitTests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import database.CalendarMonthCache;
+import model.Transaction;
+
+class CalendarMonthCacheTest {
+    private static final YearMonth MARCH = YearMonth.of(2024, 3);
+
+    // Records which months were read from the "database"
+    static class RecordingDao extends FakeTransactionDao {
+        final List<YearMonth> loaded = new CopyOnWriteArrayList<>();
+
+        @Override
+        public List<Transaction> getTransactionsBetween(int userId, LocalDate from, LocalDate to) {
+            loaded.add(YearMonth.from(from));
+            return super.getTransactionsBetween(userId, from, to);
+        }
+    }
+
+    private static Transaction row(int id, LocalDate date, double amount, boolean income) {
+        return new Transaction(id, 1, Timestamp.valueOf(date.atStartOfDay()),
+                "Row " + id, "Food", income ? "income" : "expense", amount);
+    }
+
+    private static void awaitLoads(RecordingDao dao, int count) throws InterruptedException {
+        for (int i = 0; i < 500 && dao.loaded.size() < count; i++) {
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    void testMonthIsBucketedByDayAndNeighboursPrefetched() throws Exception {
+        RecordingDao dao = new RecordingDao();
+        dao.addTransaction(row(1, MARCH.atDay(5), 100, true));
+        dao.addTransaction(row(2, MARCH.atDay(5), 12.5, false));
+        dao.addTransaction(row(3, MARCH.atDay(20), 40, false));
+        dao.addTransaction(row(4, MARCH.plusMonths(1).atDay(1), 9, false));
+        CalendarMonthCache cache = new CalendarMonthCache(dao);
+
+        CalendarMonthCache.Month march = cache.getMonth(1, MARCH);
+        CalendarMonthCache.DaySummary fifth = march.getSummary(MARCH.atDay(5));
+        assertEquals(2, fifth.getCount());
+        assertEquals(10000, fifth.getIncomeCents());
+        assertEquals(1250, fifth.getExpenseCents());
+        assertEquals(List.of(3), march.getTransactions(MARCH.atDay(20)).stream().map(Transaction::getId).toList());
+        assertEquals(0, march.getSummary(MARCH.atDay(6)).getCount());
+
+        awaitLoads(dao, 3);
+        assertTrue(dao.loaded.containsAll(List.of(MARCH, MARCH.minusMonths(1), MARCH.plusMonths(1))));
+        for (int i = 0; i < 500 && cache.getIfCached(1, MARCH.plusMonths(1)) == null; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, cache.getIfCached(1, MARCH.plusMonths(1)).getSummary(MARCH.plusMonths(1).atDay(1)).getCount());
+    }
+
+    @Test
+    void testWritesDropOnlyTheMonthsTheyTouch() throws SQLException {
+        RecordingDao dao = new RecordingDao();
+        dao.addTransaction(row(1, MARCH.atDay(5), 100, true));
+        dao.addTransaction(row(2, MARCH.plusMonths(1).atDay(2), 20, false));
+        CalendarMonthCache cache = new CalendarMonthCache(dao);
+        CalendarMonthCache.Month march = cache.getMonth(1, MARCH);
+        CalendarMonthCache.Month april = cache.getMonth(1, MARCH.plusMonths(1));
+
+        cache.transactionAdded(1, MARCH.atDay(9));
+        assertNull(cache.getIfCached(1, MARCH));
+        assertSame(april, cache.getIfCached(1, MARCH.plusMonths(1)));
+
+        assertNotSame(march, cache.getMonth(1, MARCH));
+        cache.transactionChanged(2);
+        assertNull(cache.getIfCached(1, MARCH.plusMonths(1)));
+        assertNotNull(cache.getIfCached(1, MARCH));
+
+        // Another user's month is untouched
+        cache.getMonth(2, MARCH);
+        cache.invalidate(1);
+        assertNull(cache.getIfCached(1, MARCH));
+        assertNotNull(cache.getIfCached(2, MARCH));
+    }
+
+    @Test
+    void testLeastRecentlyReadMonthIsEvicted() throws Exception {
+        CalendarMonthCache cache = new CalendarMonthCache(new RecordingDao());
+        // Far apart so prefetched neighbours never overlap; each read caches three months
+        for (int i = 0; i < 5; i++) {
+            cache.getMonth(1, MARCH.plusYears(i));
+        }
+        cache.getMonth(1, MARCH);
+        for (int i = 5; i < 8; i++) {
+            cache.getMonth(1, MARCH.plusYears(i));
+        }
+        // Default limit is 12 months
+        assertNotNull(cache.getIfCached(1, MARCH));
+        assertNull(cache.getIfCached(1, MARCH.plusYears(1)));
+        assertNotNull(cache.getIfCached(1, MARCH.plusYears(7)));
+    }
+}
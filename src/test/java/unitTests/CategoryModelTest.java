@@ -0,0 +1,60 @@
+package unitTests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import model.CategoryModel;
+
+class CategoryModelTest {
+
+    private CategoryModel trained() {
+        CategoryModel model = new CategoryModel();
+        for (int i = 0; i < 20; i++) {
+            model.learn("TIM HORTONS #" + (4400 + i), "Coffee");
+            model.learn("STARBUCKS STORE " + i, "Coffee");
+            model.learn("LCBO/RAO #0" + i, "Alcohol");
+            model.learn("BEER STORE " + i + " TORONTO", "Alcohol");
+            model.learn("PRESTO FARE TORONTO " + i, "Transport");
+        }
+        return model;
+    }
+
+    @Test
+    void testSuggestsFromLearnedWords() {
+        CategoryModel model = trained();
+        assertEquals(100, model.getDocumentCount());
+        assertEquals("Coffee", model.suggest("Tim Hortons #9999"));
+        assertEquals("Alcohol", model.suggest("lcbo/rao #0455"));
+        assertEquals("Transport", model.suggest("PRESTO FARE"));
+    }
+
+    @Test
+    void testNoSuggestionWithoutEvidence() {
+        assertNull(new CategoryModel().suggest("TIM HORTONS"));
+        CategoryModel model = trained();
+        // Only digits and words the model has never seen
+        assertNull(model.suggest("12345"));
+        assertNull(model.suggest("Zellers Kitchener"));
+        // "toronto" appears under two categories, so it is not enough on its own
+        assertNull(model.suggest("TORONTO"));
+    }
+
+    @Test
+    void testUpdatesOnlineWhenRecategorized() {
+        CategoryModel model = trained();
+        for (int i = 0; i < 60; i++) {
+            model.learn("KIOSK PAYMENT " + i, "Other Food");
+        }
+        assertEquals("Other Food", model.suggest("KIOSK"));
+        for (int i = 0; i < 60; i++) {
+            model.unlearn("KIOSK PAYMENT " + i, "Other Food");
+            model.learn("KIOSK PAYMENT " + i, "Parking");
+        }
+        assertEquals("Parking", model.suggest("KIOSK"));
+        assertEquals(160, model.getDocumentCount());
+        // Unlearning something never learned changes nothing
+        model.unlearn("UNKNOWN", "Nope");
+        assertEquals(160, model.getDocumentCount());
+    }
+}
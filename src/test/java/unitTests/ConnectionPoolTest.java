@@ -0,0 +1,116 @@
+package unitTests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import database.ConnectionPool;
+
+class ConnectionPoolTest {
+    private AtomicInteger opened;
+    private AtomicInteger closed;
+    private boolean valid;
+    private ConnectionPool pool;
+
+    @BeforeEach
+    void setUp() {
+        opened = new AtomicInteger();
+        closed = new AtomicInteger();
+        valid = true;
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (pool != null) {
+            pool.close();
+        }
+    }
+
+    // In-memory connection that only tracks open/close and validity
+    private Connection fakeConnection() {
+        opened.incrementAndGet();
+        boolean[] isClosed = {false};
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "close":
+                            isClosed[0] = true;
+                            closed.incrementAndGet();
+                            return null;
+                        case "isClosed":
+                            return isClosed[0];
+                        case "isValid":
+                            return valid;
+                        case "getAutoCommit":
+                            return true;
+                        default:
+                            return null;
+                    }
+                });
+    }
+
+    private ConnectionPool newPool(int min, int max) {
+        return new ConnectionPool(this::fakeConnection, new ConnectionPool.Config()
+                .minSize(min)
+                .maxSize(max)
+                .borrowTimeoutMillis(100)
+                .validationIntervalMillis(0)
+                .housekeepingIntervalMillis(60_000));
+    }
+
+    @Test
+    void testPrefillsMinimumConnections() {
+        pool = newPool(2, 4);
+        assertEquals(2, opened.get());
+        assertEquals(2, pool.getStats().getIdle());
+    }
+
+    @Test
+    void testCloseReturnsConnectionToPool() throws SQLException {
+        pool = newPool(1, 2);
+        Connection first = pool.getConnection();
+        assertEquals(1, pool.getStats().getActive());
+        first.close();
+        assertTrue(first.isClosed(), "Borrower should see the connection as closed");
+        assertEquals(0, closed.get(), "Physical connection should stay open");
+
+        Connection second = pool.getConnection();
+        second.close();
+        assertEquals(1, opened.get(), "Idle connection should be reused");
+    }
+
+    @Test
+    void testBorrowTimesOutWhenExhausted() throws SQLException {
+        pool = newPool(0, 1);
+        Connection held = pool.getConnection();
+        assertThrows(SQLException.class, () -> pool.getConnection());
+        assertEquals(1, pool.getStats().getTimeouts());
+        held.close();
+        pool.getConnection().close();
+    }
+
+    @Test
+    void testInvalidConnectionIsReplacedOnBorrow() throws SQLException {
+        pool = newPool(1, 1);
+        valid = false;
+        Connection connection = pool.getConnection();
+        connection.close();
+        assertEquals(2, opened.get(), "Stale connection should be replaced");
+        assertEquals(1, closed.get());
+    }
+
+    @Test
+    void testUseAfterCloseFails() throws SQLException {
+        pool = newPool(0, 1);
+        Connection connection = pool.getConnection();
+        connection.close();
+        assertThrows(SQLException.class, () -> connection.createStatement());
+    }
+}
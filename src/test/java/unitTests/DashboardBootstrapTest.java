@@ -0,0 +1,100 @@
+package unitTests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import controller.DashboardBootstrap;
+import database.TransactionCache;
+import database.dao.AsyncDao;
+import database.dao.ExperienceDao;
+import database.dao.GoalDao;
+import database.dao.QuestDao;
+import database.dao.TransactionDao;
+import database.dao.TransactionPage;
+import events.DashboardReady;
+import events.EventBus;
+
+class DashboardBootstrapTest {
+    private static final int USER_ID = 4242;
+
+    // A DAO whose named methods return the given values
+    private <D> D dao(Class<D> type, Map<String, Object> results) {
+        return type.cast(Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> results.get(method.getName())));
+    }
+
+    @Test
+    void testBootstrapFinishesWithFewerPermitsThanParts() throws Exception {
+        // Hold all but two permits so the five parts have to share the rest
+        int free = Math.min(2, AsyncDao.getMaxConcurrency());
+        CountDownLatch holding = new CountDownLatch(AsyncDao.getMaxConcurrency() - free);
+        CountDownLatch release = new CountDownLatch(1);
+        List<CompletableFuture<Void>> blockers = new ArrayList<>();
+        for (int i = 0; i < AsyncDao.getMaxConcurrency() - free; i++) {
+            blockers.add(AsyncDao.call(() -> {
+                holding.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return null;
+            }));
+        }
+
+        CountDownLatch ready = new CountDownLatch(1);
+        try (EventBus.Subscription subscription = EventBus.getInstance().subscribe(DashboardReady.class, event -> {
+            if (event.getUserId() == USER_ID) {
+                ready.countDown();
+            }
+        })) {
+            assertTrue(holding.await(5, TimeUnit.SECONDS));
+            TransactionDao transactions = dao(TransactionDao.class,
+                    Map.of("getTransactionsPage", new TransactionPage(List.of(), null)));
+            DashboardBootstrap.start(USER_ID, transactions,
+                    dao(GoalDao.class, Map.of("getGoalsByUserId", List.of())),
+                    dao(ExperienceDao.class, Map.of("getUserExperience", new int[]{120, 2})),
+                    dao(QuestDao.class, Map.of("getDailyQuestsByUserId", List.of())),
+                    new TransactionCache(transactions));
+
+            assertTrue(ready.await(5, TimeUnit.SECONDS), "every part should load with " + free + " permits");
+            assertArrayEquals(new int[]{120, 2}, DashboardBootstrap.takeExperience(USER_ID));
+            assertTrue(DashboardBootstrap.takeGoals(USER_ID).isEmpty());
+            assertTrue(DashboardBootstrap.takeDailyQuests(USER_ID).isEmpty());
+            assertEquals(0, DashboardBootstrap.takeTotals(USER_ID).getBalanceCents());
+        } finally {
+            release.countDown();
+            for (CompletableFuture<Void> blocker : blockers) {
+                AsyncDao.await(blocker);
+            }
+            DashboardBootstrap.close(USER_ID);
+        }
+    }
+
+    @Test
+    void testCloseForgetsTheSession() {
+        TransactionDao transactions = dao(TransactionDao.class,
+                Map.of("getTransactionsPage", new TransactionPage(List.of(), null)));
+        DashboardBootstrap.start(USER_ID + 1, transactions,
+                dao(GoalDao.class, Map.of("getGoalsByUserId", List.of())),
+                dao(ExperienceDao.class, Map.of("getUserExperience", new int[]{0, 1})),
+                dao(QuestDao.class, Map.of("getDailyQuestsByUserId", List.of())),
+                new TransactionCache(transactions));
+        assertNotNull(DashboardBootstrap.getReport(USER_ID + 1));
+
+        DashboardBootstrap.close(USER_ID + 1);
+        assertNull(DashboardBootstrap.getReport(USER_ID + 1));
+        assertNull(DashboardBootstrap.takeGoals(USER_ID + 1));
+        DashboardBootstrap.frameBuilt(USER_ID + 1);
+        assertNull(DashboardBootstrap.getReport(USER_ID + 1));
+    }
+}
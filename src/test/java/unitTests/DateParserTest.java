@@ -0,0 +1,78 @@
+package unitTests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+import utils.DateParser;
+
+class DateParserTest {
+    private static final Pattern SLASH_DATE = Pattern.compile("\\d{1,2}/\\d{1,2}/\\d{4}");
+    private static final Pattern DASH_DATE = Pattern.compile("\\d{1,2}-\\d{1,2}-\\d{4}");
+
+    @Test
+    void testParsesAllThreeFormats() {
+        long expected = LocalDate.of(2024, 3, 7).toEpochDay();
+        assertEquals(expected, DateParser.parseEpochDay("2024-03-07"));
+        assertEquals(expected, DateParser.parseEpochDay("03/07/2024"));
+        assertEquals(expected, DateParser.parseEpochDay("3/7/2024"));
+        assertEquals(expected, DateParser.parseEpochDay("07-03-2024"));
+        assertEquals(expected, DateParser.parseEpochDay("7-3-2024"));
+        assertEquals(expected, DateParser.parseEpochDay(new StringBuilder("x 2024-03-07 y"), 2, 12));
+    }
+
+    @Test
+    void testRejectsMalformedAndImpossibleDates() {
+        String[] invalid = {
+                null, "", "2024", "2024-03", "2024/03/07", "03/07-2024", "03/07/24", "2024-03-07-01",
+                "2024-003-07", "123/07/2024", "2024-13-01", "2023-02-29", "02/30/2024", "31-04-2024",
+                "0000-01-01", "2024-0a-07", " 2024-03-07", "--2024"
+        };
+        for (String text : invalid) {
+            assertEquals(DateParser.INVALID, DateParser.parseEpochDay(text), String.valueOf(text));
+        }
+        assertEquals(LocalDate.of(2024, 2, 29).toEpochDay(), DateParser.parseEpochDay("2024-02-29"));
+        assertEquals(LocalDate.of(2000, 2, 29).toEpochDay(), DateParser.parseEpochDay("29-02-2000"));
+        assertEquals(DateParser.INVALID, DateParser.parseEpochDay("29-02-1900"));
+    }
+
+    @Test
+    void testMatchesLocalDateOverFourCenturies() {
+        for (LocalDate day = LocalDate.of(1800, 1, 1); day.getYear() < 2200; day = day.plusDays(1)) {
+            assertEquals(day.toEpochDay(), DateParser.toEpochDay(day.getYear(), day.getMonthValue(), day.getDayOfMonth()));
+        }
+    }
+
+    @Test
+    void testMatchesThePreviousParser() {
+        for (int i = 0; i < 3_000; i++) {
+            LocalDate day = LocalDate.of(2020, 1, 1).plusDays(i % 1500);
+            String date = i % 2 == 0
+                    ? day.getMonthValue() + "/" + day.getDayOfMonth() + "/" + day.getYear()
+                    : day.getDayOfMonth() + "-" + day.getMonthValue() + "-" + day.getYear();
+            assertEquals(legacyParse(date).toEpochDay(), DateParser.parseEpochDay(date), date);
+        }
+    }
+
+    // What Analytics did per row before DateParser: validate, rewrite as ISO, parse again
+    private static LocalDate legacyParse(String date) {
+        if (!SLASH_DATE.matcher(date).matches() && !DASH_DATE.matcher(date).matches()) {
+            throw new IllegalArgumentException(date);
+        }
+        String[] dateParts;
+        String iso = date;
+        if (date.contains("/")) {
+            dateParts = date.split("/");
+            iso = dateParts[2] + "-" + String.format("%02d", Integer.parseInt(dateParts[0])) + "-" +
+                    String.format("%02d", Integer.parseInt(dateParts[1]));
+        } else if (date.contains("-")) {
+            dateParts = date.split("-");
+            iso = dateParts[2] + "-" + String.format("%02d", Integer.parseInt(dateParts[1])) + "-" +
+                    String.format("%02d", Integer.parseInt(dateParts[0]));
+        }
+        return LocalDate.parse(iso);
+    }
+}
@@ -0,0 +1,69 @@
+package unitTests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import events.DomainEvent;
+import events.EventBus;
+import events.QuizCompleted;
+import events.TransactionAdded;
+
+class EventBusTest {
+
+    @Test
+    void testDeliversOnlyMatchingTypes() {
+        EventBus bus = new EventBus();
+        List<DomainEvent> quizEvents = new ArrayList<>();
+        List<DomainEvent> allEvents = new ArrayList<>();
+        bus.subscribe(QuizCompleted.class, quizEvents::add);
+        bus.subscribe(DomainEvent.class, allEvents::add);
+
+        bus.publish(new TransactionAdded(1, false, 20.0));
+        bus.publish(new QuizCompleted(1, 80));
+
+        assertEquals(1, quizEvents.size());
+        assertEquals(2, allEvents.size());
+    }
+
+    @Test
+    void testClosedSubscriptionStopsDelivery() {
+        EventBus bus = new EventBus();
+        List<DomainEvent> received = new ArrayList<>();
+        EventBus.Subscription subscription = bus.subscribe(DomainEvent.class, received::add);
+
+        bus.publish(new QuizCompleted(1, 80));
+        subscription.close();
+        bus.publish(new QuizCompleted(1, 90));
+
+        assertEquals(1, received.size());
+    }
+
+    @Test
+    void testFailingHandlerDoesNotStopOthers() {
+        EventBus bus = new EventBus();
+        List<DomainEvent> received = new ArrayList<>();
+        bus.subscribe(DomainEvent.class, event -> {
+            throw new IllegalStateException("boom");
+        });
+        bus.subscribe(DomainEvent.class, received::add);
+
+        bus.publish(new TransactionAdded(1, true, 100.0));
+
+        assertEquals(1, received.size());
+    }
+
+    @Test
+    void testCountsPublishedEventsByType() {
+        EventBus bus = new EventBus();
+        bus.publish(new TransactionAdded(1, true, 100.0));
+        bus.publish(new TransactionAdded(2, false, 5.0));
+        bus.publish(new QuizCompleted(1, 70));
+
+        assertEquals(2L, bus.getPublishedCounts().get("TransactionAdded"));
+        assertEquals(1L, bus.getPublishedCounts().get("QuizCompleted"));
+    }
+}
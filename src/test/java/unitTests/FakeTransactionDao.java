@@ -0,0 +1,76 @@
+package unitTests;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import database.dao.TransactionPage;
+import model.Transaction;
+
+// In-memory TransactionDao shared by the controller and cache tests.
+class FakeTransactionDao implements database.dao.TransactionDao {
+    private List<Transaction> transactions = new ArrayList<>();
+
+    public void addTransaction(Transaction t) {
+        transactions.add(t);
+    }
+
+    @Override
+    public List<Transaction> getTransactionsByUserId(int userId) {
+        // For simplicity, return all transactions regardless of user.
+        return transactions;
+    }
+
+    @Override
+    public void forEachTransaction(int userId, Consumer<Transaction> action) {
+        transactions.forEach(action);
+    }
+
+    @Override
+    public TransactionPage getTransactionsPage(int userId, TransactionPage.Cursor after, int pageSize) {
+        return new TransactionPage(transactions, null);
+    }
+
+    @Override
+    public List<Transaction> getTransactionsBetween(int userId, LocalDate from, LocalDate to) {
+        List<Transaction> between = new ArrayList<>();
+        for (Transaction t : transactions) {
+            if (!t.getDate().isBefore(from) && t.getDate().isBefore(to)) {
+                between.add(t);
+            }
+        }
+        return between;
+    }
+
+    @Override
+    public void addTransaction(int userId, LocalDate date, double amount, String description, String type, String category) throws SQLException {
+
+    }
+
+    @Override
+    public int addTransactions(java.util.Collection<Transaction> batch) throws SQLException {
+        transactions.addAll(batch);
+        return batch.size();
+    }
+
+    @Override
+    public boolean updateTransaction(Transaction transaction) throws SQLException {
+        return false;
+    }
+
+    @Override
+    public boolean deleteTransaction(int transactionId) throws SQLException {
+        return false;
+    }
+
+    @Override
+    public int getTransactionCountForUser(int userId) throws SQLException {
+        return 0;
+    }
+
+    @Override
+    public int getTransactionCountForDay(int userId, LocalDate date) throws SQLException {
+        return 0;
+    }
+}
@@ -0,0 +1,140 @@
+package unitTests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import controller.LeaderboardService;
+import database.dao.LeaderboardDao;
+import events.EventBus;
+import events.XpAwarded;
+import model.Leaderboard;
+import model.LeaderboardEntry;
+
+class LeaderboardTest {
+
+    private static final Comparator<int[]> ORDER = Comparator
+            .<int[]>comparingInt(u -> -u[1])
+            .thenComparingInt(u -> -u[2])
+            .thenComparingInt(u -> u[0]);
+
+    @Test
+    void testMatchesSortedListUnderRandomUpdates() {
+        Leaderboard board = new Leaderboard();
+        Map<Integer, int[]> users = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int step = 0; step < 5_000; step++) {
+            int userId = random.nextInt(300);
+            if (random.nextInt(10) == 0) {
+                board.remove(userId);
+                users.remove(userId);
+            } else {
+                int xp = random.nextInt(5_000);
+                int level = (int) Math.floor(Math.sqrt(xp / 100.0));
+                board.put(userId, "user" + userId, level, xp);
+                users.put(userId, new int[]{userId, level, xp});
+            }
+        }
+
+        List<int[]> expected = new ArrayList<>(users.values());
+        expected.sort(ORDER);
+        assertEquals(expected.size(), board.size());
+
+        List<LeaderboardEntry> all = board.top(expected.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i)[0], all.get(i).getUserId());
+            assertEquals(i + 1, all.get(i).getRank());
+            assertEquals(i + 1, board.rank(expected.get(i)[0]));
+        }
+
+        List<LeaderboardEntry> page = board.page(20, 10);
+        assertEquals(10, page.size());
+        assertEquals(expected.get(20)[0], page.get(0).getUserId());
+        assertEquals(21, page.get(0).getRank());
+    }
+
+    @Test
+    void testAroundClampsAtTheTop() {
+        Leaderboard board = new Leaderboard();
+        for (int userId = 1; userId <= 10; userId++) {
+            board.put(userId, "user" + userId, 1, userId * 10);
+        }
+        // user 10 has the most XP, so is ranked first
+        List<LeaderboardEntry> window = board.around(10, 2);
+        assertEquals(3, window.size());
+        assertEquals(1, window.get(0).getRank());
+
+        window = board.around(5, 2);
+        assertEquals(5, window.size());
+        assertEquals(5, window.get(2).getUserId());
+        assertEquals(6, window.get(2).getRank());
+
+        assertTrue(board.around(99, 2).isEmpty());
+        assertEquals(0, board.rank(99));
+    }
+
+    @Test
+    void testServiceWarmsOnceAndFollowsAwards() throws SQLException {
+        int[] fetches = {0};
+        LeaderboardDao dao = new LeaderboardDao() {
+            @Override
+            public List<LeaderboardEntry> fetchLeaderboard() {
+                fetches[0]++;
+                return ranked();
+            }
+
+            private List<LeaderboardEntry> ranked() {
+                List<LeaderboardEntry> entries = new ArrayList<>();
+                entries.add(new LeaderboardEntry(1, 1, "alice", 3, 950));
+                entries.add(new LeaderboardEntry(2, 2, "bob", 2, 500));
+                return entries;
+            }
+
+            @Override
+            public List<LeaderboardEntry> fetchTop(int k) {
+                return ranked().subList(0, k);
+            }
+
+            @Override
+            public List<LeaderboardEntry> fetchPage(LeaderboardEntry after, int limit) {
+                return new ArrayList<>();
+            }
+
+            @Override
+            public List<LeaderboardEntry> fetchAroundUser(int userId, int radius) {
+                return new ArrayList<>();
+            }
+
+            @Override
+            public LeaderboardEntry fetchEntry(int userId) {
+                return new LeaderboardEntry(userId, 0, "carol", 0, 40);
+            }
+        };
+        LeaderboardService service = new LeaderboardService(dao);
+        EventBus bus = new EventBus();
+        service.subscribe(bus);
+
+        // Before warming, reads go to the bounded queries
+        assertEquals("alice", service.getTop(1).get(0).getUserName());
+        service.warm();
+        assertEquals(1, service.getRank(1));
+        bus.publish(new XpAwarded(2, 500, 1000, 3));
+        assertEquals(1, service.getRank(2), "bob overtakes alice with 1000 XP");
+        bus.publish(new XpAwarded(1, 100));
+        assertEquals(1, service.getRank(1), "alice back ahead at 1050 XP");
+        assertEquals(1050, service.getTop(1).get(0).getXp());
+        bus.publish(new XpAwarded(3, 40));
+        assertEquals(3, service.getRank(3));
+        assertEquals(3, service.getPageAfter(null, 10).size());
+        assertEquals(1, fetches[0], "Leaderboard should be read in full only once");
+    }
+}
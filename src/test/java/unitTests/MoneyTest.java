@@ -0,0 +1,59 @@
+package unitTests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.Test;
+
+import model.Money;
+import model.Transaction;
+
+class MoneyTest {
+
+    @Test
+    void testParseCents() {
+        assertEquals(1200, Money.parseCents("12"));
+        assertEquals(1250, Money.parseCents("12.5"));
+        assertEquals(123456, Money.parseCents("1234.56"));
+        assertEquals(-350, Money.parseCents("-3.50"));
+        assertEquals(50, Money.parseCents(".5"));
+        assertEquals(1000, Money.parseCents("9.995"));
+        assertEquals(999, Money.parseCents("9.994"));
+        assertEquals(Money.INVALID, Money.parseCents(""));
+        assertEquals(Money.INVALID, Money.parseCents("-"));
+        assertEquals(Money.INVALID, Money.parseCents("."));
+        assertEquals(Money.INVALID, Money.parseCents("1,000"));
+        assertEquals(Money.INVALID, Money.parseCents("12.5x"));
+        assertEquals(Money.INVALID, Money.parseCents("99999999999999999999"));
+    }
+
+    @Test
+    void testFormatAndDecimalRoundTrip() {
+        assertEquals("0.00", Money.format(0));
+        assertEquals("0.05", Money.format(5));
+        assertEquals("-0.05", Money.format(-5));
+        assertEquals("1234.56", Money.format(123456));
+        assertEquals(new BigDecimal("1234.56"), Money.toDecimal(123456));
+        assertEquals(123456, Money.fromDecimal(new BigDecimal("1234.56")));
+        assertEquals(0, Money.fromDecimal(null));
+        for (long cents = -100_000; cents <= 100_000; cents += 7) {
+            assertEquals(cents, Money.toCents(Money.toDouble(cents)));
+        }
+        assertThrows(IllegalArgumentException.class, () -> Money.toCents(Double.NaN));
+    }
+
+    @Test
+    void testCentTotalsDoNotDrift() {
+        double doubleTotal = 0;
+        long centTotal = 0;
+        for (int i = 0; i < 1_000; i++) {
+            Transaction t = new Transaction("Coffee", 0.1, null, false, "Food");
+            doubleTotal += t.getAmount();
+            centTotal += t.getAmountCents();
+        }
+        assertNotEquals(100.0, doubleTotal);
+        assertEquals(10_000, centTotal);
+        assertEquals("100.00", Money.format(centTotal));
+    }
+}
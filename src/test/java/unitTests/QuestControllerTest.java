@@ -2,12 +2,13 @@ package unitTests;
 
 import controller.QuestController;
 import database.dao.QuestDao;
-import database.dao.TransactionDao;
 import model.Quest;
-import model.Transaction;
+import model.QuestRule;
+import model.UserMetricsSnapshot;
 import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.sql.SQLException;
 import java.time.LocalDate;
 import java.util.*;
@@ -125,6 +126,13 @@ class FakeExperienceDao implements database.dao.ExperienceDao {
         return true;
     }
 
+    @Override
+    public database.dao.XpAward awardXp(int userId, int xpAmount) throws SQLException {
+        int before = userXP.getOrDefault(userId, 0);
+        addUserXP(userId, xpAmount);
+        return new database.dao.XpAward(before + xpAmount, (before + xpAmount) / 100, before / 100);
+    }
+
     @Override
     public int[] getUserExperience(int userId) throws SQLException {
         int xp = userXP.getOrDefault(userId, 0);
@@ -139,63 +147,23 @@ class FakeExperienceDao implements database.dao.ExperienceDao {
     }
 }
 
-// Fake implementation of the production database.dao.TransactionDao interface.
-class FakeTransactionDaoTest implements database.dao.TransactionDao {
-    private int transactionCount;
-
-    public FakeTransactionDaoTest(int count) {
-        this.transactionCount = count;
-    }
-
-    @Override
-    public List<Transaction> getTransactionsByUserId(int userId) throws SQLException {
-        return null;
-    }
-
-    @Override
-    public void addTransaction(int userId, LocalDate date, double amount, String description, String type, String category) throws SQLException {
-
-    }
-
-    @Override
-    public boolean updateTransaction(Transaction transaction) throws SQLException {
-        return false;
-    }
-
-    @Override
-    public boolean deleteTransaction(int transactionId) throws SQLException {
-        return false;
-    }
-
-    @Override
-    public int getTransactionCountForUser(int userId) throws SQLException {
-        return transactionCount;
-    }
-
-    @Override
-    public int getTransactionCountForDay(int userId, LocalDate date) throws SQLException {
-        return transactionCount;
-    }
-}
-
-// Fake implementation of the production database.dao.Budget interface.
-class FakeBudgetDao implements database.dao.Budget {
-    private double income;
-    private double expenses;
+// Fake implementation of the production database.dao.UserMetricsDao interface.
+class FakeUserMetricsDao implements database.dao.UserMetricsDao {
+    private final UserMetricsSnapshot snapshot;
+    private int loads;
 
-    public FakeBudgetDao(double income, double expenses) {
-        this.income = income;
-        this.expenses = expenses;
+    public FakeUserMetricsDao(UserMetricsSnapshot snapshot) {
+        this.snapshot = snapshot;
     }
 
     @Override
-    public double getTotalIncomeForMonth(int userId) throws SQLException {
-        return income;
+    public UserMetricsSnapshot loadSnapshot(int userId) throws SQLException {
+        loads++;
+        return snapshot;
     }
 
-    @Override
-    public double getTotalExpensesForMonth(int userId) throws SQLException {
-        return expenses;
+    public int getLoads() {
+        return loads;
     }
 }
 
@@ -217,8 +185,8 @@ public class QuestControllerTest {
         // Inject fake implementations that implement the exact production interfaces.
         setPrivateField(controller, "QuestDao", new FakeQuestDao());
         setPrivateField(controller, "experienceDao", new FakeExperienceDao());
-        setPrivateField(controller, "transactionDao", new FakeTransactionDaoTest(1)); // Simulate one transaction.
-        setPrivateField(controller, "budgetDao", new FakeBudgetDao(1000.0, 500.0));
+        // Simulate one transaction today, 1000 income and 500 expenses this month.
+        setPrivateField(controller, "userMetricsDao", new FakeUserMetricsDao(new UserMetricsSnapshot(1, 1, 1000.0, 500.0, 0, 1)));
     }
 
     @Test
@@ -278,6 +246,49 @@ public class QuestControllerTest {
         assertEquals(100, progress, "Progress should be 100 when a transaction exists");
     }
 
+    @Test
+    public void testEvaluationPassLoadsMetricsOnce() throws Exception {
+        QuestRule[] rules = {
+                new QuestRule(QuestRule.Kind.DAILY_LOG, 1),
+                new QuestRule(QuestRule.Kind.TRANSACTION_COUNT, 3),
+                new QuestRule(QuestRule.Kind.UNDER_BUDGET, 0),
+                new QuestRule(QuestRule.Kind.SAVE_AMOUNT, 5000),
+                new QuestRule(QuestRule.Kind.COMPLETE_QUIZZES, 3),
+                new QuestRule(QuestRule.Kind.REACH_LEVEL, 5)
+        };
+        for (QuestRule rule : rules) {
+            Quest quest = new Quest(0, rule.toString(), "Query count", "DAILY", 10, rule.getTarget(), false,
+                    LocalDate.now().plusDays(1), TEST_USER_ID);
+            quest.setRule(rule);
+            controller.createQuest(quest);
+        }
+        FakeUserMetricsDao metricsDao = (FakeUserMetricsDao) getPrivateField(controller, "userMetricsDao");
+
+        controller.checkAndCompleteQuests(TEST_USER_ID);
+        assertEquals(1, metricsDao.getLoads(), "All six rules should share one snapshot query");
+
+        controller.checkAndCompleteQuests(TEST_USER_ID);
+        assertEquals(2, metricsDao.getLoads(), "Each pass should load the snapshot exactly once");
+    }
+
+    @Test
+    public void testUnaffectedQuestsLoadNoMetrics() throws Exception {
+        QuestRule rule = new QuestRule(QuestRule.Kind.REACH_LEVEL, 5);
+        Quest quest = new Quest(0, rule.toString(), "Query count", "DAILY", 10, rule.getTarget(), false,
+                LocalDate.now().plusDays(1), TEST_USER_ID);
+        quest.setRule(rule);
+        controller.createQuest(quest);
+        FakeUserMetricsDao metricsDao = (FakeUserMetricsDao) getPrivateField(controller, "userMetricsDao");
+        Method check = QuestController.class.getDeclaredMethod("checkAndCompleteQuests", int.class, Set.class);
+        check.setAccessible(true);
+
+        assertEquals(0, check.invoke(controller, TEST_USER_ID, EnumSet.of(QuestRule.Kind.COMPLETE_QUIZZES)));
+        assertEquals(0, metricsDao.getLoads(), "No affected quest, so no snapshot query");
+
+        assertEquals(1, check.invoke(controller, TEST_USER_ID, EnumSet.of(QuestRule.Kind.REACH_LEVEL)));
+        assertEquals(1, metricsDao.getLoads());
+    }
+
     // Helper method to get a private field's value.
     private static Object getPrivateField(Object target, String fieldName) throws Exception {
         Field f = target.getClass().getDeclaredField(fieldName);
@@ -0,0 +1,78 @@
+package unitTests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import controller.QuestRuleEngine;
+import model.QuestMetrics;
+import model.QuestRule;
+
+class QuestRuleTest {
+
+    private static class FixedMetrics implements QuestMetrics {
+        @Override
+        public int getTransactionCount() {
+            return 2;
+        }
+
+        @Override
+        public int getTransactionCountToday() {
+            return 0;
+        }
+
+        @Override
+        public double getMonthlyIncome() {
+            return 1000.0;
+        }
+
+        @Override
+        public double getMonthlyExpenses() {
+            return 250.0;
+        }
+
+        @Override
+        public int getQuizCount() {
+            return 1;
+        }
+
+        @Override
+        public int getLevel() {
+            return 4;
+        }
+    }
+
+    @Test
+    void testParseRoundTrip() {
+        QuestRule rule = new QuestRule(QuestRule.Kind.TRANSACTION_COUNT, 3);
+        assertEquals(rule, QuestRule.parse(rule.toString()));
+        assertEquals(QuestRule.Kind.UNDER_BUDGET, QuestRule.parse("UNDER_BUDGET").getKind());
+        assertThrows(IllegalArgumentException.class, () -> QuestRule.parse("NOT_A_RULE"));
+    }
+
+    @Test
+    void testInferFromLegacyTitles() {
+        assertEquals(QuestRule.Kind.TRANSACTION_COUNT,
+                QuestRule.infer("Transaction Master", "Record at least 3 transactions", 3).getKind());
+        assertEquals(QuestRule.Kind.COMPLETE_QUIZZES,
+                QuestRule.infer("Complete 3 quizzes", "Finish at least 3 financial quizzes", 3).getKind());
+        assertEquals(QuestRule.Kind.OTHER, QuestRule.infer("Mystery", null, 0).getKind());
+    }
+
+    @Test
+    void testEvaluators() throws Exception {
+        FixedMetrics metrics = new FixedMetrics();
+        assertEquals(66, QuestRuleEngine.compile(new QuestRule(QuestRule.Kind.TRANSACTION_COUNT, 3)).progress(metrics));
+        assertEquals(75, QuestRuleEngine.compile(new QuestRule(QuestRule.Kind.UNDER_BUDGET)).progress(metrics));
+        assertEquals(100, QuestRuleEngine.compile(new QuestRule(QuestRule.Kind.SAVE_AMOUNT, 50)).progress(metrics));
+        assertEquals(80, QuestRuleEngine.compile(new QuestRule(QuestRule.Kind.REACH_LEVEL, 5)).progress(metrics));
+        assertEquals(0, QuestRuleEngine.compile(new QuestRule(QuestRule.Kind.DAILY_LOG)).progress(metrics));
+    }
+
+    @Test
+    void testRulesCompileOnce() {
+        QuestRuleEngine.Evaluator first = QuestRuleEngine.compile(new QuestRule(QuestRule.Kind.REACH_LEVEL, 5));
+        QuestRuleEngine.Evaluator second = QuestRuleEngine.compile(QuestRule.parse("REACH_LEVEL:5.0"));
+        assertSame(first, second);
+    }
+}
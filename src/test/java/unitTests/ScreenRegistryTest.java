@@ -0,0 +1,111 @@
+package unitTests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.swing.JComponent;
+import javax.swing.JPanel;
+import javax.swing.SwingUtilities;
+
+import org.junit.jupiter.api.Test;
+
+import events.DomainEvent;
+import events.EventBus;
+import view.ScreenRegistry;
+
+class ScreenRegistryTest {
+    private static final int USER_ID = 4242;
+
+    static class DataChanged extends DomainEvent {
+        DataChanged(int userId) {
+            super(userId);
+        }
+    }
+
+    static class FakeScreen extends JPanel implements ScreenRegistry.Refreshable {
+        int refreshes;
+
+        @Override
+        public void refresh() {
+            refreshes++;
+        }
+    }
+
+    private final Map<String, Integer> builds = new HashMap<>();
+
+    private ScreenRegistry.ScreenFactory counting(String name) {
+        return () -> {
+            builds.merge(name, 1, Integer::sum);
+            return new FakeScreen();
+        };
+    }
+
+    @Test
+    void testScreensAreBuiltOnceAndEvictedLeastRecentlyViewedFirst() throws Exception {
+        SwingUtilities.invokeAndWait(() -> {
+            ScreenRegistry screens = new ScreenRegistry(USER_ID);
+            for (String name : new String[]{"A", "B", "C", "D", "E"}) {
+                screens.register(name, counting(name));
+            }
+            try {
+                JComponent a = screens.show("A");
+                assertSame(a, screens.show("A"));
+                assertNull(screens.show("Dashboard"));
+                screens.show("B");
+                screens.show("C");
+                screens.show("D");
+                screens.show("A");
+                // Over the default limit of four: B was viewed least recently
+                screens.show("E");
+                screens.show("A");
+                screens.show("B");
+            } catch (Exception e) {
+                fail(e);
+            } finally {
+                screens.close();
+            }
+            assertEquals(1, builds.get("A"));
+            assertEquals(2, builds.get("B"));
+            assertEquals(1, builds.get("E"));
+        });
+    }
+
+    @Test
+    void testHiddenScreensRefreshOnNextView() throws Exception {
+        FakeScreen[] goals = new FakeScreen[1];
+        ScreenRegistry[] screens = new ScreenRegistry[1];
+        SwingUtilities.invokeAndWait(() -> {
+            screens[0] = new ScreenRegistry(USER_ID);
+            screens[0].register("Goals", () -> goals[0] = new FakeScreen(), DataChanged.class);
+            screens[0].register("Tips", FakeScreen::new);
+            try {
+                screens[0].show("Goals");
+                screens[0].show("Tips");
+            } catch (Exception e) {
+                fail(e);
+            }
+        });
+
+        EventBus.getInstance().publish(new DataChanged(USER_ID));
+        EventBus.getInstance().publish(new DataChanged(USER_ID + 1));
+        SwingUtilities.invokeAndWait(() -> {
+            assertEquals(0, goals[0].refreshes);
+            try {
+                screens[0].show("Goals");
+            } catch (Exception e) {
+                fail(e);
+            }
+            assertEquals(1, goals[0].refreshes);
+        });
+
+        // While visible it refreshes as soon as the event arrives
+        EventBus.getInstance().publish(new DataChanged(USER_ID));
+        SwingUtilities.invokeAndWait(() -> { });
+        SwingUtilities.invokeAndWait(() -> {
+            assertEquals(2, goals[0].refreshes);
+            screens[0].close();
+        });
+    }
+}
@@ -0,0 +1,164 @@
+package unitTests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import controller.StatementImporter;
+import database.dao.TransactionDaoImpl;
+import model.Transaction;
+
+class StatementImporterTest {
+    private static final int ROWS = 20_000;
+
+    private File file;
+    private ForkJoinPool pool;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        file = File.createTempFile("statement", ".csv");
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        file.delete();
+        pool.shutdown();
+    }
+
+    @Test
+    void testImportsEveryRowInFileOrder() throws IOException, SQLException {
+        try (PrintWriter out = new PrintWriter(file, StandardCharsets.UTF_8)) {
+            out.println("date,description,expense,income,balance,category");
+            for (int i = 0; i < ROWS; i++) {
+                LocalDate day = LocalDate.of(2024, 1, 1).plusDays(i % 365);
+                String date;
+                switch (i % 3) {
+                    case 0:
+                        date = day.toString();
+                        break;
+                    case 1:
+                        date = day.getMonthValue() + "/" + day.getDayOfMonth() + "/" + day.getYear();
+                        break;
+                    default:
+                        date = day.getDayOfMonth() + "-" + day.getMonthValue() + "-" + day.getYear();
+                        break;
+                }
+                if (i % 2 == 0) {
+                    out.println(date + ",Row " + i + " grocery store,12.50,,100.00,");
+                } else {
+                    out.println(date + ",\"Row " + i + ", salary\",,\"1,000.00\",100.00,Income");
+                }
+            }
+            out.println("13/45/2024,Bad date,1.00,,,");
+            out.println("2024-02-01,Bad amount,abc,,,");
+            out.println("2024-02-01,Balance only,,,5.00,");
+        }
+
+        List<Transaction> written = new ArrayList<>();
+        long[] lastProgress = new long[3];
+        StatementImporter importer = new StatementImporter(7, written::addAll, pool);
+        StatementImporter.Report report = importer.importFile(file, (bytes, total, rows) -> {
+            lastProgress[0] = bytes;
+            lastProgress[1] = total;
+            lastProgress[2] = rows;
+        });
+
+        assertEquals(ROWS, report.getRowsImported());
+        assertEquals(2, report.getRowsRejected());
+        assertEquals(1, report.getRowsSkipped());
+        assertEquals(2, report.getErrors().size());
+        assertTrue(report.getErrors().get(0).startsWith("Line " + (ROWS + 2) + ":"), report.getErrors().get(0));
+        assertEquals(ROWS, lastProgress[2]);
+        assertEquals(lastProgress[1], lastProgress[0], "Progress should reach the file size");
+
+        assertEquals(ROWS, written.size());
+        for (int i = 0; i < ROWS; i += 997) {
+            Transaction transaction = written.get(i);
+            assertTrue(transaction.getDescription().matches("Row " + i + "\\D.*"), transaction.getDescription());
+            assertEquals(LocalDate.of(2024, 1, 1).plusDays(i % 365), transaction.getDate());
+            assertEquals(7, transaction.getUserId());
+        }
+        assertFalse(written.get(0).isIncome());
+        assertEquals("Food & Dining", written.get(0).getCategory());
+        assertTrue(written.get(1).isIncome());
+        assertEquals(1000.0, written.get(1).getAmount());
+        assertEquals("Income", written.get(1).getCategory());
+    }
+
+    @Test
+    void testImportEarnsTransactionXpInOneAward() throws IOException, SQLException {
+        try (PrintWriter out = new PrintWriter(file, StandardCharsets.UTF_8)) {
+            out.println("date,description,expense,income");
+            out.println("2024-03-01,Coffee,3.50,");
+            out.println("2024-03-02,Salary,,2000.00");
+            out.println("2024-03-03,Bad amount,abc,");
+        }
+
+        List<int[]> awards = new ArrayList<>();
+        StatementImporter importer = new StatementImporter(7, rows -> { }, pool, null,
+                (userId, xp) -> awards.add(new int[]{userId, xp}));
+        StatementImporter.Report report = importer.importFile(file, null);
+
+        // 20 XP per imported row, as when logging by hand; the rejected row earns nothing
+        assertEquals(1, awards.size());
+        assertArrayEquals(new int[]{7, 40}, awards.get(0));
+        assertEquals(40, report.getXpAwarded());
+    }
+
+    @Test
+    void testLargeImportIsWrittenWithCopy() throws IOException {
+        try (PrintWriter out = new PrintWriter(file, StandardCharsets.UTF_8)) {
+            out.println("date,description,expense,income");
+            for (int i = 0; i < TransactionDaoImpl.COPY_THRESHOLD; i++) {
+                out.println("2024-03-01,Row " + i + ",1.00,");
+            }
+        }
+
+        // Takes the batched INSERT path if asked to prepare a statement, the COPY path if asked for the driver API
+        List<String> paths = new ArrayList<>();
+        Connection connection = (Connection) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "unwrap":
+                            paths.add("copy");
+                            throw new SQLException("COPY needs a PostgreSQL connection");
+                        case "prepareStatement":
+                            paths.add("insert");
+                            return Proxy.newProxyInstance(getClass().getClassLoader(),
+                                    new Class<?>[]{PreparedStatement.class},
+                                    (statement, call, callArgs) -> call.getName().equals("executeBatch") ? new int[0] : null);
+                        case "getAutoCommit":
+                            return true;
+                        default:
+                            return null;
+                    }
+                });
+        List<Integer> batches = new ArrayList<>();
+        TransactionDaoImpl dao = new TransactionDaoImpl(connection);
+        StatementImporter importer = new StatementImporter(7, rows -> {
+            batches.add(rows.size());
+            dao.addTransactions(rows);
+        }, pool);
+
+        SQLException error = assertThrows(SQLException.class, () -> importer.importFile(file, null));
+        assertEquals("COPY needs a PostgreSQL connection", error.getMessage());
+        assertEquals(List.of(TransactionDaoImpl.COPY_THRESHOLD), batches);
+        assertEquals(List.of("copy"), paths);
+    }
+}
@@ -0,0 +1,146 @@
+package unitTests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+
+import database.TransactionCache;
+import model.AnalyticsSummary;
+import model.Transaction;
+import model.TransactionColumns;
+
+class TransactionColumnsTest {
+    private static final LocalDate DAY = LocalDate.of(2024, 5, 10);
+
+    private static Transaction row(int id, int daysAgo, double amount, String category, boolean income) {
+        return new Transaction(id, 1, Timestamp.valueOf(DAY.minusDays(daysAgo).atStartOfDay()),
+                "Row " + id, category, income ? "income" : "expense", amount);
+    }
+
+    private static List<Transaction> sample() {
+        List<Transaction> rows = new ArrayList<>();
+        String[] categories = {"Food", "Housing", "Income", "Transport"};
+        for (int i = 1; i <= 500; i++) {
+            rows.add(row(i, i % 90, (i % 37) + 0.25, categories[i % categories.length], i % 5 == 0));
+        }
+        return rows;
+    }
+
+    @Test
+    void testSummaryMatchesObjectAggregation() {
+        TransactionColumns columns = new TransactionColumns();
+        AnalyticsSummary expected = new AnalyticsSummary();
+        for (Transaction t : sample()) {
+            columns.add(t);
+            expected.add(t);
+        }
+        AnalyticsSummary actual = columns.summarize();
+
+        assertEquals(expected.getTotalIncomeCents(), actual.getTotalIncomeCents());
+        assertEquals(expected.getTotalExpenseCents(), actual.getTotalExpenseCents());
+        assertEquals(expected.getIncomeByDate().keySet(), actual.getIncomeByDate().keySet());
+        assertEquals(expected.getExpensesByCategory().keySet(), actual.getExpensesByCategory().keySet());
+        for (LocalDate day : expected.getExpenseByDate().keySet()) {
+            assertEquals(expected.getExpenseByDate().get(day), actual.getExpenseByDate().get(day), 0.001);
+        }
+        assertEquals(expected.getTotalIncomeCents() - expected.getTotalExpenseCents(), columns.balanceCents());
+    }
+
+    @Test
+    void testRangeAndCategorySums() {
+        TransactionColumns columns = new TransactionColumns();
+        long expense = 0;
+        long foodIncome = 0;
+        for (Transaction t : sample()) {
+            columns.add(t);
+            boolean inRange = !t.getDate().isBefore(DAY.minusDays(29)) && !t.getDate().isAfter(DAY);
+            if (inRange && !t.isIncome()) {
+                expense += t.getAmountCents();
+            }
+            if (inRange && t.isIncome() && t.getCategory().equals("Food")) {
+                foodIncome += t.getAmountCents();
+            }
+        }
+        assertEquals(expense, columns.sumCents(false, DAY.minusDays(29), DAY.plusDays(1)));
+        assertEquals(foodIncome, columns.sumCents(true, "Food", DAY.minusDays(29), DAY.plusDays(1)));
+        assertEquals(0, columns.sumCents(true, "Unknown", DAY.minusDays(29), DAY.plusDays(1)));
+    }
+
+    @Test
+    void testUpdatesAndRemovesById() {
+        TransactionColumns columns = new TransactionColumns();
+        columns.add(row(1, 0, 100, "Income", true));
+        columns.add(row(2, 0, 40, "Food", false));
+        columns.add(row(3, 0, 10, "Food", false));
+        assertEquals(5000, columns.balanceCents());
+
+        assertTrue(columns.update(row(2, 0, 60, "Housing", false)));
+        assertEquals(3000, columns.balanceCents());
+        assertEquals(6000, columns.sumCents(false, "Housing", DAY, DAY.plusDays(1)));
+
+        assertTrue(columns.remove(1));
+        assertFalse(columns.remove(1));
+        assertEquals(2, columns.size());
+        assertEquals(-7000, columns.balanceCents());
+
+        assertTrue(columns.updateCategory(3, "Housing"));
+        assertEquals(7000, columns.sumCents(false, "Housing", DAY, DAY.plusDays(1)));
+    }
+
+    @Test
+    void testCacheWritesThroughAndReloadsWhenUnsure() throws SQLException {
+        FakeTransactionDao dao = new FakeTransactionDao();
+        dao.addTransaction(row(1, 0, 100, "Income", true));
+        TransactionCache cache = new TransactionCache(dao);
+        TransactionColumns loaded = cache.columnsFor(1);
+        assertEquals(10000, loaded.balanceCents());
+
+        // Added without an id: applied in place
+        dao.addTransaction(row(7, 0, 30, "Food", false));
+        cache.transactionAdded(1, DAY, 30, "Food", false);
+        assertSame(loaded, cache.columnsFor(1));
+        assertEquals(7000, cache.columnsFor(1).balanceCents());
+
+        // Deleting id 7 cannot be matched, so the columns are reloaded from the DAO
+        cache.transactionDeleted(7);
+        assertNotSame(loaded, cache.columnsFor(1));
+        assertEquals(7000, cache.columnsFor(1).balanceCents());
+    }
+
+    @Test
+    void testCacheKeepsTheUsersReadMostRecently() throws SQLException {
+        Map<Integer, Integer> loads = new HashMap<>();
+        FakeTransactionDao dao = new FakeTransactionDao() {
+            @Override
+            public void forEachTransaction(int userId, Consumer<Transaction> action) {
+                loads.merge(userId, 1, Integer::sum);
+                super.forEachTransaction(userId, action);
+            }
+        };
+        TransactionCache cache = new TransactionCache(dao);
+        for (int user = 1; user <= 8; user++) {
+            cache.columnsFor(user);
+        }
+        cache.columnsFor(1);
+        // Over the default limit of eight: user 2 was read least recently
+        cache.columnsFor(9);
+        cache.columnsFor(1);
+        cache.columnsFor(2);
+        assertEquals(1, loads.get(1));
+        assertEquals(2, loads.get(2));
+
+        // As on login and logout
+        cache.invalidate(1);
+        cache.columnsFor(1);
+        assertEquals(2, loads.get(1));
+    }
+}
@@ -0,0 +1,66 @@
+package unitTests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.EventQueue;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javax.swing.SwingUtilities;
+
+import org.junit.jupiter.api.Test;
+
+import view.UiTaskExecutor;
+
+class UiTaskExecutorTest {
+
+    @Test
+    void testLatestTaskSupersedesEarlierOne() throws Exception {
+        UiTaskExecutor executor = UiTaskExecutor.getInstance();
+        Object owner = new Object();
+        List<String> delivered = new CopyOnWriteArrayList<>();
+        CountDownLatch slowStarted = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+
+        UiTaskExecutor.Task<String> slow = executor.submitLatest(owner, "test-latest", () -> {
+            slowStarted.countDown();
+            Thread.sleep(10_000);
+            return "slow";
+        }, delivered::add);
+        assertTrue(slowStarted.await(5, TimeUnit.SECONDS));
+
+        executor.submitLatest(owner, "test-latest", () -> "fast", result -> {
+            assertTrue(EventQueue.isDispatchThread());
+            delivered.add(result);
+            done.countDown();
+        });
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertTrue(slow.isCancelled());
+        // Flush anything the cancelled task may still have queued on the EDT
+        SwingUtilities.invokeAndWait(() -> { });
+        assertEquals(List.of("fast"), delivered);
+        assertEquals(1, executor.getStats().get("test-latest").getCompleted());
+    }
+
+    @Test
+    void testFailureReachesHandler() throws Exception {
+        CountDownLatch done = new CountDownLatch(1);
+        List<Exception> failures = new CopyOnWriteArrayList<>();
+
+        UiTaskExecutor.getInstance().submit("test-failure", () -> {
+            throw new IllegalStateException("boom");
+        }, result -> fail("should not succeed"), e -> {
+            failures.add(e);
+            done.countDown();
+        });
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals("boom", failures.get(0).getMessage());
+        UiTaskExecutor.TaskStats stats = UiTaskExecutor.getInstance().getStats().get("test-failure");
+        assertEquals(1, stats.getFailed());
+        assertEquals(0, stats.getCompleted());
+    }
+}